@@ -0,0 +1,172 @@
+package com.deliverytech.delivery_api.benchmark;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.deliverytech.delivery_api.DeliveryApiApplication;
+import com.deliverytech.delivery_api.entity.Pedido.StatusPedido;
+import com.deliverytech.delivery_api.service.AgregadoPedidoService;
+import com.deliverytech.delivery_api.service.AutocompleteService;
+import com.deliverytech.delivery_api.service.BuscaService;
+import com.deliverytech.delivery_api.service.HorarioService;
+import com.deliverytech.delivery_api.service.PainelPendentesService;
+import com.deliverytech.delivery_api.service.ProximidadeService;
+import com.deliverytech.delivery_api.service.RankingService;
+
+/**
+ * Contexto Spring compartilhado pelos benchmarks, com banco H2 populado.
+ * Os volumes podem ser reduzidos na linha de comando, ex: -p pedidos=100000
+ */
+@State(Scope.Benchmark)
+public class ContextoBenchmark {
+
+    private static final String[] CATEGORIAS = {"Italiana", "Japonesa", "Brasileira", "Hamburguer", "Árabe", "Vegana"};
+    private static final int PRODUTOS_POR_RESTAURANTE = 10;
+    private static final int TAMANHO_LOTE = 10_000;
+    private static final int ALOCACAO_SEQUENCIA_PEDIDOS = 50;
+
+    @Param("10000")
+    public int restaurantes;
+
+    @Param("100000")
+    public int clientes;
+
+    @Param("1000000")
+    public int pedidos;
+
+    public ConfigurableApplicationContext contexto;
+
+    private final LocalDateTime agora = LocalDateTime.now();
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        // Passadas como argumentos de linha de comando: properties() do builder só define
+        // valores padrão, que o application.properties sobrescreveria (ex: show-sql=true)
+        Stream<String> propriedades = Stream.concat(Stream.of(
+                "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                "spring.jpa.show-sql=false",
+                "spring.devtools.restart.enabled=false",
+                "delivery.outbox.arquivo=target/benchmark/eventos-pedido.ndjson",
+                "logging.level.root=WARN",
+                "logging.level.org.springframework.web=WARN"
+            ), Stream.of(propriedadesAdicionais()));
+        contexto = new SpringApplicationBuilder(DeliveryApiApplication.class)
+            .web(tipoAplicacao())
+            .run(propriedades.map(propriedade -> "--" + propriedade).toArray(String[]::new));
+
+        JdbcTemplate jdbcTemplate = contexto.getBean(JdbcTemplate.class);
+        SplittableRandom random = new SplittableRandom(42);
+        popularRestaurantes(jdbcTemplate, random);
+        popularClientes(jdbcTemplate);
+        popularProdutos(jdbcTemplate, random);
+        popularPedidos(jdbcTemplate, random);
+        ajustarSequenciaPedidos(jdbcTemplate);
+        contexto.getBean(AgregadoPedidoService.class).reconstruir();
+        contexto.getBean(PainelPendentesService.class).carregar();
+        contexto.getBean(BuscaService.class).carregar();
+        contexto.getBean(AutocompleteService.class).carregar();
+        contexto.getBean(ProximidadeService.class).carregar();
+        contexto.getBean(RankingService.class).carregar();
+        contexto.getBean(HorarioService.class).carregar();
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    public <T> T bean(Class<T> tipo) {
+        return contexto.getBean(tipo);
+    }
+
+    // Subclasses que precisam do servidor HTTP sobrescrevem os dois métodos abaixo
+    protected WebApplicationType tipoAplicacao() {
+        return WebApplicationType.NONE;
+    }
+
+    protected String[] propriedadesAdicionais() {
+        return new String[0];
+    }
+
+    private void popularRestaurantes(JdbcTemplate jdbcTemplate, SplittableRandom random) {
+        inserirEmLotes(jdbcTemplate,
+            "INSERT INTO restaurantes (nome, categoria, endereco, telefone, avaliacao, ativo, data_cadastro, horario_funcionamento, versao_catalogo) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)",
+            restaurantes, i -> new Object[] {
+                "Restaurante " + i, CATEGORIAS[i % CATEGORIAS.length], "Rua " + i, "1199" + i,
+                Math.round(random.nextDouble(0, 5) * 10) / 10.0, i % 20 != 0,
+                Timestamp.valueOf(agora), "11:00-23:00"
+            });
+    }
+
+    private void popularClientes(JdbcTemplate jdbcTemplate) {
+        inserirEmLotes(jdbcTemplate,
+            "INSERT INTO clientes (nome, email, telefone, endereco, ativo, data_cadastro) VALUES (?, ?, ?, ?, ?, ?)",
+            clientes, i -> new Object[] {
+                "Cliente " + i, "cliente" + i + "@email.com", "1198" + i, "Avenida " + i, true,
+                Timestamp.valueOf(agora)
+            });
+    }
+
+    private void popularProdutos(JdbcTemplate jdbcTemplate, SplittableRandom random) {
+        inserirEmLotes(jdbcTemplate,
+            "INSERT INTO produtos (nome, descricao, preco, categoria, disponivel, restaurante_id, imagem_url) VALUES (?, ?, ?, ?, ?, ?, ?)",
+            restaurantes * PRODUTOS_POR_RESTAURANTE, i -> new Object[] {
+                "Produto " + i, "Descrição do produto " + i, BigDecimal.valueOf(random.nextInt(500, 15000), 2),
+                CATEGORIAS[i % CATEGORIAS.length], i % 7 != 0, (long) (i / PRODUTOS_POR_RESTAURANTE + 1), null
+            });
+    }
+
+    private void popularPedidos(JdbcTemplate jdbcTemplate, SplittableRandom random) {
+        StatusPedido[] status = StatusPedido.values();
+        inserirEmLotes(jdbcTemplate,
+            "INSERT INTO pedidos (id, cliente_id, restaurante_id, data_pedido, status, valor_total, observacoes, endereco_entrega, data_entrega, versao) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0)",
+            pedidos, i -> {
+                StatusPedido statusPedido = status[random.nextInt(status.length)];
+                LocalDateTime dataPedido = agora.minusMinutes(random.nextInt(365 * 24 * 60));
+                return new Object[] {
+                    (long) i + 1, (long) random.nextInt(clientes) + 1, (long) random.nextInt(restaurantes) + 1,
+                    Timestamp.valueOf(dataPedido), statusPedido.name(), BigDecimal.valueOf(random.nextInt(1000, 30000), 2),
+                    null, "Avenida " + i,
+                    statusPedido == StatusPedido.ENTREGUE ? Timestamp.valueOf(dataPedido.plusMinutes(40)) : null
+                };
+            });
+    }
+
+    // Ids explícitos (1..pedidos) para os benchmarks sortearem pedidos existentes;
+    // a sequência recomeça depois deles, com folga de um bloco de alocação do Hibernate
+    private void ajustarSequenciaPedidos(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("ALTER SEQUENCE pedidos_seq RESTART WITH " + (pedidos + 1 + ALOCACAO_SEQUENCIA_PEDIDOS));
+    }
+
+    private void inserirEmLotes(JdbcTemplate jdbcTemplate, String sql, int total, Linha linha) {
+        List<Object[]> lote = new ArrayList<>(TAMANHO_LOTE);
+        for (int i = 0; i < total; i++) {
+            lote.add(linha.valores(i));
+            if (lote.size() == TAMANHO_LOTE || i == total - 1) {
+                jdbcTemplate.batchUpdate(sql, lote);
+                lote.clear();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Linha {
+        Object[] valores(int indice);
+    }
+}
@@ -0,0 +1,116 @@
+package com.deliverytech.delivery_api.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+
+/**
+ * Compara a vazão HTTP com uma thread de plataforma por requisição (Tomcat padrão, 200 threads)
+ * e com threads virtuais + limite de concorrência no banco.
+ * Cada invocação dispara uma rajada de requisições simultâneas de listagem de pedidos.
+ *
+ * Executar: ./mvnw -Pbenchmark test-compile exec:exec -Djmh.args="-p pedidos=100000 ModeloThreadsBenchmark"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ModeloThreadsBenchmark {
+
+    private static final int REQUISICOES_POR_RAJADA = 2000;
+
+    /**
+     * Aplicação web completa em porta aleatória, com o modo de threads escolhido por parâmetro.
+     */
+    @State(Scope.Benchmark)
+    public static class Servidor extends ContextoBenchmark {
+
+        @Param({"false", "true"})
+        public boolean threadsVirtuais;
+
+        private ExecutorService executorCliente;
+        private HttpClient httpClient;
+        private String urlBase;
+
+        @Setup(Level.Trial)
+        public void iniciarCliente() {
+            executorCliente = Executors.newVirtualThreadPerTaskExecutor();
+            httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(executorCliente)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+            urlBase = "http://localhost:" + contexto.getEnvironment().getProperty("local.server.port");
+        }
+
+        @TearDown(Level.Trial)
+        public void encerrarCliente() {
+            httpClient.close();
+            executorCliente.close();
+        }
+
+        @Override
+        protected WebApplicationType tipoAplicacao() {
+            return WebApplicationType.SERVLET;
+        }
+
+        @Override
+        protected String[] propriedadesAdicionais() {
+            return new String[] {
+                "server.port=0",
+                "spring.threads.virtual.enabled=" + threadsVirtuais,
+                // Sem fila de conexões limitada para não medir recusas do Tomcat
+                "server.tomcat.max-connections=" + (REQUISICOES_POR_RAJADA * 2),
+                "server.tomcat.accept-count=" + REQUISICOES_POR_RAJADA
+            };
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUISICOES_POR_RAJADA)
+    public int listarPedidosPorRestaurante(Servidor servidor) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        CompletableFuture<?>[] respostas = new CompletableFuture<?>[REQUISICOES_POR_RAJADA];
+        for (int i = 0; i < REQUISICOES_POR_RAJADA; i++) {
+            long restauranteId = random.nextInt(servidor.restaurantes) + 1;
+            HttpRequest requisicao = HttpRequest.newBuilder(
+                    URI.create(servidor.urlBase + "/pedidos?restauranteId=" + restauranteId + "&tamanho=20"))
+                .timeout(Duration.ofSeconds(60))
+                .build();
+            respostas[i] = servidor.httpClient.sendAsync(requisicao, HttpResponse.BodyHandlers.discarding());
+        }
+        CompletableFuture.allOf(respostas).join();
+
+        int erros = 0;
+        for (CompletableFuture<?> resposta : respostas) {
+            if (((HttpResponse<?>) resposta.join()).statusCode() >= 400) {
+                erros++;
+            }
+        }
+        return erros;
+    }
+}
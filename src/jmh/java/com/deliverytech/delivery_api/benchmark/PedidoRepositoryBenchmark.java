@@ -0,0 +1,60 @@
+package com.deliverytech.delivery_api.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.deliverytech.delivery_api.dto.ResumoPedidosDTO;
+import com.deliverytech.delivery_api.repository.PedidoRepository;
+import com.deliverytech.delivery_api.service.AgregadoPedidoService;
+
+/**
+ * Benchmarks das consultas de agregação de PedidoRepository,
+ * comparadas com a leitura dos agregados mantidos por AgregadoPedidoService.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PedidoRepositoryBenchmark {
+
+    @Benchmark
+    public BigDecimal calcularTotalVendasByRestaurante(ContextoBenchmark contexto) {
+        long restauranteId = ThreadLocalRandom.current().nextInt(contexto.restaurantes) + 1;
+        return contexto.bean(PedidoRepository.class).calcularTotalVendasByRestaurante(restauranteId);
+    }
+
+    @Benchmark
+    public BigDecimal calcularTotalGastoByCliente(ContextoBenchmark contexto) {
+        long clienteId = ThreadLocalRandom.current().nextInt(contexto.clientes) + 1;
+        return contexto.bean(PedidoRepository.class).calcularTotalGastoByCliente(clienteId);
+    }
+
+    @Benchmark
+    public BigDecimal calcularTotalVendasPorPeriodo(ContextoBenchmark contexto) {
+        LocalDateTime dataFim = LocalDateTime.now().minusDays(ThreadLocalRandom.current().nextInt(300));
+        return contexto.bean(PedidoRepository.class).calcularTotalVendasPorPeriodo(dataFim.minusDays(7), dataFim);
+    }
+
+    @Benchmark
+    public ResumoPedidosDTO buscarResumoRestauranteAgregado(ContextoBenchmark contexto) {
+        long restauranteId = ThreadLocalRandom.current().nextInt(contexto.restaurantes) + 1;
+        return contexto.bean(AgregadoPedidoService.class).buscarResumoRestaurante(restauranteId);
+    }
+
+    @Benchmark
+    public BigDecimal calcularTotalVendasPorPeriodoAgregado(ContextoBenchmark contexto) {
+        LocalDateTime dataFim = LocalDateTime.now().minusDays(ThreadLocalRandom.current().nextInt(300));
+        return contexto.bean(AgregadoPedidoService.class).calcularTotalVendasPorPeriodo(dataFim.minusDays(7), dataFim);
+    }
+}
@@ -0,0 +1,78 @@
+package com.deliverytech.delivery_api.benchmark;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.deliverytech.delivery_api.entity.Pedido;
+import com.deliverytech.delivery_api.entity.Pedido.StatusPedido;
+import com.deliverytech.delivery_api.service.PedidoService;
+
+/**
+ * Benchmarks das operações de escrita de PedidoService.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PedidoServiceBenchmark {
+
+    private static final StatusPedido[] CICLO_STATUS = {
+        StatusPedido.CONFIRMADO, StatusPedido.EM_PREPARACAO, StatusPedido.SAIU_PARA_ENTREGA, StatusPedido.ENTREGUE
+    };
+
+    /**
+     * Pedido da thread avançando pelo ciclo de status; ao ser entregue, outro é criado
+     * fora da medição.
+     */
+    @State(Scope.Thread)
+    public static class CicloPedido {
+
+        long id;
+        int etapa = CICLO_STATUS.length;
+
+        @Setup(Level.Invocation)
+        public void prepararPedido(ContextoBenchmark contexto) {
+            if (etapa == CICLO_STATUS.length) {
+                id = criarPedido(contexto).getId();
+                etapa = 0;
+            }
+        }
+    }
+
+    @Benchmark
+    public Pedido criar(ContextoBenchmark contexto) {
+        return criarPedido(contexto);
+    }
+
+    @Benchmark
+    public Pedido atualizarStatus(ContextoBenchmark contexto, CicloPedido ciclo) {
+        return contexto.bean(PedidoService.class).atualizarStatus(ciclo.id, CICLO_STATUS[ciclo.etapa++]);
+    }
+
+    private static Pedido criarPedido(ContextoBenchmark contexto) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Pedido pedido = new Pedido();
+        pedido.setValorTotal(BigDecimal.valueOf(random.nextInt(1000, 30000), 2));
+        pedido.setEnderecoEntrega("Rua do Benchmark, 1");
+
+        return contexto.bean(PedidoService.class).criar(
+            pedido,
+            (long) random.nextInt(contexto.clientes) + 1,
+            (long) random.nextInt(contexto.restaurantes) + 1
+        );
+    }
+}
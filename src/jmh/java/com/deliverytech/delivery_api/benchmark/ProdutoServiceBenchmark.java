@@ -0,0 +1,33 @@
+package com.deliverytech.delivery_api.benchmark;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.deliverytech.delivery_api.dto.ProdutoResumoDTO;
+import com.deliverytech.delivery_api.service.ProdutoService;
+
+/**
+ * Benchmarks das consultas de cardápio de ProdutoService.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProdutoServiceBenchmark {
+
+    @Benchmark
+    public List<ProdutoResumoDTO> buscarDisponiveisPorRestaurante(ContextoBenchmark contexto) {
+        long restauranteId = ThreadLocalRandom.current().nextInt(contexto.restaurantes) + 1;
+        return contexto.bean(ProdutoService.class).buscarDisponiveisPorRestaurante(restauranteId);
+    }
+}
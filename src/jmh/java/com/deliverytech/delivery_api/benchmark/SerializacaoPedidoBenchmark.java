@@ -0,0 +1,73 @@
+package com.deliverytech.delivery_api.benchmark;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.deliverytech.delivery_api.config.JacksonConfig;
+import com.deliverytech.delivery_api.entity.Cliente;
+import com.deliverytech.delivery_api.entity.Pedido;
+import com.deliverytech.delivery_api.entity.Restaurante;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Benchmark da serialização JSON de um Pedido com cliente e restaurante.
+ * Não depende do banco: sobe apenas a configuração do Jackson da aplicação (JacksonAutoConfiguration,
+ * spring.jackson.* e o Hibernate6Module de JacksonConfig), o mesmo ObjectMapper usado pelo Spring MVC.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializacaoPedidoBenchmark {
+
+    private ConfigurableApplicationContext contexto;
+    private ObjectMapper objectMapper;
+    private Pedido pedido;
+
+    @Setup
+    public void preparar() {
+        contexto = new SpringApplicationBuilder(JacksonAutoConfiguration.class, JacksonConfig.class)
+            .web(WebApplicationType.NONE)
+            .run();
+        objectMapper = contexto.getBean(ObjectMapper.class);
+
+        Cliente cliente = new Cliente("João Silva", "joao@email.com", "11999999999", "Rua A, 123");
+        cliente.setId(1L);
+        Restaurante restaurante = new Restaurante("Pizza Mania", "Italiana", "Rua 1, 100", "11991111111");
+        restaurante.setId(1L);
+        restaurante.setHorarioFuncionamento("18:00-23:00");
+
+        pedido = new Pedido(cliente, restaurante, new BigDecimal("55.90"), "Rua A, 123");
+        pedido.setId(1L);
+        pedido.setObservacoes("Sem cebola");
+    }
+
+    @TearDown
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public byte[] serializarPedido() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(pedido);
+    }
+}
@@ -0,0 +1,116 @@
+package com.deliverytech.delivery_api.benchmark;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.deliverytech.delivery_api.entity.Pedido;
+import com.deliverytech.delivery_api.entity.Pedido.StatusPedido;
+import com.deliverytech.delivery_api.exception.ConflitoException;
+import com.deliverytech.delivery_api.service.PedidoService;
+
+/**
+ * Transições de status sob disputa: várias threads tentam avançar os mesmos pedidos
+ * (como restaurante e entregador ao mesmo tempo), informando status e versão lidos.
+ * Com poucos pedidos disputados, a maioria das tentativas perde a corrida e recebe 409.
+ * Os contadores transicoes e conflitos mostram quantas tentativas venceram e quantas foram recusadas.
+ *
+ * Executar: ./mvnw -Pbenchmark test-compile exec:exec -Djmh.args="-p pedidos=100000 TransicaoStatusBenchmark"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class TransicaoStatusBenchmark {
+
+    private static final StatusPedido[] CICLO_STATUS = {
+        StatusPedido.PENDENTE, StatusPedido.CONFIRMADO, StatusPedido.EM_PREPARACAO,
+        StatusPedido.SAIU_PARA_ENTREGA, StatusPedido.ENTREGUE
+    };
+
+    // Último estado conhecido de um pedido disputado
+    private record Alvo(long id, int etapa, long versao) {
+    }
+
+    /**
+     * Pedidos disputados pelas threads. Quando um é entregue, quem fez a entrega
+     * cria o próximo pedido da posição (custo incluído na medição).
+     */
+    @State(Scope.Benchmark)
+    public static class Disputa {
+
+        @Param({"1", "8", "1024"})
+        public int pedidosDisputados;
+
+        AtomicReferenceArray<Alvo> alvos;
+
+        @Setup(Level.Trial)
+        public void criarPedidos(ContextoBenchmark contexto) {
+            alvos = new AtomicReferenceArray<>(pedidosDisputados);
+            for (int i = 0; i < pedidosDisputados; i++) {
+                alvos.set(i, novoAlvo(contexto));
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Contadores {
+
+        public long transicoes;
+        public long conflitos;
+    }
+
+    @Benchmark
+    public Pedido avancarStatus(ContextoBenchmark contexto, Disputa disputa, Contadores contadores) {
+        int posicao = ThreadLocalRandom.current().nextInt(disputa.pedidosDisputados);
+        Alvo alvo = disputa.alvos.get(posicao);
+        StatusPedido proximo = CICLO_STATUS[alvo.etapa() + 1];
+
+        Pedido pedido;
+        try {
+            pedido = contexto.bean(PedidoService.class).atualizarStatus(alvo.id(), proximo, alvo.versao());
+        } catch (ConflitoException e) {
+            contadores.conflitos++;
+            return null;
+        }
+        contadores.transicoes++;
+
+        Alvo seguinte = alvo.etapa() + 1 == CICLO_STATUS.length - 1
+            ? novoAlvo(contexto)
+            : new Alvo(alvo.id(), alvo.etapa() + 1, pedido.getVersao());
+        disputa.alvos.compareAndSet(posicao, alvo, seguinte);
+        return pedido;
+    }
+
+    private static Alvo novoAlvo(ContextoBenchmark contexto) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Pedido pedido = new Pedido();
+        pedido.setValorTotal(BigDecimal.valueOf(random.nextInt(1000, 30000), 2));
+        pedido.setEnderecoEntrega("Rua do Benchmark, 1");
+        pedido = contexto.bean(PedidoService.class).criar(
+            pedido,
+            (long) random.nextInt(contexto.clientes) + 1,
+            (long) random.nextInt(contexto.restaurantes) + 1
+        );
+        return new Alvo(pedido.getId(), 0, pedido.getVersao());
+    }
+}
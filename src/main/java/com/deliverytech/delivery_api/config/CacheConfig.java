@@ -0,0 +1,38 @@
+package com.deliverytech.delivery_api.config;
+
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+/**
+ * Caches de restaurantes e clientes por ID (spring.cache.cache-names e spring.cache.caffeine.spec).
+ *
+ * O CacheManager Caffeine é envolvido por TransactionAwareCacheManagerProxy: dentro de uma
+ * transação, as remoções de @CacheEvict e os put de buscarPorId (RestauranteService e
+ * ClienteService) só alteram o cache após o commit. Uma transação desfeita não deixa nada
+ * no cache.
+ *
+ * Isso não impede que uma leitura concorrente com uma escrita guarde a versão antiga: o put
+ * da leitura também é adiado e pode vir depois da remoção, ficando no cache até o TTL.
+ * Onde a versão importa (ETag do catálogo), ela é lida do banco; ver
+ * RestauranteService.buscarPorIdNaVersaoAtual.
+ */
+@Configuration
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(CacheProperties cacheProperties) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        if (StringUtils.hasText(cacheProperties.getCaffeine().getSpec())) {
+            caffeineCacheManager.setCacheSpecification(cacheProperties.getCaffeine().getSpec());
+        }
+        caffeineCacheManager.setCacheNames(cacheProperties.getCacheNames());
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
@@ -0,0 +1,21 @@
+package com.deliverytech.delivery_api.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.datatype.hibernate6.Hibernate6Module;
+
+/**
+ * Serialização de entidades com associações LAZY.
+ * Associações não carregadas saem apenas com o ID (ex: "cliente": {"id": 1})
+ * em vez de disparar consultas ou falhar fora da transação (open-in-view desligado).
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Hibernate6Module hibernate6Module() {
+        return new Hibernate6Module()
+            .enable(Hibernate6Module.Feature.SERIALIZE_IDENTIFIER_FOR_LAZY_NOT_LOADED_OBJECTS);
+    }
+}
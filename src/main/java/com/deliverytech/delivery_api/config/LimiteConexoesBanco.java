@@ -0,0 +1,123 @@
+package com.deliverytech.delivery_api.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * DataSource que limita quantas threads podem usar conexões ao mesmo tempo (bulkhead).
+ * Com threads virtuais não há limite de requisições simultâneas; as excedentes ficam
+ * estacionadas no semáforo, sem ocupar threads carregadoras dentro do pool ou do driver,
+ * e desistem após a espera máxima em vez de esgotar o pool.
+ * Substitui o bean dataSource: close() fecha o pool envolvido no encerramento da aplicação.
+ */
+public class LimiteConexoesBanco extends DelegatingDataSource implements AutoCloseable {
+
+    private final Semaphore permissoes;
+    private final int maximoConcorrencia;
+    private final long esperaMaximaNanos;
+
+    public LimiteConexoesBanco(DataSource dataSource, int maximoConcorrencia, Duration esperaMaxima) {
+        super(dataSource);
+        this.permissoes = new Semaphore(maximoConcorrencia, true);
+        this.maximoConcorrencia = maximoConcorrencia;
+        this.esperaMaximaNanos = esperaMaxima.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        adquirir();
+        try {
+            return liberarAoFechar(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permissoes.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        adquirir();
+        try {
+            return liberarAoFechar(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permissoes.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable pool) {
+            pool.close();
+        }
+    }
+
+    public int getMaximoConcorrencia() {
+        return maximoConcorrencia;
+    }
+
+    public int getPermissoesDisponiveis() {
+        return permissoes.availablePermits();
+    }
+
+    public int getThreadsAguardando() {
+        return permissoes.getQueueLength();
+    }
+
+    private void adquirir() throws SQLException {
+        try {
+            if (!permissoes.tryAcquire(esperaMaximaNanos, TimeUnit.NANOSECONDS)) {
+                throw new SQLTransientConnectionException("Limite de conexões simultâneas ao banco atingido");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrompido aguardando conexão com o banco", e);
+        }
+    }
+
+    // Devolve a permissão no primeiro close(); chamadas repetidas não liberam de novo.
+    // equals e hashCode são os do próprio proxy, não os da conexão: os holders de conexão do
+    // Spring e do Hibernate comparam a instância que receberam
+    private Connection liberarAoFechar(Connection conexao) {
+        AtomicBoolean liberada = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            (proxy, metodo, argumentos) -> {
+                switch (metodo.getName()) {
+                    case "equals":
+                        return proxy == argumentos[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "toString":
+                        return "LimiteConexoesBanco[" + conexao + "]";
+                    default:
+                        break;
+                }
+                if (metodo.getName().equals("close") && liberada.compareAndSet(false, true)) {
+                    try {
+                        conexao.close();
+                    } finally {
+                        permissoes.release();
+                    }
+                    return null;
+                }
+                try {
+                    return metodo.invoke(conexao, argumentos);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+            });
+    }
+}
@@ -0,0 +1,70 @@
+package com.deliverytech.delivery_api.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Modo opcional de threads virtuais (spring.threads.virtual.enabled=true).
+ * O Spring Boot já executa as requisições do Tomcat e os métodos @Async em threads
+ * virtuais; aqui o DataSource é envolvido por LimiteConexoesBanco para que milhares
+ * de requisições bloqueadas não disputem diretamente as conexões do pool.
+ *
+ * Propriedades:
+ * - delivery.banco.max-concorrencia (padrão: tamanho máximo do pool Hikari, 10)
+ * - delivery.banco.espera-maxima (padrão: 5s)
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class ThreadsVirtuaisConfig {
+
+    @Bean
+    public static BeanPostProcessor limiteConexoesBancoPostProcessor(Environment environment) {
+        int maximoConcorrencia = environment.getProperty("delivery.banco.max-concorrencia", Integer.class,
+            environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10));
+        Duration esperaMaxima = environment.getProperty("delivery.banco.espera-maxima", Duration.class,
+            Duration.ofSeconds(5));
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                if (bean instanceof DataSource dataSource && !(bean instanceof LimiteConexoesBanco)) {
+                    return new LimiteConexoesBanco(dataSource, maximoConcorrencia, esperaMaxima);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Métricas do bulkhead em /actuator/metrics/delivery.banco.permissoes.disponiveis
+     * e delivery.banco.threads.aguardando.
+     */
+    @Bean
+    public MeterBinder metricasLimiteConexoesBanco(DataSource dataSource) {
+        return registry -> {
+            LimiteConexoesBanco limite;
+            try {
+                limite = dataSource.unwrap(LimiteConexoesBanco.class);
+            } catch (Exception e) {
+                return;
+            }
+            Gauge.builder("delivery.banco.permissoes.disponiveis", limite, LimiteConexoesBanco::getPermissoesDisponiveis)
+                .description("Permissões livres para obter conexão com o banco")
+                .register(registry);
+            Gauge.builder("delivery.banco.threads.aguardando", limite, LimiteConexoesBanco::getThreadsAguardando)
+                .description("Threads aguardando permissão para obter conexão com o banco")
+                .register(registry);
+        };
+    }
+}
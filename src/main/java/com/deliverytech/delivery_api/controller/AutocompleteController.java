@@ -0,0 +1,40 @@
+package com.deliverytech.delivery_api.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.deliverytech.delivery_api.dto.SugestaoDTO;
+import com.deliverytech.delivery_api.service.AutocompleteService;
+
+/**
+ * Controller REST para sugestões da barra de busca.
+ * Endpoints: GET /autocomplete
+ */
+@RestController
+@RequestMapping("/autocomplete")
+public class AutocompleteController {
+
+    private final AutocompleteService autocompleteService;
+
+    public AutocompleteController(AutocompleteService autocompleteService) {
+        this.autocompleteService = autocompleteService;
+    }
+
+    /**
+     * GET /autocomplete?q= - Sugestões para o texto digitado
+     * Restaurantes, produtos e categorias que começam pelo texto (em qualquer palavra),
+     * pela avaliação do restaurante; parâmetro opcional limite (padrão: 8, máximo: 10)
+     */
+    @GetMapping
+    public ResponseEntity<List<SugestaoDTO>> sugerir(
+        @RequestParam String q,
+        @RequestParam(required = false) Integer limite
+    ) {
+        return ResponseEntity.ok(autocompleteService.sugerir(q, limite));
+    }
+}
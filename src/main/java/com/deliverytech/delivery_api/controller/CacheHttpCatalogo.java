@@ -0,0 +1,107 @@
+package com.deliverytech.delivery_api.controller;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.deliverytech.delivery_api.service.RespostasSerializadas.RespostaSerializada;
+
+/**
+ * ETag e Cache-Control das respostas de catálogo (restaurante e cardápio).
+ *
+ * O ETag vem da versão do catálogo do restaurante e é fraco (W/): a mesma versão pode
+ * sair comprimida ou não, pelo servidor ou pela CDN. Cache-Control é público, para que
+ * uma CDN responda a maior parte das leituras; expirado o prazo, a revalidação com
+ * If-None-Match é respondida com 304 sem consultar o banco.
+ *
+ * As respostas vêm prontas de RespostasSerializadas e são escritas como bytes; a versão
+ * em gzip é enviada quando o cliente aceita (Accept-Encoding) e ela existe.
+ *
+ * Propriedades:
+ * - delivery.catalogo.max-age (padrão: 30s, navegadores e apps)
+ * - delivery.catalogo.s-maxage (padrão: 60s, CDNs e proxies)
+ */
+@Component
+class CacheHttpCatalogo {
+
+    private final CacheControl cacheControl;
+
+    CacheHttpCatalogo(@Value("${delivery.catalogo.max-age:30s}") Duration maxAge,
+                      @Value("${delivery.catalogo.s-maxage:60s}") Duration sMaxAge) {
+        this.cacheControl = CacheControl.maxAge(maxAge).sMaxAge(sMaxAge).cachePublic();
+    }
+
+    String etag(Long versaoCatalogo) {
+        return "W/\"" + versaoCatalogo + "\"";
+    }
+
+    /**
+     * Compara o If-None-Match recebido com o ETag atual (comparação fraca, lista ou "*").
+     */
+    boolean naoModificado(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String atual = semPrefixoFraco(etag);
+        for (String recebido : ifNoneMatch.split(",")) {
+            String valor = recebido.trim();
+            if (valor.equals("*") || semPrefixoFraco(valor).equals(atual)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    <T> ResponseEntity<T> respostaNaoModificada(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+    }
+
+    <T> ResponseEntity<T> resposta(String etag, T corpo) {
+        return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl).body(corpo);
+    }
+
+    ResponseEntity<byte[]> resposta(String etag, RespostaSerializada corpo, String acceptEncoding) {
+        return json(ResponseEntity.ok().eTag(etag).cacheControl(cacheControl), corpo, acceptEncoding);
+    }
+
+    /**
+     * Resposta serializada sem ETag nem Cache-Control (listagens gerais).
+     */
+    ResponseEntity<byte[]> resposta(RespostaSerializada corpo, String acceptEncoding) {
+        return json(ResponseEntity.ok(), corpo, acceptEncoding);
+    }
+
+    private static ResponseEntity<byte[]> json(ResponseEntity.BodyBuilder builder, RespostaSerializada corpo,
+                                               String acceptEncoding) {
+        builder.contentType(MediaType.APPLICATION_JSON).header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (corpo.gzip() != null && aceitaGzip(acceptEncoding)) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(corpo.gzip());
+        }
+        return builder.body(corpo.json());
+    }
+
+    // "gzip" ou "*" sem q=0
+    private static boolean aceitaGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String item : acceptEncoding.split(",")) {
+            String[] partes = item.split(";");
+            String codificacao = partes[0].trim();
+            if (codificacao.equalsIgnoreCase("gzip") || codificacao.equals("*")) {
+                return partes.length < 2 || !partes[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static String semPrefixoFraco(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+}
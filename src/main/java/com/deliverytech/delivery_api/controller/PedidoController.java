@@ -1,8 +1,14 @@
 package com.deliverytech.delivery_api.controller;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,14 +16,27 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.deliverytech.delivery_api.dto.PaginaDTO;
 import com.deliverytech.delivery_api.dto.PedidoDTO;
+import com.deliverytech.delivery_api.dto.PedidoResumoDTO;
+import com.deliverytech.delivery_api.dto.ResultadoLoteDTO;
+import com.deliverytech.delivery_api.dto.ResultadoTransicaoLoteDTO;
 import com.deliverytech.delivery_api.entity.Pedido;
 import com.deliverytech.delivery_api.entity.Pedido.StatusPedido;
+import com.deliverytech.delivery_api.service.ClienteService;
+import com.deliverytech.delivery_api.service.EventosPedidoService;
+import com.deliverytech.delivery_api.service.EventosPedidoService.Canal;
+import com.deliverytech.delivery_api.service.PainelPendentesService;
 import com.deliverytech.delivery_api.service.PedidoService;
+import com.deliverytech.delivery_api.service.RestauranteService;
 
 import jakarta.validation.Valid;
 
@@ -31,9 +50,21 @@ import jakarta.validation.Valid;
 public class PedidoController {
 
     private final PedidoService pedidoService;
+    private final EventosPedidoService eventosPedidoService;
+    private final PainelPendentesService painelPendentesService;
+    private final ClienteService clienteService;
+    private final RestauranteService restauranteService;
 
-    public PedidoController(PedidoService pedidoService) {
+    public PedidoController(PedidoService pedidoService,
+                            EventosPedidoService eventosPedidoService,
+                            PainelPendentesService painelPendentesService,
+                            ClienteService clienteService,
+                            RestauranteService restauranteService) {
         this.pedidoService = pedidoService;
+        this.eventosPedidoService = eventosPedidoService;
+        this.painelPendentesService = painelPendentesService;
+        this.clienteService = clienteService;
+        this.restauranteService = restauranteService;
     }
 
     /**
@@ -51,78 +82,200 @@ public class PedidoController {
     }
 
     /**
-     * GET /pedidos - Listar todos os pedidos
-     * Parâmetros opcionais: clienteId, restauranteId, status, pendentes
+     * POST /pedidos/lote - Criar vários pedidos de uma vez (máximo 1000)
+     * Retorna um resultado por item, na ordem recebida: ID do pedido criado ou mensagem de erro
+     */
+    @PostMapping("/lote")
+    public ResponseEntity<List<ResultadoLoteDTO>> criarEmLote(@RequestBody List<PedidoDTO> pedidosDTO) {
+        return ResponseEntity.ok(pedidoService.criarEmLote(pedidosDTO));
+    }
+
+    /**
+     * GET /pedidos - Listar pedidos com paginação por cursor
+     * Parâmetros opcionais: clienteId, restauranteId, status, pendentes, cursor, tamanho
+     * Com pendentes=true, retorna o painel de pedidos em andamento (do mais antigo para o
+     * mais recente), filtrado por restauranteId e/ou status, com ETag: If-None-Match com o
+     * ETag recebido retorna 304 enquanto o painel não mudar
      */
     @GetMapping
-    public ResponseEntity<List<Pedido>> listarTodos(
+    public ResponseEntity<PaginaDTO<PedidoResumoDTO>> listarTodos(
         @RequestParam(required = false) Long clienteId,
         @RequestParam(required = false) Long restauranteId,
         @RequestParam(required = false) StatusPedido status,
-        @RequestParam(required = false) Boolean pendentes
+        @RequestParam(required = false) Boolean pendentes,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer tamanho,
+        WebRequest webRequest
     ) {
-        List<Pedido> pedidos;
+        PaginaDTO<PedidoResumoDTO> pedidos;
+
+        if (clienteId == null && pendentes != null && pendentes) {
+            // ETag lido antes da página: uma mudança no meio invalida o ETag, nunca o contrário
+            String etag = painelPendentesService.etag(restauranteId, status);
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
+            return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag)
+                .body(painelPendentesService.listar(restauranteId, status, cursor, tamanho));
+        }
 
         if (clienteId != null) {
-            pedidos = pedidoService.buscarPorCliente(clienteId);
+            pedidos = pedidoService.buscarPorCliente(clienteId, cursor, tamanho);
         } else if (restauranteId != null) {
-            pedidos = pedidoService.buscarPorRestaurante(restauranteId);
+            pedidos = pedidoService.buscarPorRestaurante(restauranteId, cursor, tamanho);
         } else if (status != null) {
-            pedidos = pedidoService.buscarPorStatus(status);
-        } else if (pendentes != null && pendentes) {
-            pedidos = pedidoService.buscarPedidosPendentes();
+            pedidos = pedidoService.buscarPorStatus(status, cursor, tamanho);
         } else {
-            pedidos = pedidoService.listarTodos();
+            pedidos = pedidoService.listarTodos(cursor, tamanho);
         }
 
         return ResponseEntity.ok(pedidos);
     }
 
+    /**
+     * GET /pedidos/exportar - Exportar pedidos de um período em NDJSON (streaming)
+     */
+    @GetMapping("/exportar")
+    public ResponseEntity<StreamingResponseBody> exportar(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dataInicio,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dataFim
+    ) {
+        StreamingResponseBody corpo = saida -> pedidoService.exportarPorPeriodo(dataInicio, dataFim, saida);
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(corpo);
+    }
+
     /**
      * GET /pedidos/{id} - Buscar pedido por ID
+     * Parâmetro opcional expand (cliente, restaurante): associações carregadas junto.
+     * Sem o parâmetro, traz ambas; associações não expandidas saem só com o ID.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Pedido> buscarPorId(@PathVariable Long id) {
-        Pedido pedido = pedidoService.buscarPorId(id);
-        return ResponseEntity.ok(pedido);
+    public ResponseEntity<Pedido> buscarPorId(
+        @PathVariable Long id,
+        @RequestParam(required = false) Set<String> expand
+    ) {
+        Pedido pedido = pedidoService.buscarDetalhe(id, expand);
+        return ResponseEntity.ok().eTag(etag(pedido)).body(pedido);
     }
 
     /**
-     * GET /pedidos/cliente/{clienteId} - Buscar pedidos por cliente
+     * GET /pedidos/cliente/{clienteId} - Buscar pedidos por cliente (paginado por cursor)
      */
     @GetMapping("/cliente/{clienteId}")
-    public ResponseEntity<List<Pedido>> buscarPorCliente(@PathVariable Long clienteId) {
-        List<Pedido> pedidos = pedidoService.buscarPorCliente(clienteId);
+    public ResponseEntity<PaginaDTO<PedidoResumoDTO>> buscarPorCliente(
+        @PathVariable Long clienteId,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer tamanho
+    ) {
+        PaginaDTO<PedidoResumoDTO> pedidos = pedidoService.buscarPorCliente(clienteId, cursor, tamanho);
         return ResponseEntity.ok(pedidos);
     }
 
     /**
      * PATCH /pedidos/{id}/status - Atualizar status do pedido
+     * Aceita apenas a próxima etapa do ciclo (ou CANCELADO); caso contrário retorna 409.
+     * Header opcional If-Match com o ETag de GET /pedidos/{id}: retorna 409 se o pedido
+     * mudou desde a leitura.
      */
     @PatchMapping("/{id}/status")
     public ResponseEntity<Pedido> atualizarStatus(
         @PathVariable Long id,
-        @RequestParam StatusPedido novoStatus
+        @RequestParam StatusPedido novoStatus,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
-        Pedido pedidoAtualizado = pedidoService.atualizarStatus(id, novoStatus);
-        return ResponseEntity.ok(pedidoAtualizado);
+        Pedido pedidoAtualizado = pedidoService.atualizarStatus(id, novoStatus, versaoEsperada(ifMatch));
+        return ResponseEntity.ok().eTag(etag(pedidoAtualizado)).body(pedidoAtualizado);
+    }
+
+    /**
+     * GET /pedidos/{id}/eventos - Acompanhar o pedido por Server-Sent Events
+     * O primeiro evento traz o status atual; os seguintes, cada mudança confirmada.
+     * Substitui a consulta periódica de GET /pedidos/{id}
+     */
+    @GetMapping(value = "/{id}/eventos", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter acompanharPedido(@PathVariable Long id) {
+        return eventosPedidoService.inscrever(Canal.PEDIDO, id, () -> pedidoService.buscarEvento(id));
+    }
+
+    /**
+     * GET /pedidos/eventos?clienteId=X ou ?restauranteId=X - Acompanhar todos os pedidos
+     * de um cliente ou de um restaurante por Server-Sent Events (apenas mudanças a partir da inscrição)
+     */
+    @GetMapping(value = "/eventos", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter acompanharPedidos(
+        @RequestParam(required = false) Long clienteId,
+        @RequestParam(required = false) Long restauranteId
+    ) {
+        if ((clienteId == null) == (restauranteId == null)) {
+            throw new IllegalStateException("Informe clienteId ou restauranteId");
+        }
+        if (clienteId != null) {
+            clienteService.buscarPorId(clienteId);
+            return eventosPedidoService.inscrever(Canal.CLIENTE, clienteId, null);
+        }
+        restauranteService.buscarPorId(restauranteId);
+        return eventosPedidoService.inscrever(Canal.RESTAURANTE, restauranteId, null);
+    }
+
+    /**
+     * PATCH /pedidos/status?novoStatus=X - Atualizar status de vários pedidos (máximo 1000)
+     * Corpo: lista de IDs. Retorna os IDs atualizados e os ignorados (inexistentes ou com
+     * status que não permite a transição)
+     */
+    @PatchMapping("/status")
+    public ResponseEntity<ResultadoTransicaoLoteDTO> atualizarStatusEmLote(
+        @RequestParam StatusPedido novoStatus,
+        @RequestBody List<Long> ids
+    ) {
+        return ResponseEntity.ok(pedidoService.atualizarStatusEmLote(ids, novoStatus));
     }
 
     /**
      * PATCH /pedidos/{id}/cancelar - Cancelar pedido
+     * Header opcional If-Match, como em PATCH /pedidos/{id}/status
      */
     @PatchMapping("/{id}/cancelar")
-    public ResponseEntity<Void> cancelar(@PathVariable Long id) {
-        pedidoService.cancelar(id);
+    public ResponseEntity<Void> cancelar(
+        @PathVariable Long id,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        pedidoService.cancelar(id, versaoEsperada(ifMatch));
         return ResponseEntity.noContent().build();
     }
 
+    // ETag do pedido: a versão incrementada a cada mudança de status
+    private String etag(Pedido pedido) {
+        return "\"" + pedido.getVersao() + "\"";
+    }
+
+    // Versão contida no If-Match ("3" ou W/"3"); null quando ausente ou "*"
+    private Long versaoEsperada(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String valor = ifMatch.trim();
+        if (valor.startsWith("W/")) {
+            valor = valor.substring(2);
+        }
+        try {
+            return Long.valueOf(valor.replace("\"", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("If-Match inválido: " + ifMatch);
+        }
+    }
+
     // Método auxiliar para converter DTO em Entidade
     private Pedido converterParaEntidade(PedidoDTO dto) {
         Pedido pedido = new Pedido();
         pedido.setValorTotal(dto.valorTotal());
         pedido.setObservacoes(dto.observacoes());
         pedido.setEnderecoEntrega(dto.enderecoEntrega());
+        pedido.setLatitudeEntrega(dto.latitudeEntrega());
+        pedido.setLongitudeEntrega(dto.longitudeEntrega());
         return pedido;
     }
 }
@@ -1,7 +1,9 @@
 package com.deliverytech.delivery_api.controller;
 
 import java.util.List;
+import java.util.Set;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -11,13 +13,19 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.deliverytech.delivery_api.dto.ProdutoDTO;
+import com.deliverytech.delivery_api.dto.ProdutoResumoDTO;
 import com.deliverytech.delivery_api.entity.Produto;
 import com.deliverytech.delivery_api.service.ProdutoService;
+import com.deliverytech.delivery_api.service.RespostasSerializadas;
+import com.deliverytech.delivery_api.service.RespostasSerializadas.Listagem;
+import com.deliverytech.delivery_api.service.RespostasSerializadas.RespostaSerializada;
+import com.deliverytech.delivery_api.service.RestauranteService;
 
 import jakarta.validation.Valid;
 
@@ -31,9 +39,16 @@ import jakarta.validation.Valid;
 public class ProdutoController {
 
     private final ProdutoService produtoService;
+    private final RestauranteService restauranteService;
+    private final RespostasSerializadas respostasSerializadas;
+    private final CacheHttpCatalogo cacheHttpCatalogo;
 
-    public ProdutoController(ProdutoService produtoService) {
+    public ProdutoController(ProdutoService produtoService, RestauranteService restauranteService,
+                             RespostasSerializadas respostasSerializadas, CacheHttpCatalogo cacheHttpCatalogo) {
         this.produtoService = produtoService;
+        this.restauranteService = restauranteService;
+        this.respostasSerializadas = respostasSerializadas;
+        this.cacheHttpCatalogo = cacheHttpCatalogo;
     }
 
     /**
@@ -48,45 +63,139 @@ public class ProdutoController {
 
     /**
      * GET /produtos - Listar todos os produtos
-     * Parâmetros opcionais: restauranteId, categoria, disponivel
+     * Parâmetros opcionais: restauranteId, categoria, disponivel, ordenarPorPreco
+     * Com restauranteId, lê o cardápio em memória e responde com ETag e Cache-Control
+     * como GET /produtos/restaurante/{id}; ordenarPorPreco lista os disponíveis do mais barato
+     * Respostas serializadas uma vez por versão (RespostasSerializadas)
      */
     @GetMapping
-    public ResponseEntity<List<Produto>> listarTodos(
+    public ResponseEntity<byte[]> listarTodos(
         @RequestParam(required = false) Long restauranteId,
         @RequestParam(required = false) String categoria,
-        @RequestParam(required = false) Boolean disponivel
+        @RequestParam(required = false) Boolean disponivel,
+        @RequestParam(required = false) Boolean ordenarPorPreco,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
     ) {
-        List<Produto> produtos;
-
-        if (restauranteId != null && disponivel != null && disponivel) {
-            produtos = produtoService.buscarDisponiveisPorRestaurante(restauranteId);
-        } else if (restauranteId != null) {
-            produtos = produtoService.buscarPorRestaurante(restauranteId);
-        } else if (categoria != null) {
-            produtos = produtoService.buscarPorCategoria(categoria);
-        } else {
-            produtos = produtoService.listarTodos();
+        if (restauranteId != null) {
+            long versao = versaoCardapio(restauranteId);
+            String etag = cacheHttpCatalogo.etag(versao);
+            if (cacheHttpCatalogo.naoModificado(ifNoneMatch, etag)) {
+                return cacheHttpCatalogo.respostaNaoModificada(etag);
+            }
+            boolean apenasDisponiveis = disponivel != null && disponivel;
+            boolean porPreco = ordenarPorPreco != null && ordenarPorPreco;
+            String consulta = RespostasSerializadas.consulta("produtos", "restauranteId", restauranteId,
+                "categoria", categoria, "disponivel", apenasDisponiveis, "ordenarPorPreco", porPreco);
+            RespostaSerializada produtos = respostasSerializadas.obter(consulta, versao, () -> {
+                if (categoria != null) {
+                    return produtoService.buscarPorRestauranteECategoria(restauranteId, categoria, apenasDisponiveis);
+                }
+                if (porPreco) {
+                    return produtoService.buscarDisponiveisPorPreco(restauranteId);
+                }
+                return apenasDisponiveis
+                    ? produtoService.buscarDisponiveisPorRestaurante(restauranteId)
+                    : produtoService.buscarPorRestaurante(restauranteId);
+            });
+            return cacheHttpCatalogo.resposta(etag, produtos, acceptEncoding);
         }
 
-        return ResponseEntity.ok(produtos);
+        long geracao = respostasSerializadas.geracao(Listagem.PRODUTOS);
+        RespostaSerializada produtos = categoria != null
+            ? respostasSerializadas.obter(RespostasSerializadas.consulta("produtos", "categoria", categoria), geracao,
+                () -> produtoService.buscarPorCategoria(categoria))
+            : respostasSerializadas.obter("produtos", geracao, produtoService::listarTodos);
+        return cacheHttpCatalogo.resposta(produtos, acceptEncoding);
+    }
+
+    /**
+     * GET /produtos/busca?q= - Busca textual de produtos disponíveis (nome, categoria, descrição)
+     * Sem acentos, por prefixo e ordenada por relevância; parâmetro opcional limite (padrão: 20, máximo: 100)
+     */
+    @GetMapping("/busca")
+    public ResponseEntity<List<ProdutoResumoDTO>> buscar(
+        @RequestParam String q,
+        @RequestParam(required = false) Integer limite
+    ) {
+        return ResponseEntity.ok(produtoService.buscarPorTexto(q, limite));
     }
 
     /**
      * GET /produtos/{id} - Buscar produto por ID
+     * Parâmetro opcional expand (restaurante); sem o parâmetro, traz o restaurante.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Produto> buscarPorId(@PathVariable Long id) {
-        Produto produto = produtoService.buscarPorId(id);
+    public ResponseEntity<Produto> buscarPorId(
+        @PathVariable Long id,
+        @RequestParam(required = false) Set<String> expand
+    ) {
+        Produto produto = produtoService.buscarDetalhe(id, expand);
         return ResponseEntity.ok(produto);
     }
 
     /**
      * GET /produtos/restaurante/{restauranteId} - Buscar produtos por restaurante
+     * ETag da versão do catálogo do restaurante: If-None-Match com o ETag recebido
+     * retorna 304 sem consultar os produtos
      */
     @GetMapping("/restaurante/{restauranteId}")
-    public ResponseEntity<List<Produto>> buscarPorRestaurante(@PathVariable Long restauranteId) {
-        List<Produto> produtos = produtoService.buscarPorRestaurante(restauranteId);
-        return ResponseEntity.ok(produtos);
+    public ResponseEntity<byte[]> buscarPorRestaurante(
+        @PathVariable Long restauranteId,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        long versao = versaoCardapio(restauranteId);
+        String etag = cacheHttpCatalogo.etag(versao);
+        if (cacheHttpCatalogo.naoModificado(ifNoneMatch, etag)) {
+            return cacheHttpCatalogo.respostaNaoModificada(etag);
+        }
+        RespostaSerializada produtos = respostasSerializadas.obter("produtos/restaurante/" + restauranteId, versao,
+            () -> produtoService.buscarPorRestaurante(restauranteId));
+        return cacheHttpCatalogo.resposta(etag, produtos, acceptEncoding);
+    }
+
+    /**
+     * GET /produtos/restaurante/{restauranteId}/mais-caros - Produtos disponíveis mais caros
+     * Parâmetro opcional limite (padrão: 5)
+     */
+    @GetMapping("/restaurante/{restauranteId}/mais-caros")
+    public ResponseEntity<byte[]> buscarMaisCaros(
+        @PathVariable Long restauranteId,
+        @RequestParam(defaultValue = "5") int limite,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        long versao = versaoCardapio(restauranteId);
+        String etag = cacheHttpCatalogo.etag(versao);
+        if (cacheHttpCatalogo.naoModificado(ifNoneMatch, etag)) {
+            return cacheHttpCatalogo.respostaNaoModificada(etag);
+        }
+        RespostaSerializada produtos = respostasSerializadas.obter(
+            RespostasSerializadas.consulta("produtos/restaurante/" + restauranteId + "/mais-caros", "limite", limite),
+            versao,
+            () -> produtoService.buscarMaisCaros(restauranteId, limite));
+        return cacheHttpCatalogo.resposta(etag, produtos, acceptEncoding);
+    }
+
+    /**
+     * GET /produtos/restaurante/{restauranteId}/categorias - Categorias com produtos disponíveis
+     */
+    @GetMapping("/restaurante/{restauranteId}/categorias")
+    public ResponseEntity<byte[]> buscarCategorias(
+        @PathVariable Long restauranteId,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        long versao = versaoCardapio(restauranteId);
+        String etag = cacheHttpCatalogo.etag(versao);
+        if (cacheHttpCatalogo.naoModificado(ifNoneMatch, etag)) {
+            return cacheHttpCatalogo.respostaNaoModificada(etag);
+        }
+        RespostaSerializada categorias = respostasSerializadas.obter(
+            "produtos/restaurante/" + restauranteId + "/categorias", versao,
+            () -> produtoService.buscarCategorias(restauranteId));
+        return cacheHttpCatalogo.resposta(etag, categorias, acceptEncoding);
     }
 
     /**
@@ -111,6 +220,12 @@ public class ProdutoController {
         return ResponseEntity.noContent().build();
     }
 
+    // Lida do banco antes dos produtos: uma alteração no meio invalida o ETag e a resposta
+    // guardada, nunca o contrário
+    private long versaoCardapio(Long restauranteId) {
+        return restauranteService.buscarVersaoCatalogo(restauranteId);
+    }
+
     // Método auxiliar para converter DTO em Entidade
     private Produto converterParaEntidade(ProdutoDTO dto) {
         Produto produto = new Produto();
@@ -0,0 +1,87 @@
+package com.deliverytech.delivery_api.controller;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.deliverytech.delivery_api.dto.PontoSerieVendasDTO;
+import com.deliverytech.delivery_api.dto.ResumoPedidosDTO;
+import com.deliverytech.delivery_api.service.AgregadoPedidoService;
+import com.deliverytech.delivery_api.service.AgregadoPedidoService.Granularidade;
+
+/**
+ * Controller REST para relatórios financeiros.
+ * Endpoints: GET (resumos, vendas por período, séries), POST (reconstruir agregados)
+ */
+@RestController
+@RequestMapping("/relatorios")
+public class RelatorioController {
+
+    private final AgregadoPedidoService agregadoPedidoService;
+
+    public RelatorioController(AgregadoPedidoService agregadoPedidoService) {
+        this.agregadoPedidoService = agregadoPedidoService;
+    }
+
+    /**
+     * GET /relatorios/restaurantes/{restauranteId} - Resumo de vendas do restaurante
+     */
+    @GetMapping("/restaurantes/{restauranteId}")
+    public ResponseEntity<ResumoPedidosDTO> resumoRestaurante(@PathVariable Long restauranteId) {
+        return ResponseEntity.ok(agregadoPedidoService.buscarResumoRestaurante(restauranteId));
+    }
+
+    /**
+     * GET /relatorios/clientes/{clienteId} - Resumo de gastos do cliente
+     */
+    @GetMapping("/clientes/{clienteId}")
+    public ResponseEntity<ResumoPedidosDTO> resumoCliente(@PathVariable Long clienteId) {
+        return ResponseEntity.ok(agregadoPedidoService.buscarResumoCliente(clienteId));
+    }
+
+    /**
+     * GET /relatorios/vendas/total - Total de vendas no período
+     */
+    @GetMapping("/vendas/total")
+    public ResponseEntity<Map<String, BigDecimal>> totalVendasPorPeriodo(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dataInicio,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dataFim
+    ) {
+        BigDecimal total = agregadoPedidoService.calcularTotalVendasPorPeriodo(dataInicio, dataFim);
+        return ResponseEntity.ok(Map.of("valorTotal", total));
+    }
+
+    /**
+     * GET /relatorios/vendas/serie - Série temporal de vendas por hora ou dia
+     * Parâmetros opcionais: granularidade (HORA, DIA), restauranteId
+     */
+    @GetMapping("/vendas/serie")
+    public ResponseEntity<List<PontoSerieVendasDTO>> serieVendas(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dataInicio,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dataFim,
+        @RequestParam(defaultValue = "HORA") Granularidade granularidade,
+        @RequestParam(required = false) Long restauranteId
+    ) {
+        return ResponseEntity.ok(agregadoPedidoService.buscarSerieVendas(
+            dataInicio, dataFim, granularidade, restauranteId));
+    }
+
+    /**
+     * POST /relatorios/agregados/reconstruir - Recalcular agregados a partir dos pedidos
+     */
+    @PostMapping("/agregados/reconstruir")
+    public ResponseEntity<Map<String, Integer>> reconstruirAgregados() {
+        int agregados = agregadoPedidoService.reconstruir();
+        return ResponseEntity.ok(Map.of("agregados", agregados));
+    }
+}
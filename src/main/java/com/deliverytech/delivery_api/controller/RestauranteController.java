@@ -2,6 +2,7 @@ package com.deliverytech.delivery_api.controller;
 
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -11,12 +12,19 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.deliverytech.delivery_api.dto.RestauranteDTO;
+import com.deliverytech.delivery_api.dto.RestauranteProximoDTO;
+import com.deliverytech.delivery_api.dto.RestauranteRankingDTO;
 import com.deliverytech.delivery_api.entity.Restaurante;
+import com.deliverytech.delivery_api.service.BuscaService;
+import com.deliverytech.delivery_api.service.RespostasSerializadas;
+import com.deliverytech.delivery_api.service.RespostasSerializadas.Listagem;
+import com.deliverytech.delivery_api.service.RespostasSerializadas.RespostaSerializada;
 import com.deliverytech.delivery_api.service.RestauranteService;
 
 import jakarta.validation.Valid;
@@ -31,9 +39,14 @@ import jakarta.validation.Valid;
 public class RestauranteController {
 
     private final RestauranteService restauranteService;
+    private final RespostasSerializadas respostasSerializadas;
+    private final CacheHttpCatalogo cacheHttpCatalogo;
 
-    public RestauranteController(RestauranteService restauranteService) {
+    public RestauranteController(RestauranteService restauranteService, RespostasSerializadas respostasSerializadas,
+                                 CacheHttpCatalogo cacheHttpCatalogo) {
         this.restauranteService = restauranteService;
+        this.respostasSerializadas = respostasSerializadas;
+        this.cacheHttpCatalogo = cacheHttpCatalogo;
     }
 
     /**
@@ -48,45 +61,119 @@ public class RestauranteController {
 
     /**
      * GET /restaurantes - Listar todos os restaurantes
-     * Parâmetros opcionais: categoria, nome, ordenarPorAvaliacao
+     * Parâmetros opcionais: categoria, nome, ordenarPorAvaliacao, abertoAgora
+     * nome usa a busca textual (até 100 restaurantes, por relevância)
+     * abertoAgora=true lista os ativos abertos neste minuto (combinável com categoria, sem diferenciar maiúsculas)
+     * Respostas serializadas uma vez por geração (RespostasSerializadas)
      */
     @GetMapping
-    public ResponseEntity<List<Restaurante>> listarTodos(
+    public ResponseEntity<byte[]> listarTodos(
         @RequestParam(required = false) String categoria,
         @RequestParam(required = false) String nome,
-        @RequestParam(required = false) Boolean ordenarPorAvaliacao
+        @RequestParam(required = false) Boolean ordenarPorAvaliacao,
+        @RequestParam(required = false) Boolean abertoAgora,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
     ) {
-        List<Restaurante> restaurantes;
-
-        if (categoria != null) {
-            restaurantes = restauranteService.buscarPorCategoria(categoria);
+        long geracao = respostasSerializadas.geracao(Listagem.RESTAURANTES);
+        RespostaSerializada restaurantes;
+
+        if (abertoAgora != null && abertoAgora) {
+            // O minuto na chave: a resposta muda com o relógio, não só com a geração
+            int minuto = restauranteService.minutoAtual();
+            restaurantes = respostasSerializadas.obter(RespostasSerializadas.consulta("restaurantes",
+                "abertoAgora", true, "minuto", minuto, "categoria", categoria), geracao,
+                () -> restauranteService.buscarAbertos(minuto, categoria));
+        } else if (categoria != null) {
+            restaurantes = respostasSerializadas.obter(
+                RespostasSerializadas.consulta("restaurantes", "categoria", categoria), geracao,
+                () -> restauranteService.buscarPorCategoria(categoria));
         } else if (nome != null) {
-            restaurantes = restauranteService.buscarPorNome(nome);
+            restaurantes = respostasSerializadas.obter(
+                RespostasSerializadas.consulta("restaurantes", "nome", nome), geracao,
+                () -> restauranteService.buscarPorNome(nome, BuscaService.LIMITE_MAXIMO));
         } else if (ordenarPorAvaliacao != null && ordenarPorAvaliacao) {
-            restaurantes = restauranteService.buscarOrdenadosPorAvaliacao();
+            restaurantes = respostasSerializadas.obter("restaurantes?ordenarPorAvaliacao=true", geracao,
+                restauranteService::buscarOrdenadosPorAvaliacao);
         } else {
-            restaurantes = restauranteService.listarTodos();
+            restaurantes = respostasSerializadas.obter("restaurantes", geracao, restauranteService::listarTodos);
         }
 
-        return ResponseEntity.ok(restaurantes);
+        return cacheHttpCatalogo.resposta(restaurantes, acceptEncoding);
+    }
+
+    /**
+     * GET /restaurantes/busca?q= - Busca textual por nome e categoria
+     * Sem acentos, por prefixo e ordenada por relevância; parâmetro opcional limite (padrão: 20, máximo: 100)
+     */
+    @GetMapping("/busca")
+    public ResponseEntity<List<Restaurante>> buscar(
+        @RequestParam String q,
+        @RequestParam(required = false) Integer limite
+    ) {
+        return ResponseEntity.ok(restauranteService.buscarPorNome(q, limite));
+    }
+
+    /**
+     * GET /restaurantes/proximos?lat=&lon= - Restaurantes ativos próximos, do mais perto para o mais longe
+     * Parâmetros opcionais: raio (km, padrão: 5, máximo: 50), categoria, avaliacaoMinima, limite (padrão: 20, máximo: 100)
+     */
+    @GetMapping("/proximos")
+    public ResponseEntity<List<RestauranteProximoDTO>> buscarProximos(
+        @RequestParam double lat,
+        @RequestParam double lon,
+        @RequestParam(required = false) Double raio,
+        @RequestParam(required = false) String categoria,
+        @RequestParam(required = false) Double avaliacaoMinima,
+        @RequestParam(required = false) Integer limite
+    ) {
+        return ResponseEntity.ok(restauranteService.buscarProximos(lat, lon, raio, categoria, avaliacaoMinima, limite));
+    }
+
+    /**
+     * GET /restaurantes/ranking - Restaurantes ativos de maior pontuação (avaliação e pedidos entregues recentemente)
+     * Parâmetros opcionais: categoria, limite (padrão: 10, máximo: 100)
+     */
+    @GetMapping("/ranking")
+    public ResponseEntity<List<RestauranteRankingDTO>> buscarRanking(
+        @RequestParam(required = false) String categoria,
+        @RequestParam(required = false) Integer limite
+    ) {
+        return ResponseEntity.ok(restauranteService.buscarRanking(categoria, limite));
     }
 
     /**
      * GET /restaurantes/{id} - Buscar restaurante por ID
+     * ETag da versão do catálogo; If-None-Match com o ETag recebido retorna 304
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Restaurante> buscarPorId(@PathVariable Long id) {
-        Restaurante restaurante = restauranteService.buscarPorId(id);
-        return ResponseEntity.ok(restaurante);
+    public ResponseEntity<byte[]> buscarPorId(
+        @PathVariable Long id,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        Restaurante restaurante = restauranteService.buscarPorIdNaVersaoAtual(id);
+        String etag = cacheHttpCatalogo.etag(restaurante.getVersaoCatalogo());
+        if (cacheHttpCatalogo.naoModificado(ifNoneMatch, etag)) {
+            return cacheHttpCatalogo.respostaNaoModificada(etag);
+        }
+        RespostaSerializada corpo = respostasSerializadas.obter("restaurantes/" + id, restaurante.getVersaoCatalogo(),
+            () -> restaurante);
+        return cacheHttpCatalogo.resposta(etag, corpo, acceptEncoding);
     }
 
     /**
      * GET /restaurantes/categoria/{categoria} - Buscar por categoria
      */
     @GetMapping("/categoria/{categoria}")
-    public ResponseEntity<List<Restaurante>> buscarPorCategoria(@PathVariable String categoria) {
-        List<Restaurante> restaurantes = restauranteService.buscarPorCategoria(categoria);
-        return ResponseEntity.ok(restaurantes);
+    public ResponseEntity<byte[]> buscarPorCategoria(
+        @PathVariable String categoria,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        // Mesma chave de GET /restaurantes?categoria=
+        RespostaSerializada restaurantes = respostasSerializadas.obter(
+            RespostasSerializadas.consulta("restaurantes", "categoria", categoria),
+            respostasSerializadas.geracao(Listagem.RESTAURANTES), () -> restauranteService.buscarPorCategoria(categoria));
+        return cacheHttpCatalogo.resposta(restaurantes, acceptEncoding);
     }
 
     /**
@@ -125,6 +212,8 @@ public class RestauranteController {
             restaurante.setAtivo(dto.ativo());
         }
         restaurante.setHorarioFuncionamento(dto.horarioFuncionamento());
+        restaurante.setLatitude(dto.latitude());
+        restaurante.setLongitude(dto.longitude());
         return restaurante;
     }
 }
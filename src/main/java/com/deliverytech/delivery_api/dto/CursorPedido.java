@@ -0,0 +1,54 @@
+package com.deliverytech.delivery_api.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Cursor de paginação de pedidos: posição (dataPedido, id) do último item entregue.
+ * Serializado como Base64 URL-safe para ser opaco ao cliente.
+ */
+public record CursorPedido(
+    LocalDateTime dataPedido,
+
+    Long id
+) {
+
+    // Sentinelas usadas quando nenhum cursor é informado (primeira página)
+    private static final CursorPedido INICIO_DECRESCENTE =
+        new CursorPedido(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+    private static final CursorPedido INICIO_CRESCENTE =
+        new CursorPedido(LocalDateTime.of(1, 1, 1, 0, 0), 0L);
+
+    public static CursorPedido de(PedidoResumoDTO pedido) {
+        return new CursorPedido(pedido.dataPedido(), pedido.id());
+    }
+
+    /**
+     * Decodifica o cursor recebido ou retorna a posição inicial da ordenação.
+     *
+     * @param cursor Cursor opaco recebido do cliente (pode ser null)
+     * @param crescente true se a listagem é ordenada do mais antigo para o mais recente
+     * @return Posição a partir da qual a próxima página deve ser lida
+     */
+    public static CursorPedido decodificar(String cursor, boolean crescente) {
+        if (cursor == null || cursor.isBlank()) {
+            return crescente ? INICIO_CRESCENTE : INICIO_DECRESCENTE;
+        }
+
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] partes = valor.split("\\|");
+            return new CursorPedido(LocalDateTime.parse(partes[0]), Long.valueOf(partes[1]));
+        } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalStateException("Cursor de paginação inválido");
+        }
+    }
+
+    public String codificar() {
+        String valor = dataPedido + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,18 @@
+package com.deliverytech.delivery_api.dto;
+
+/**
+ * Alteração de um produto do cardápio, publicada por ProdutoService na transação da escrita.
+ *
+ * @param versaoCatalogo versão do catálogo do restaurante após a alteração
+ * @param produto estado novo do produto, ou null se foi removido
+ */
+public record EventoCardapioDTO(
+    Long restauranteId,
+
+    Long versaoCatalogo,
+
+    Long produtoId,
+
+    ProdutoResumoDTO produto
+) {
+}
@@ -0,0 +1,46 @@
+package com.deliverytech.delivery_api.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.deliverytech.delivery_api.entity.Pedido;
+import com.deliverytech.delivery_api.entity.Pedido.StatusPedido;
+
+/**
+ * Mudança de um pedido enviada aos inscritos em GET /pedidos/.../eventos.
+ * A versão cresce a cada mudança: eventos com versão menor que a última recebida podem ser descartados.
+ */
+public record EventoPedidoDTO(
+    Long pedidoId,
+
+    Long clienteId,
+
+    Long restauranteId,
+
+    LocalDateTime dataPedido,
+
+    BigDecimal valorTotal,
+
+    StatusPedido status,
+
+    StatusPedido statusAnterior,
+
+    Long versao,
+
+    LocalDateTime dataEvento
+) {
+    // Usa apenas os IDs das associações, sem inicializar cliente e restaurante
+    public static EventoPedidoDTO de(Pedido pedido) {
+        return new EventoPedidoDTO(
+            pedido.getId(),
+            pedido.getCliente().getId(),
+            pedido.getRestaurante().getId(),
+            pedido.getDataPedido(),
+            pedido.getValorTotal(),
+            pedido.getStatus(),
+            pedido.getStatusAnterior(),
+            pedido.getVersao(),
+            LocalDateTime.now()
+        );
+    }
+}
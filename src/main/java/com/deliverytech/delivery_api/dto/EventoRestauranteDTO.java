@@ -0,0 +1,15 @@
+package com.deliverytech.delivery_api.dto;
+
+import com.deliverytech.delivery_api.entity.Restaurante;
+
+/**
+ * Restaurante criado, alterado ou removido, publicado por RestauranteService na transação da escrita.
+ *
+ * @param restaurante estado gravado do restaurante (não deve ser alterado), ou null se foi removido
+ */
+public record EventoRestauranteDTO(
+    Long restauranteId,
+
+    Restaurante restaurante
+) {
+}
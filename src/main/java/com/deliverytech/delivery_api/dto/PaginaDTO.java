@@ -0,0 +1,17 @@
+package com.deliverytech.delivery_api.dto;
+
+import java.util.List;
+
+/**
+ * Página de resultados com paginação por cursor (keyset).
+ * O cliente envia o proximoCursor recebido para obter a página seguinte;
+ * quando proximoCursor é null não há mais resultados.
+ */
+public record PaginaDTO<T>(
+    List<T> itens,
+
+    String proximoCursor,
+
+    int tamanho
+) {
+}
@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 
 import com.deliverytech.delivery_api.entity.Pedido.StatusPedido;
 
+import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -34,6 +35,14 @@ public record PedidoDTO(
     @NotBlank(message = "Endereço de entrega é obrigatório")
     String enderecoEntrega,
 
-    LocalDateTime dataEntrega
+    LocalDateTime dataEntrega,
+
+    @DecimalMin(value = "-90.0", message = "Latitude deve estar entre -90 e 90")
+    @DecimalMax(value = "90.0", message = "Latitude deve estar entre -90 e 90")
+    Double latitudeEntrega,
+
+    @DecimalMin(value = "-180.0", message = "Longitude deve estar entre -180 e 180")
+    @DecimalMax(value = "180.0", message = "Longitude deve estar entre -180 e 180")
+    Double longitudeEntrega
 ) {
 }
@@ -0,0 +1,34 @@
+package com.deliverytech.delivery_api.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.deliverytech.delivery_api.entity.Pedido.StatusPedido;
+
+/**
+ * Pedido em andamento lido para carregar o painel de pendentes em memória:
+ * o resumo da listagem mais a versão, usada para descartar eventos mais antigos que a carga.
+ */
+public record PedidoPainelDTO(
+    Long id,
+
+    LocalDateTime dataPedido,
+
+    StatusPedido status,
+
+    BigDecimal valorTotal,
+
+    Long clienteId,
+
+    String clienteNome,
+
+    Long restauranteId,
+
+    String restauranteNome,
+
+    Long versao
+) {
+    public PedidoResumoDTO resumo() {
+        return new PedidoResumoDTO(id, dataPedido, status, valorTotal, clienteId, clienteNome, restauranteId, restauranteNome);
+    }
+}
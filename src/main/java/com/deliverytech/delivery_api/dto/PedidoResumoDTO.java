@@ -0,0 +1,29 @@
+package com.deliverytech.delivery_api.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.deliverytech.delivery_api.entity.Pedido.StatusPedido;
+
+/**
+ * Resumo de pedido para listagens: apenas o nome do cliente e do restaurante,
+ * lido em um único SELECT com expressão de construtor, sem carregar as entidades.
+ */
+public record PedidoResumoDTO(
+    Long id,
+
+    LocalDateTime dataPedido,
+
+    StatusPedido status,
+
+    BigDecimal valorTotal,
+
+    Long clienteId,
+
+    String clienteNome,
+
+    Long restauranteId,
+
+    String restauranteNome
+) {
+}
@@ -0,0 +1,17 @@
+package com.deliverytech.delivery_api.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Ponto de uma série temporal de vendas (hora ou dia iniciado em "inicio").
+ * Não inclui pedidos cancelados.
+ */
+public record PontoSerieVendasDTO(
+    LocalDateTime inicio,
+
+    Long quantidade,
+
+    BigDecimal valorTotal
+) {
+}
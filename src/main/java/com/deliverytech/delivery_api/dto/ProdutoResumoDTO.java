@@ -0,0 +1,41 @@
+package com.deliverytech.delivery_api.dto;
+
+import java.math.BigDecimal;
+
+import com.deliverytech.delivery_api.entity.Produto;
+
+/**
+ * Resumo de produto para listagens: referencia o restaurante apenas pelo ID,
+ * lido da própria tabela de produtos sem carregar o restaurante.
+ */
+public record ProdutoResumoDTO(
+    Long id,
+
+    String nome,
+
+    String descricao,
+
+    BigDecimal preco,
+
+    String categoria,
+
+    Boolean disponivel,
+
+    String imagemUrl,
+
+    Long restauranteId
+) {
+    // Usa apenas o ID do restaurante, sem inicializá-lo
+    public static ProdutoResumoDTO de(Produto produto) {
+        return new ProdutoResumoDTO(
+            produto.getId(),
+            produto.getNome(),
+            produto.getDescricao(),
+            produto.getPreco(),
+            produto.getCategoria(),
+            produto.getDisponivel(),
+            produto.getImagemUrl(),
+            produto.getRestaurante().getId()
+        );
+    }
+}
@@ -29,6 +29,14 @@ public record RestauranteDTO(
 
     Boolean ativo,
 
-    String horarioFuncionamento
+    String horarioFuncionamento,
+
+    @DecimalMin(value = "-90.0", message = "Latitude deve estar entre -90 e 90")
+    @DecimalMax(value = "90.0", message = "Latitude deve estar entre -90 e 90")
+    Double latitude,
+
+    @DecimalMin(value = "-180.0", message = "Longitude deve estar entre -180 e 180")
+    @DecimalMax(value = "180.0", message = "Longitude deve estar entre -180 e 180")
+    Double longitude
 ) {
 }
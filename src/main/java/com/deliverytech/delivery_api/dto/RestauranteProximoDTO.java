@@ -0,0 +1,39 @@
+package com.deliverytech.delivery_api.dto;
+
+import com.deliverytech.delivery_api.entity.Restaurante;
+
+/**
+ * Restaurante de GET /restaurantes/proximos com a distância até o ponto consultado.
+ *
+ * @param distanciaKm distância em linha reta (haversine), em km com precisão de metros
+ */
+public record RestauranteProximoDTO(
+    Long id,
+
+    String nome,
+
+    String categoria,
+
+    String endereco,
+
+    Double avaliacao,
+
+    Double latitude,
+
+    Double longitude,
+
+    Double distanciaKm
+) {
+    public static RestauranteProximoDTO de(Restaurante restaurante, double distanciaKm) {
+        return new RestauranteProximoDTO(
+            restaurante.getId(),
+            restaurante.getNome(),
+            restaurante.getCategoria(),
+            restaurante.getEndereco(),
+            restaurante.getAvaliacao(),
+            restaurante.getLatitude(),
+            restaurante.getLongitude(),
+            Math.round(distanciaKm * 1000) / 1000.0
+        );
+    }
+}
@@ -0,0 +1,20 @@
+package com.deliverytech.delivery_api.dto;
+
+/**
+ * Restaurante no ranking de GET /restaurantes/ranking.
+ * pontuacao combina a avaliação com os pedidos entregues recentemente (pedidosRecentes).
+ */
+public record RestauranteRankingDTO(
+    Long id,
+
+    String nome,
+
+    String categoria,
+
+    Double avaliacao,
+
+    long pedidosRecentes,
+
+    double pontuacao
+) {
+}
@@ -0,0 +1,21 @@
+package com.deliverytech.delivery_api.dto;
+
+/**
+ * Resultado de um item de uma operação em lote.
+ * Em caso de sucesso, pedidoId vem preenchido e erro é nulo; em caso de falha, o inverso.
+ */
+public record ResultadoLoteDTO(
+    int indice,
+
+    Long pedidoId,
+
+    String erro
+) {
+    public static ResultadoLoteDTO sucesso(int indice, Long pedidoId) {
+        return new ResultadoLoteDTO(indice, pedidoId, null);
+    }
+
+    public static ResultadoLoteDTO falha(int indice, String erro) {
+        return new ResultadoLoteDTO(indice, null, erro);
+    }
+}
@@ -0,0 +1,18 @@
+package com.deliverytech.delivery_api.dto;
+
+import java.util.List;
+
+import com.deliverytech.delivery_api.entity.Pedido.StatusPedido;
+
+/**
+ * Resultado de uma mudança de status em lote.
+ * ignorados reúne os IDs inexistentes e os pedidos cujo status atual não permite a transição.
+ */
+public record ResultadoTransicaoLoteDTO(
+    StatusPedido novoStatus,
+
+    List<Long> atualizados,
+
+    List<Long> ignorados
+) {
+}
@@ -0,0 +1,21 @@
+package com.deliverytech.delivery_api.dto;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import com.deliverytech.delivery_api.entity.Pedido.StatusPedido;
+
+/**
+ * Resumo financeiro de pedidos de um restaurante ou cliente.
+ * O valorTotal desconsidera pedidos cancelados.
+ */
+public record ResumoPedidosDTO(
+    Long referenciaId,
+
+    BigDecimal valorTotal,
+
+    long quantidadePedidos,
+
+    Map<StatusPedido, Long> quantidadePorStatus
+) {
+}
@@ -0,0 +1,19 @@
+package com.deliverytech.delivery_api.dto;
+
+/**
+ * Sugestão de GET /autocomplete.
+ *
+ * @param tipo RESTAURANTE, PRODUTO ou CATEGORIA
+ * @param peso maior avaliação entre os restaurantes ativos em que o texto aparece
+ */
+public record SugestaoDTO(
+    String texto,
+
+    String tipo,
+
+    Double peso
+) {
+    public static final String RESTAURANTE = "RESTAURANTE";
+    public static final String PRODUTO = "PRODUTO";
+    public static final String CATEGORIA = "CATEGORIA";
+}
@@ -0,0 +1,11 @@
+package com.deliverytech.delivery_api.dto;
+
+/**
+ * Quantidade de pedidos de um restaurante somada nas vendas por hora.
+ */
+public record VendasRestauranteDTO(
+    Long restauranteId,
+
+    Long quantidade
+) {
+}
@@ -0,0 +1,115 @@
+package com.deliverytech.delivery_api.entity;
+
+import java.math.BigDecimal;
+
+import com.deliverytech.delivery_api.entity.Pedido.StatusPedido;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * Totais de pedidos mantidos incrementalmente por restaurante ou cliente e status.
+ * Evita recalcular SUM/COUNT sobre todo o histórico de pedidos nos relatórios.
+ */
+@Entity
+@Table(
+    name = "agregados_pedidos",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"escopo", "referencia_id", "status"})
+)
+public class AgregadoPedido {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Escopo escopo;
+
+    @Column(name = "referencia_id", nullable = false)
+    private Long referenciaId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private StatusPedido status;
+
+    @Column(nullable = false)
+    private Long quantidade = 0L;
+
+    @Column(name = "valor_total", nullable = false, precision = 14, scale = 2)
+    private BigDecimal valorTotal = BigDecimal.ZERO;
+
+    // Enum para o dono do agregado
+    public enum Escopo {
+        RESTAURANTE,
+        CLIENTE
+    }
+
+    // Construtores
+    public AgregadoPedido() {
+    }
+
+    public AgregadoPedido(Escopo escopo, Long referenciaId, StatusPedido status, Long quantidade, BigDecimal valorTotal) {
+        this.escopo = escopo;
+        this.referenciaId = referenciaId;
+        this.status = status;
+        this.quantidade = quantidade;
+        this.valorTotal = valorTotal;
+    }
+
+    // Getters e Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Escopo getEscopo() {
+        return escopo;
+    }
+
+    public void setEscopo(Escopo escopo) {
+        this.escopo = escopo;
+    }
+
+    public Long getReferenciaId() {
+        return referenciaId;
+    }
+
+    public void setReferenciaId(Long referenciaId) {
+        this.referenciaId = referenciaId;
+    }
+
+    public StatusPedido getStatus() {
+        return status;
+    }
+
+    public void setStatus(StatusPedido status) {
+        this.status = status;
+    }
+
+    public Long getQuantidade() {
+        return quantidade;
+    }
+
+    public void setQuantidade(Long quantidade) {
+        this.quantidade = quantidade;
+    }
+
+    public BigDecimal getValorTotal() {
+        return valorTotal;
+    }
+
+    public void setValorTotal(BigDecimal valorTotal) {
+        this.valorTotal = valorTotal;
+    }
+}
@@ -7,10 +7,14 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "clientes")
+@Table(name = "clientes", indexes = {
+    @Index(name = "idx_clientes_ativo_cadastro", columnList = "ativo, data_cadastro"),
+    @Index(name = "idx_clientes_data_cadastro", columnList = "data_cadastro")
+})
 public class Cliente {
 
     @Id
@@ -0,0 +1,97 @@
+package com.deliverytech.delivery_api.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+/**
+ * Evento de pedido gravado na mesma transação da mudança que o gerou (outbox transacional).
+ * RelayOutboxService publica os eventos pendentes em lotes e remove as linhas publicadas;
+ * o ID também identifica o evento para o consumidor descartar entregas repetidas.
+ */
+@Entity
+@Table(name = "eventos_outbox")
+public class EventoOutbox {
+
+    // Tipos de evento (o status de destino vai no payload)
+    public static final String PEDIDO_CRIADO = "PEDIDO_CRIADO";
+    public static final String STATUS_ALTERADO = "STATUS_ALTERADO";
+    public static final String PEDIDO_CANCELADO = "PEDIDO_CANCELADO";
+
+    // Sequência: os eventos de POST /pedidos/lote são inseridos em lote junto com os pedidos
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "eventos_outbox_seq")
+    @SequenceGenerator(name = "eventos_outbox_seq", sequenceName = "eventos_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, length = 30)
+    private String tipo;
+
+    @Column(name = "pedido_id", nullable = false)
+    private Long pedidoId;
+
+    // EventoPedidoDTO em JSON
+    @Column(nullable = false, length = 2000)
+    private String payload;
+
+    @Column(name = "data_criacao", nullable = false)
+    private LocalDateTime dataCriacao;
+
+    // Construtores
+    public EventoOutbox() {
+    }
+
+    public EventoOutbox(String tipo, Long pedidoId, String payload, LocalDateTime dataCriacao) {
+        this.tipo = tipo;
+        this.pedidoId = pedidoId;
+        this.payload = payload;
+        this.dataCriacao = dataCriacao;
+    }
+
+    // Getters e Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTipo() {
+        return tipo;
+    }
+
+    public void setTipo(String tipo) {
+        this.tipo = tipo;
+    }
+
+    public Long getPedidoId() {
+        return pedidoId;
+    }
+
+    public void setPedidoId(Long pedidoId) {
+        this.pedidoId = pedidoId;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+
+    public LocalDateTime getDataCriacao() {
+        return dataCriacao;
+    }
+
+    public void setDataCriacao(LocalDateTime dataCriacao) {
+        this.dataCriacao = dataCriacao;
+    }
+}
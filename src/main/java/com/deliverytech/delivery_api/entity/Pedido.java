@@ -2,41 +2,79 @@ package com.deliverytech.delivery_api.entity;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
+// Associações LAZY: cada endpoint escolhe o que buscar junto (grafo "Pedido.detalhe" ou ?expand=)
 @Entity
-@Table(name = "pedidos")
+@NamedEntityGraph(name = "Pedido.detalhe", attributeNodes = {
+    @NamedAttributeNode("cliente"),
+    @NamedAttributeNode("restaurante")
+})
+@Table(name = "pedidos", indexes = {
+    @Index(name = "idx_pedidos_cliente_data", columnList = "cliente_id, data_pedido"),
+    @Index(name = "idx_pedidos_restaurante_status", columnList = "restaurante_id, status"),
+    @Index(name = "idx_pedidos_restaurante_data", columnList = "restaurante_id, data_pedido"),
+    @Index(name = "idx_pedidos_status_data", columnList = "status, data_pedido"),
+    @Index(name = "idx_pedidos_data_pedido", columnList = "data_pedido, id"),
+    @Index(name = "idx_pedidos_data_entrega", columnList = "data_entrega"),
+    @Index(name = "idx_pedidos_valor_total", columnList = "valor_total")
+})
 public class Pedido {
 
+    // Sequência em vez de IDENTITY: permite ao Hibernate agrupar os INSERTs em lote (hibernate.jdbc.batch_size)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pedidos_seq")
+    @SequenceGenerator(name = "pedidos_seq", sequenceName = "pedidos_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "cliente_id", nullable = false)
     private Cliente cliente;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "restaurante_id", nullable = false)
     private Restaurante restaurante;
 
+    // Precisão de microssegundos, a mesma da coluna: o valor em memória é usado como cursor de paginação
     @Column(name = "data_pedido", nullable = false, updatable = false)
-    private LocalDateTime dataPedido = LocalDateTime.now();
+    private LocalDateTime dataPedido = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private StatusPedido status = StatusPedido.PENDENTE;
 
+    // Preenchido pelo UPDATE condicional de transição (PedidoRepository.transicionarStatus)
+    @JsonIgnore
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status_anterior")
+    private StatusPedido statusAnterior;
+
+    // Incrementada a cada transição de status; exposta como ETag.
+    // Nula até o INSERT (o Hibernate grava 0): o Spring Data usa isso para distinguir pedidos novos
+    @Version
+    @Column(nullable = false)
+    private Long versao;
+
     @Column(nullable = false, precision = 10, scale = 2)
     private BigDecimal valorTotal;
 
@@ -45,16 +83,49 @@ public class Pedido {
     @Column(nullable = false)
     private String enderecoEntrega;
 
+    // Coordenadas do endereço de entrega (graus decimais, WGS 84), quando informadas
+    @Column(name = "latitude_entrega")
+    private Double latitudeEntrega;
+
+    @Column(name = "longitude_entrega")
+    private Double longitudeEntrega;
+
     private LocalDateTime dataEntrega;
 
     // Enum para Status do Pedido
+    // Ciclo: PENDENTE -> CONFIRMADO -> EM_PREPARACAO -> SAIU_PARA_ENTREGA -> ENTREGUE,
+    // com cancelamento possível em qualquer etapa antes da entrega
     public enum StatusPedido {
         PENDENTE,
         CONFIRMADO,
         EM_PREPARACAO,
         SAIU_PARA_ENTREGA,
         ENTREGUE,
-        CANCELADO
+        CANCELADO;
+
+        /**
+         * Status a partir dos quais um pedido pode passar para este.
+         * Vazio para PENDENTE, que é apenas o status inicial.
+         */
+        public Set<StatusPedido> origens() {
+            return switch (this) {
+                case PENDENTE -> Set.of();
+                case CONFIRMADO -> Set.of(PENDENTE);
+                case EM_PREPARACAO -> Set.of(CONFIRMADO);
+                case SAIU_PARA_ENTREGA -> Set.of(EM_PREPARACAO);
+                case ENTREGUE -> Set.of(SAIU_PARA_ENTREGA);
+                case CANCELADO -> Set.of(PENDENTE, CONFIRMADO, EM_PREPARACAO, SAIU_PARA_ENTREGA);
+            };
+        }
+
+        public boolean podeMudarPara(StatusPedido destino) {
+            return destino.origens().contains(this);
+        }
+
+        // ENTREGUE e CANCELADO não mudam mais
+        public boolean finalizado() {
+            return this == ENTREGUE || this == CANCELADO;
+        }
     }
 
     // Construtores
@@ -109,6 +180,22 @@ public class Pedido {
         this.status = status;
     }
 
+    public StatusPedido getStatusAnterior() {
+        return statusAnterior;
+    }
+
+    public void setStatusAnterior(StatusPedido statusAnterior) {
+        this.statusAnterior = statusAnterior;
+    }
+
+    public Long getVersao() {
+        return versao;
+    }
+
+    public void setVersao(Long versao) {
+        this.versao = versao;
+    }
+
     public BigDecimal getValorTotal() {
         return valorTotal;
     }
@@ -133,6 +220,22 @@ public class Pedido {
         this.enderecoEntrega = enderecoEntrega;
     }
 
+    public Double getLatitudeEntrega() {
+        return latitudeEntrega;
+    }
+
+    public void setLatitudeEntrega(Double latitudeEntrega) {
+        this.latitudeEntrega = latitudeEntrega;
+    }
+
+    public Double getLongitudeEntrega() {
+        return longitudeEntrega;
+    }
+
+    public void setLongitudeEntrega(Double longitudeEntrega) {
+        this.longitudeEntrega = longitudeEntrega;
+    }
+
     public LocalDateTime getDataEntrega() {
         return dataEntrega;
     }
@@ -4,15 +4,22 @@ import java.math.BigDecimal;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "produtos")
+@Table(name = "produtos", indexes = {
+    @Index(name = "idx_produtos_restaurante_disponivel_categoria", columnList = "restaurante_id, disponivel, categoria"),
+    @Index(name = "idx_produtos_disponivel_categoria", columnList = "disponivel, categoria"),
+    @Index(name = "idx_produtos_categoria", columnList = "categoria"),
+    @Index(name = "idx_produtos_preco", columnList = "preco")
+})
 public class Produto {
 
     @Id
@@ -34,7 +41,7 @@ public class Produto {
     @Column(nullable = false)
     private Boolean disponivel = true;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "restaurante_id", nullable = false)
     private Restaurante restaurante;
 
@@ -2,15 +2,22 @@ package com.deliverytech.delivery_api.entity;
 
 import java.time.LocalDateTime;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "restaurantes")
+@Table(name = "restaurantes", indexes = {
+    @Index(name = "idx_restaurantes_ativo_avaliacao", columnList = "ativo, avaliacao"),
+    @Index(name = "idx_restaurantes_ativo_categoria", columnList = "ativo, categoria"),
+    @Index(name = "idx_restaurantes_categoria_ativo", columnList = "categoria, ativo, avaliacao")
+})
 public class Restaurante {
 
     @Id
@@ -39,6 +46,18 @@ public class Restaurante {
 
     private String horarioFuncionamento;
 
+    // Coordenadas (graus decimais, WGS 84); sem elas o restaurante não aparece em /restaurantes/proximos
+    private Double latitude;
+
+    private Double longitude;
+
+    // Incrementada a cada alteração do restaurante ou do cardápio; base do ETag do catálogo.
+    // Só muda por RestauranteRepository.incrementarVersaoCatalogo: salvar uma entidade lida
+    // antes de um incremento concorrente não volta a versão
+    @JsonIgnore
+    @Column(name = "versao_catalogo", nullable = false, updatable = false)
+    private Long versaoCatalogo = 0L;
+
     // Construtores
     public Restaurante() {
     }
@@ -122,4 +141,28 @@ public class Restaurante {
     public void setHorarioFuncionamento(String horarioFuncionamento) {
         this.horarioFuncionamento = horarioFuncionamento;
     }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+
+    public Long getVersaoCatalogo() {
+        return versaoCatalogo;
+    }
+
+    public void setVersaoCatalogo(Long versaoCatalogo) {
+        this.versaoCatalogo = versaoCatalogo;
+    }
 }
@@ -0,0 +1,109 @@
+package com.deliverytech.delivery_api.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.deliverytech.delivery_api.entity.Pedido.StatusPedido;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * Vendas acumuladas por hora, restaurante e status.
+ * A hora é a data do pedido truncada para a hora cheia.
+ */
+@Entity
+@Table(
+    name = "vendas_por_hora",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"hora", "restaurante_id", "status"})
+)
+public class VendaHoraria {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDateTime hora;
+
+    @Column(name = "restaurante_id", nullable = false)
+    private Long restauranteId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private StatusPedido status;
+
+    @Column(nullable = false)
+    private Long quantidade = 0L;
+
+    @Column(name = "valor_total", nullable = false, precision = 14, scale = 2)
+    private BigDecimal valorTotal = BigDecimal.ZERO;
+
+    // Construtores
+    public VendaHoraria() {
+    }
+
+    public VendaHoraria(LocalDateTime hora, Long restauranteId, StatusPedido status, Long quantidade, BigDecimal valorTotal) {
+        this.hora = hora;
+        this.restauranteId = restauranteId;
+        this.status = status;
+        this.quantidade = quantidade;
+        this.valorTotal = valorTotal;
+    }
+
+    // Getters e Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public LocalDateTime getHora() {
+        return hora;
+    }
+
+    public void setHora(LocalDateTime hora) {
+        this.hora = hora;
+    }
+
+    public Long getRestauranteId() {
+        return restauranteId;
+    }
+
+    public void setRestauranteId(Long restauranteId) {
+        this.restauranteId = restauranteId;
+    }
+
+    public StatusPedido getStatus() {
+        return status;
+    }
+
+    public void setStatus(StatusPedido status) {
+        this.status = status;
+    }
+
+    public Long getQuantidade() {
+        return quantidade;
+    }
+
+    public void setQuantidade(Long quantidade) {
+        this.quantidade = quantidade;
+    }
+
+    public BigDecimal getValorTotal() {
+        return valorTotal;
+    }
+
+    public void setValorTotal(BigDecimal valorTotal) {
+        this.valorTotal = valorTotal;
+    }
+}
@@ -0,0 +1,12 @@
+package com.deliverytech.delivery_api.exception;
+
+/**
+ * Recurso limitado por instância esgotado (ex: inscrições de eventos).
+ * Respondida com 503 Service Unavailable e Retry-After.
+ */
+public class CapacidadeEsgotadaException extends RuntimeException {
+
+    public CapacidadeEsgotadaException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.deliverytech.delivery_api.exception;
+
+/**
+ * Operação recusada pelo estado atual do recurso (ex: transição de status inválida
+ * ou pedido alterado por outra requisição). Respondida com 409 Conflict.
+ */
+public class ConflitoException extends RuntimeException {
+
+    public ConflitoException(String message) {
+        super(message);
+    }
+}
@@ -5,14 +5,19 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.async.AsyncRequestNotUsableException;
 
 /**
  * Handler global de exceções para respostas HTTP adequadas.
+ * As respostas fixam Content-Type JSON: também valem para endpoints que produzem
+ * outro formato (ex: text/event-stream) e falham antes de começar a responder.
  */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -37,7 +42,9 @@ public class GlobalExceptionHandler {
         response.put("errors", errors);
         response.put("message", "Erro de validação");
 
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(response);
     }
 
     /**
@@ -52,7 +59,9 @@ public class GlobalExceptionHandler {
         response.put("status", HttpStatus.NOT_FOUND.value());
         response.put("message", ex.getMessage());
 
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(response);
     }
 
     /**
@@ -67,7 +76,69 @@ public class GlobalExceptionHandler {
         response.put("status", HttpStatus.BAD_REQUEST.value());
         response.put("message", ex.getMessage());
 
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(response);
+    }
+
+    /**
+     * Trata ConflitoException (ex: transição de status concorrente ou inválida)
+     */
+    @ExceptionHandler(ConflitoException.class)
+    public ResponseEntity<Map<String, Object>> handleConflito(
+        ConflitoException ex
+    ) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("timestamp", LocalDateTime.now());
+        response.put("status", HttpStatus.CONFLICT.value());
+        response.put("message", ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(response);
+    }
+
+    /**
+     * Trata falta de conexão com o banco (pool ou limite de concorrência esgotado)
+     */
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<Map<String, Object>> handleCannotCreateTransaction(
+        CannotCreateTransactionException ex
+    ) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("timestamp", LocalDateTime.now());
+        response.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.put("message", "Banco de dados sobrecarregado, tente novamente");
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .contentType(MediaType.APPLICATION_JSON)
+            .header("Retry-After", "1")
+            .body(response);
+    }
+
+    /**
+     * Trata CapacidadeEsgotadaException (ex: limite de inscrições de eventos atingido)
+     */
+    @ExceptionHandler(CapacidadeEsgotadaException.class)
+    public ResponseEntity<Map<String, Object>> handleCapacidadeEsgotada(
+        CapacidadeEsgotadaException ex
+    ) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("timestamp", LocalDateTime.now());
+        response.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.put("message", ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .contentType(MediaType.APPLICATION_JSON)
+            .header("Retry-After", "5")
+            .body(response);
+    }
+
+    /**
+     * Cliente desconectou durante uma resposta assíncrona (ex: eventos SSE): não há a quem responder
+     */
+    @ExceptionHandler(AsyncRequestNotUsableException.class)
+    public void handleConexaoEncerrada(AsyncRequestNotUsableException ex) {
     }
 
     /**
@@ -83,6 +154,8 @@ public class GlobalExceptionHandler {
         response.put("message", "Erro interno do servidor");
         response.put("details", ex.getMessage());
 
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(response);
     }
 }
@@ -0,0 +1,69 @@
+package com.deliverytech.delivery_api.repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.deliverytech.delivery_api.entity.AgregadoPedido;
+import com.deliverytech.delivery_api.entity.AgregadoPedido.Escopo;
+import com.deliverytech.delivery_api.entity.Pedido.StatusPedido;
+
+/**
+ * Repository para os agregados de pedidos por restaurante e por cliente.
+ */
+@Repository
+public interface AgregadoPedidoRepository extends JpaRepository<AgregadoPedido, Long> {
+
+    /**
+     * Busca os agregados (um por status) de um restaurante ou cliente.
+     *
+     * @param escopo Restaurante ou cliente
+     * @param referenciaId ID do restaurante ou cliente
+     * @return Lista de agregados por status
+     */
+    List<AgregadoPedido> findByEscopoAndReferenciaId(Escopo escopo, Long referenciaId);
+
+    /**
+     * Soma quantidade e valor a um agregado diretamente no banco.
+     * Atualização atômica: pedidos concorrentes não sobrescrevem o total um do outro.
+     *
+     * @param escopo Restaurante ou cliente
+     * @param referenciaId ID do restaurante ou cliente
+     * @param status Status do pedido
+     * @param quantidade Quantidade a somar (negativa para subtrair)
+     * @param valor Valor a somar (negativo para subtrair)
+     * @return Número de linhas atualizadas (0 se o agregado ainda não existe)
+     */
+    @Modifying
+    @Query("UPDATE AgregadoPedido a SET a.quantidade = a.quantidade + :quantidade, a.valorTotal = a.valorTotal + :valor WHERE a.escopo = :escopo AND a.referenciaId = :referenciaId AND a.status = :status")
+    int incrementar(
+        @Param("escopo") Escopo escopo,
+        @Param("referenciaId") Long referenciaId,
+        @Param("status") StatusPedido status,
+        @Param("quantidade") long quantidade,
+        @Param("valor") BigDecimal valor
+    );
+
+    /**
+     * Recalcula os agregados por restaurante a partir da tabela de pedidos.
+     *
+     * @return Número de agregados inseridos
+     */
+    @Modifying
+    @Query(value = "INSERT INTO agregados_pedidos (escopo, referencia_id, status, quantidade, valor_total) SELECT 'RESTAURANTE', restaurante_id, status, COUNT(*), SUM(valor_total) FROM pedidos GROUP BY restaurante_id, status", nativeQuery = true)
+    int reconstruirPorRestaurante();
+
+    /**
+     * Recalcula os agregados por cliente a partir da tabela de pedidos.
+     *
+     * @return Número de agregados inseridos
+     */
+    @Modifying
+    @Query(value = "INSERT INTO agregados_pedidos (escopo, referencia_id, status, quantidade, valor_total) SELECT 'CLIENTE', cliente_id, status, COUNT(*), SUM(valor_total) FROM pedidos GROUP BY cliente_id, status", nativeQuery = true)
+    int reconstruirPorCliente();
+}
@@ -0,0 +1,48 @@
+package com.deliverytech.delivery_api.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.deliverytech.delivery_api.entity.EventoOutbox;
+
+/**
+ * Repository para os eventos pendentes de publicação (outbox).
+ */
+@Repository
+public interface EventoOutboxRepository extends JpaRepository<EventoOutbox, Long> {
+
+    /**
+     * Bloqueia os eventos pendentes mais antigos, pulando os já bloqueados por outra
+     * instância do relay. Deve ser chamado dentro de uma transação; os bloqueios valem até o commit.
+     * Consulta nativa: o dialeto H2 do Hibernate descarta o SKIP LOCKED das dicas de bloqueio.
+     *
+     * @param limite Máximo de eventos
+     * @return Eventos em ordem de ID
+     */
+    @Query(value = "SELECT * FROM eventos_outbox ORDER BY id FETCH FIRST :limite ROWS ONLY FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<EventoOutbox> reservarPendentes(@Param("limite") int limite);
+
+    /**
+     * Remove os eventos publicados.
+     *
+     * @param ids IDs dos eventos
+     * @return Número de linhas removidas
+     */
+    @Modifying
+    @Query("DELETE FROM EventoOutbox e WHERE e.id IN :ids")
+    int removerPublicados(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Evento pendente mais antigo, para medir o atraso do relay.
+     *
+     * @return Evento de menor ID, se houver
+     */
+    Optional<EventoOutbox> findFirstByOrderByIdAsc();
+}
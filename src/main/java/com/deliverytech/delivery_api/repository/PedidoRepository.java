@@ -2,18 +2,33 @@ package com.deliverytech.delivery_api.repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.deliverytech.delivery_api.dto.PedidoPainelDTO;
+import com.deliverytech.delivery_api.dto.PedidoResumoDTO;
 import com.deliverytech.delivery_api.entity.Cliente;
 import com.deliverytech.delivery_api.entity.Pedido;
 import com.deliverytech.delivery_api.entity.Pedido.StatusPedido;
 import com.deliverytech.delivery_api.entity.Restaurante;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
 /**
  * Repository para gerenciamento de pedidos.
  * Utiliza Spring Data JPA para operações de banco de dados.
@@ -21,6 +36,24 @@ import com.deliverytech.delivery_api.entity.Restaurante;
 @Repository
 public interface PedidoRepository extends JpaRepository<Pedido, Long> {
 
+    /**
+     * Busca um pedido com cliente e restaurante no mesmo SELECT (grafo "Pedido.detalhe").
+     *
+     * @param id ID do pedido
+     * @return Optional contendo o pedido com as associações carregadas
+     */
+    @EntityGraph("Pedido.detalhe")
+    Optional<Pedido> findDetalheById(Long id);
+
+    /**
+     * Busca vários pedidos com cliente e restaurante no mesmo SELECT (grafo "Pedido.detalhe").
+     *
+     * @param ids IDs dos pedidos
+     * @return Pedidos encontrados ordenados por ID
+     */
+    @EntityGraph("Pedido.detalhe")
+    List<Pedido> findDetalheByIdInOrderById(Collection<Long> ids);
+
     /**
      * Busca pedidos por cliente.
      *
@@ -102,6 +135,25 @@ public interface PedidoRepository extends JpaRepository<Pedido, Long> {
         @Param("dataFim") LocalDateTime dataFim
     );
 
+    /**
+     * Percorre os pedidos de um período com cursor JDBC somente-leitura.
+     * Cliente e restaurante vêm no mesmo SELECT para evitar consultas por linha.
+     * O Stream deve ser consumido dentro de uma transação e fechado ao final.
+     *
+     * @param dataInicio Data inicial
+     * @param dataFim Data final
+     * @return Stream de pedidos no período, do mais antigo para o mais recente
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM Pedido p JOIN FETCH p.cliente JOIN FETCH p.restaurante WHERE p.dataPedido BETWEEN :dataInicio AND :dataFim ORDER BY p.dataPedido, p.id")
+    Stream<Pedido> streamByDataPedidoBetween(
+        @Param("dataInicio") LocalDateTime dataInicio,
+        @Param("dataFim") LocalDateTime dataFim
+    );
+
     /**
      * Busca pedidos de um cliente em um período.
      *
@@ -166,6 +218,20 @@ public interface PedidoRepository extends JpaRepository<Pedido, Long> {
         @Param("dataFim") LocalDateTime dataFim
     );
 
+    /**
+     * Calcula o valor total de pedidos no intervalo semiaberto [dataInicio, dataFim).
+     * Usado para as bordas parciais de períodos somados a partir das vendas por hora.
+     *
+     * @param dataInicio Data inicial (inclusiva)
+     * @param dataFim Data final (exclusiva)
+     * @return Valor total de vendas no intervalo
+     */
+    @Query("SELECT COALESCE(SUM(p.valorTotal), 0) FROM Pedido p WHERE p.dataPedido >= :dataInicio AND p.dataPedido < :dataFim AND p.status != 'CANCELADO'")
+    BigDecimal calcularTotalVendasNoIntervalo(
+        @Param("dataInicio") LocalDateTime dataInicio,
+        @Param("dataFim") LocalDateTime dataFim
+    );
+
     /**
      * Conta pedidos por status.
      *
@@ -235,4 +301,138 @@ public interface PedidoRepository extends JpaRepository<Pedido, Long> {
      */
     @Query("SELECT p FROM Pedido p WHERE p.valorTotal >= :valorMinimo ORDER BY p.valorTotal DESC")
     List<Pedido> findPedidosAcimaDeValor(@Param("valorMinimo") BigDecimal valorMinimo);
+
+    /**
+     * Busca a página de pedidos seguinte ao cursor (dataPedido, id), do mais recente para o mais antigo.
+     * Paginação por keyset: não utiliza OFFSET, o custo independe da profundidade da página.
+     * A condição "dataPedido <= cursor" permite o uso do índice em data_pedido.
+     * Retorna projeções: cliente e restaurante entram no mesmo SELECT, só com id e nome.
+     *
+     * @param dataPedido Data do último pedido da página anterior
+     * @param id ID do último pedido da página anterior
+     * @param limit Quantidade máxima de pedidos
+     * @return Resumos dos pedidos após o cursor
+     */
+    @Query("SELECT new com.deliverytech.delivery_api.dto.PedidoResumoDTO(p.id, p.dataPedido, p.status, p.valorTotal, c.id, c.nome, r.id, r.nome) FROM Pedido p JOIN p.cliente c JOIN p.restaurante r WHERE p.dataPedido <= :dataPedido AND (p.dataPedido < :dataPedido OR p.id < :id) ORDER BY p.dataPedido DESC, p.id DESC")
+    List<PedidoResumoDTO> findPaginaAposCursor(
+        @Param("dataPedido") LocalDateTime dataPedido,
+        @Param("id") Long id,
+        Limit limit
+    );
+
+    /**
+     * Busca a página de pedidos de um cliente seguinte ao cursor (dataPedido, id).
+     *
+     * @param clienteId ID do cliente
+     * @param dataPedido Data do último pedido da página anterior
+     * @param id ID do último pedido da página anterior
+     * @param limit Quantidade máxima de pedidos
+     * @return Resumos dos pedidos do cliente após o cursor
+     */
+    @Query("SELECT new com.deliverytech.delivery_api.dto.PedidoResumoDTO(p.id, p.dataPedido, p.status, p.valorTotal, c.id, c.nome, r.id, r.nome) FROM Pedido p JOIN p.cliente c JOIN p.restaurante r WHERE p.cliente.id = :clienteId AND p.dataPedido <= :dataPedido AND (p.dataPedido < :dataPedido OR p.id < :id) ORDER BY p.dataPedido DESC, p.id DESC")
+    List<PedidoResumoDTO> findPaginaByClienteAposCursor(
+        @Param("clienteId") Long clienteId,
+        @Param("dataPedido") LocalDateTime dataPedido,
+        @Param("id") Long id,
+        Limit limit
+    );
+
+    /**
+     * Busca a página de pedidos de um restaurante seguinte ao cursor (dataPedido, id).
+     *
+     * @param restauranteId ID do restaurante
+     * @param dataPedido Data do último pedido da página anterior
+     * @param id ID do último pedido da página anterior
+     * @param limit Quantidade máxima de pedidos
+     * @return Resumos dos pedidos do restaurante após o cursor
+     */
+    @Query("SELECT new com.deliverytech.delivery_api.dto.PedidoResumoDTO(p.id, p.dataPedido, p.status, p.valorTotal, c.id, c.nome, r.id, r.nome) FROM Pedido p JOIN p.cliente c JOIN p.restaurante r WHERE p.restaurante.id = :restauranteId AND p.dataPedido <= :dataPedido AND (p.dataPedido < :dataPedido OR p.id < :id) ORDER BY p.dataPedido DESC, p.id DESC")
+    List<PedidoResumoDTO> findPaginaByRestauranteAposCursor(
+        @Param("restauranteId") Long restauranteId,
+        @Param("dataPedido") LocalDateTime dataPedido,
+        @Param("id") Long id,
+        Limit limit
+    );
+
+    /**
+     * Busca a página de pedidos com um status seguinte ao cursor (dataPedido, id).
+     *
+     * @param status Status do pedido
+     * @param dataPedido Data do último pedido da página anterior
+     * @param id ID do último pedido da página anterior
+     * @param limit Quantidade máxima de pedidos
+     * @return Resumos dos pedidos com o status após o cursor
+     */
+    @Query("SELECT new com.deliverytech.delivery_api.dto.PedidoResumoDTO(p.id, p.dataPedido, p.status, p.valorTotal, c.id, c.nome, r.id, r.nome) FROM Pedido p JOIN p.cliente c JOIN p.restaurante r WHERE p.status = :status AND p.dataPedido <= :dataPedido AND (p.dataPedido < :dataPedido OR p.id < :id) ORDER BY p.dataPedido DESC, p.id DESC")
+    List<PedidoResumoDTO> findPaginaByStatusAposCursor(
+        @Param("status") StatusPedido status,
+        @Param("dataPedido") LocalDateTime dataPedido,
+        @Param("id") Long id,
+        Limit limit
+    );
+
+    /**
+     * Busca todos os pedidos em andamento com a versão, para carregar o painel em memória.
+     *
+     * @return Pedidos não finalizados, sem ordem definida
+     */
+    @Query("SELECT new com.deliverytech.delivery_api.dto.PedidoPainelDTO(p.id, p.dataPedido, p.status, p.valorTotal, c.id, c.nome, r.id, r.nome, p.versao) FROM Pedido p JOIN p.cliente c JOIN p.restaurante r WHERE p.status IN ('PENDENTE', 'CONFIRMADO', 'EM_PREPARACAO', 'SAIU_PARA_ENTREGA')")
+    List<PedidoPainelDTO> findPainelPendentes();
+
+    /**
+     * Muda o status do pedido em um único UPDATE condicional, sem leitura prévia.
+     * Só altera a linha se o status atual estiver entre as origens permitidas e,
+     * quando informada, se a versão ainda for a esperada. Guarda o status substituído
+     * em statusAnterior e incrementa a versão.
+     *
+     * @param id ID do pedido
+     * @param origens Status a partir dos quais a transição é permitida
+     * @param versao Versão esperada, ou null para não conferir
+     * @param novoStatus Novo status
+     * @param dataEntrega Data de entrega a registrar, ou null para manter a atual
+     * @return 1 se o pedido mudou de status, 0 se não existe ou se a condição falhou
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Pedido p SET p.statusAnterior = p.status, p.status = :novoStatus, p.versao = p.versao + 1, p.dataEntrega = COALESCE(:dataEntrega, p.dataEntrega) WHERE p.id = :id AND p.status IN :origens AND (:versao IS NULL OR p.versao = :versao)")
+    int transicionarStatus(
+        @Param("id") Long id,
+        @Param("origens") Set<StatusPedido> origens,
+        @Param("versao") Long versao,
+        @Param("novoStatus") StatusPedido novoStatus,
+        @Param("dataEntrega") LocalDateTime dataEntrega
+    );
+
+    /**
+     * Bloqueia (SELECT ... FOR UPDATE) os pedidos do lote que podem mudar de status,
+     * em ordem de ID para que lotes concorrentes não entrem em deadlock.
+     *
+     * @param ids IDs dos pedidos do lote
+     * @param origens Status a partir dos quais a transição é permitida
+     * @return Pedidos elegíveis, bloqueados até o fim da transação
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Pedido p WHERE p.id IN :ids AND p.status IN :origens ORDER BY p.id")
+    List<Pedido> findElegiveisParaTransicao(
+        @Param("ids") Collection<Long> ids,
+        @Param("origens") Set<StatusPedido> origens
+    );
+
+    /**
+     * Muda o status de vários pedidos em um único UPDATE, com as mesmas condições
+     * de transicionarStatus (exceto a versão).
+     *
+     * @param ids IDs dos pedidos
+     * @param origens Status a partir dos quais a transição é permitida
+     * @param novoStatus Novo status
+     * @param dataEntrega Data de entrega a registrar, ou null para manter a atual
+     * @return Quantidade de pedidos alterados
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Pedido p SET p.statusAnterior = p.status, p.status = :novoStatus, p.versao = p.versao + 1, p.dataEntrega = COALESCE(:dataEntrega, p.dataEntrega) WHERE p.id IN :ids AND p.status IN :origens")
+    int transicionarStatusEmLote(
+        @Param("ids") Collection<Long> ids,
+        @Param("origens") Set<StatusPedido> origens,
+        @Param("novoStatus") StatusPedido novoStatus,
+        @Param("dataEntrega") LocalDateTime dataEntrega
+    );
 }
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.deliverytech.delivery_api.dto.ProdutoResumoDTO;
 import com.deliverytech.delivery_api.entity.Produto;
 import com.deliverytech.delivery_api.entity.Restaurante;
 
@@ -181,4 +182,39 @@ public interface ProdutoRepository extends JpaRepository<Produto, Long> {
      * @return Lista de produtos disponíveis
      */
     List<Produto> findByDisponivel(Boolean disponivel);
+
+    /**
+     * Lista resumos de todos os produtos, sem carregar os restaurantes.
+     *
+     * @return Resumos de todos os produtos
+     */
+    @Query("SELECT new com.deliverytech.delivery_api.dto.ProdutoResumoDTO(p.id, p.nome, p.descricao, p.preco, p.categoria, p.disponivel, p.imagemUrl, p.restaurante.id) FROM Produto p")
+    List<ProdutoResumoDTO> findAllResumos();
+
+    /**
+     * Busca resumos dos produtos de um restaurante, sem carregar o restaurante.
+     *
+     * @param restauranteId ID do restaurante
+     * @return Resumos dos produtos do restaurante
+     */
+    @Query("SELECT new com.deliverytech.delivery_api.dto.ProdutoResumoDTO(p.id, p.nome, p.descricao, p.preco, p.categoria, p.disponivel, p.imagemUrl, p.restaurante.id) FROM Produto p WHERE p.restaurante.id = :restauranteId")
+    List<ProdutoResumoDTO> findResumosByRestauranteId(@Param("restauranteId") Long restauranteId);
+
+    /**
+     * Busca resumos dos produtos disponíveis de um restaurante.
+     *
+     * @param restauranteId ID do restaurante
+     * @return Resumos dos produtos disponíveis
+     */
+    @Query("SELECT new com.deliverytech.delivery_api.dto.ProdutoResumoDTO(p.id, p.nome, p.descricao, p.preco, p.categoria, p.disponivel, p.imagemUrl, p.restaurante.id) FROM Produto p WHERE p.restaurante.id = :restauranteId AND p.disponivel = true")
+    List<ProdutoResumoDTO> findResumosDisponiveisByRestaurante(@Param("restauranteId") Long restauranteId);
+
+    /**
+     * Busca resumos dos produtos de uma categoria.
+     *
+     * @param categoria Categoria do produto
+     * @return Resumos dos produtos da categoria
+     */
+    @Query("SELECT new com.deliverytech.delivery_api.dto.ProdutoResumoDTO(p.id, p.nome, p.descricao, p.preco, p.categoria, p.disponivel, p.imagemUrl, p.restaurante.id) FROM Produto p WHERE p.categoria = :categoria")
+    List<ProdutoResumoDTO> findResumosByCategoria(@Param("categoria") String categoria);
 }
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -130,4 +131,24 @@ public interface RestauranteRepository extends JpaRepository<Restaurante, Long>
      */
     @Query("SELECT r FROM Restaurante r WHERE r.ativo = true AND r.avaliacao BETWEEN :min AND :max ORDER BY r.avaliacao DESC")
     List<Restaurante> findByAvaliacaoEntre(@Param("min") Double min, @Param("max") Double max);
+
+    /**
+     * Incrementa a versão do catálogo do restaurante (restaurante alterado ou produtos criados,
+     * alterados ou removidos). Único ponto de escrita da coluna: é atômico entre transações concorrentes.
+     *
+     * @param id ID do restaurante
+     * @return Número de linhas atualizadas
+     */
+    @Modifying
+    @Query("UPDATE Restaurante r SET r.versaoCatalogo = r.versaoCatalogo + 1 WHERE r.id = :id")
+    int incrementarVersaoCatalogo(@Param("id") Long id);
+
+    /**
+     * Busca apenas a versão do catálogo do restaurante, sem carregar a entidade.
+     *
+     * @param id ID do restaurante
+     * @return Optional com a versão, vazio se o restaurante não existe
+     */
+    @Query("SELECT r.versaoCatalogo FROM Restaurante r WHERE r.id = :id")
+    Optional<Long> findVersaoCatalogoById(@Param("id") Long id);
 }
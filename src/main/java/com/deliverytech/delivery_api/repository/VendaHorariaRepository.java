@@ -0,0 +1,93 @@
+package com.deliverytech.delivery_api.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.deliverytech.delivery_api.dto.PontoSerieVendasDTO;
+import com.deliverytech.delivery_api.dto.VendasRestauranteDTO;
+import com.deliverytech.delivery_api.entity.Pedido.StatusPedido;
+import com.deliverytech.delivery_api.entity.VendaHoraria;
+
+/**
+ * Repository para as vendas acumuladas por hora.
+ */
+@Repository
+public interface VendaHorariaRepository extends JpaRepository<VendaHoraria, Long> {
+
+    /**
+     * Soma quantidade e valor às vendas de uma hora diretamente no banco.
+     *
+     * @param hora Hora cheia do pedido
+     * @param restauranteId ID do restaurante
+     * @param status Status do pedido
+     * @param quantidade Quantidade a somar (negativa para subtrair)
+     * @param valor Valor a somar (negativo para subtrair)
+     * @return Número de linhas atualizadas (0 se a hora ainda não existe)
+     */
+    @Modifying
+    @Query("UPDATE VendaHoraria v SET v.quantidade = v.quantidade + :quantidade, v.valorTotal = v.valorTotal + :valor WHERE v.hora = :hora AND v.restauranteId = :restauranteId AND v.status = :status")
+    int incrementar(
+        @Param("hora") LocalDateTime hora,
+        @Param("restauranteId") Long restauranteId,
+        @Param("status") StatusPedido status,
+        @Param("quantidade") long quantidade,
+        @Param("valor") BigDecimal valor
+    );
+
+    /**
+     * Soma as vendas das horas no intervalo [horaInicio, horaFim).
+     *
+     * @param horaInicio Primeira hora (inclusiva)
+     * @param horaFim Última hora (exclusiva)
+     * @return Valor total de vendas, sem cancelados
+     */
+    @Query("SELECT COALESCE(SUM(v.valorTotal), 0) FROM VendaHoraria v WHERE v.hora >= :horaInicio AND v.hora < :horaFim AND v.status != 'CANCELADO'")
+    BigDecimal somarVendas(
+        @Param("horaInicio") LocalDateTime horaInicio,
+        @Param("horaFim") LocalDateTime horaFim
+    );
+
+    /**
+     * Busca a série horária de vendas, opcionalmente de um único restaurante.
+     *
+     * @param horaInicio Primeira hora (inclusiva)
+     * @param horaFim Última hora (inclusiva)
+     * @param restauranteId ID do restaurante ou null para todos
+     * @return Pontos da série ordenados por hora
+     */
+    @Query("SELECT new com.deliverytech.delivery_api.dto.PontoSerieVendasDTO(v.hora, SUM(v.quantidade), SUM(v.valorTotal)) FROM VendaHoraria v WHERE v.hora >= :horaInicio AND v.hora <= :horaFim AND v.status != 'CANCELADO' AND (:restauranteId IS NULL OR v.restauranteId = :restauranteId) GROUP BY v.hora ORDER BY v.hora")
+    List<PontoSerieVendasDTO> buscarSerieHoraria(
+        @Param("horaInicio") LocalDateTime horaInicio,
+        @Param("horaFim") LocalDateTime horaFim,
+        @Param("restauranteId") Long restauranteId
+    );
+
+    /**
+     * Soma, por restaurante, a quantidade de pedidos em um status a partir de uma hora.
+     *
+     * @param horaInicio Primeira hora (inclusiva)
+     * @param status Status do pedido
+     * @return Quantidade por restaurante (apenas restaurantes com pedidos)
+     */
+    @Query("SELECT new com.deliverytech.delivery_api.dto.VendasRestauranteDTO(v.restauranteId, SUM(v.quantidade)) FROM VendaHoraria v WHERE v.hora >= :horaInicio AND v.status = :status GROUP BY v.restauranteId")
+    List<VendasRestauranteDTO> somarQuantidadePorRestaurante(
+        @Param("horaInicio") LocalDateTime horaInicio,
+        @Param("status") StatusPedido status
+    );
+
+    /**
+     * Recalcula as vendas por hora a partir da tabela de pedidos.
+     *
+     * @return Número de linhas inseridas
+     */
+    @Modifying
+    @Query(value = "INSERT INTO vendas_por_hora (hora, restaurante_id, status, quantidade, valor_total) SELECT DATE_TRUNC('HOUR', data_pedido), restaurante_id, status, COUNT(*), SUM(valor_total) FROM pedidos GROUP BY DATE_TRUNC('HOUR', data_pedido), restaurante_id, status", nativeQuery = true)
+    int reconstruir();
+}
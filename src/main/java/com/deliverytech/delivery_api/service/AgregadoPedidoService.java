@@ -0,0 +1,292 @@
+package com.deliverytech.delivery_api.service;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntSupplier;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.deliverytech.delivery_api.dto.PontoSerieVendasDTO;
+import com.deliverytech.delivery_api.dto.ResumoPedidosDTO;
+import com.deliverytech.delivery_api.entity.AgregadoPedido;
+import com.deliverytech.delivery_api.entity.AgregadoPedido.Escopo;
+import com.deliverytech.delivery_api.entity.Pedido;
+import com.deliverytech.delivery_api.entity.Pedido.StatusPedido;
+import com.deliverytech.delivery_api.entity.VendaHoraria;
+import com.deliverytech.delivery_api.repository.AgregadoPedidoRepository;
+import com.deliverytech.delivery_api.repository.PedidoRepository;
+import com.deliverytech.delivery_api.repository.VendaHorariaRepository;
+
+/**
+ * Service que mantém os agregados de vendas por restaurante, por cliente e por hora.
+ * Atualizado na mesma transação das operações de PedidoService.
+ * Cada agregado é somado com um UPDATE, ou inserido se ainda não existe. Quando dois pedidos
+ * inserem a mesma linha ao mesmo tempo, o segundo INSERT falha na chave única e o UPDATE é
+ * repetido sobre a linha do primeiro; nenhuma linha de restaurante ou cliente é bloqueada.
+ */
+@Service
+@Transactional
+public class AgregadoPedidoService {
+
+    // Granularidade das séries temporais de vendas
+    public enum Granularidade {
+        HORA,
+        DIA
+    }
+
+    // SQLState padrão de violação de chave única (H2, PostgreSQL)
+    private static final String VIOLACAO_CHAVE_UNICA = "23505";
+    private static final String INSERIR_AGREGADO = "INSERT INTO agregados_pedidos "
+        + "(escopo, referencia_id, status, quantidade, valor_total) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERIR_VENDA_HORARIA = "INSERT INTO vendas_por_hora "
+        + "(hora, restaurante_id, status, quantidade, valor_total) VALUES (?, ?, ?, ?, ?)";
+
+    private final AgregadoPedidoRepository agregadoPedidoRepository;
+    private final VendaHorariaRepository vendaHorariaRepository;
+    private final PedidoRepository pedidoRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public AgregadoPedidoService(AgregadoPedidoRepository agregadoPedidoRepository,
+                                 VendaHorariaRepository vendaHorariaRepository,
+                                 PedidoRepository pedidoRepository,
+                                 JdbcTemplate jdbcTemplate) {
+        this.agregadoPedidoRepository = agregadoPedidoRepository;
+        this.vendaHorariaRepository = vendaHorariaRepository;
+        this.pedidoRepository = pedidoRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void registrarCriacao(Pedido pedido) {
+        registrarCriacoes(List.of(pedido));
+    }
+
+    /**
+     * Registra vários pedidos novos. As variações que caem no mesmo agregado são somadas
+     * antes: um UPDATE por agregado afetado, não por pedido.
+     */
+    public void registrarCriacoes(List<Pedido> pedidos) {
+        Variacoes variacoes = new Variacoes();
+        for (Pedido pedido : pedidos) {
+            variacoes.somar(pedido, pedido.getStatus(), 1, pedido.getValorTotal());
+        }
+        aplicar(variacoes);
+    }
+
+    public void registrarMudancaStatus(Pedido pedido, StatusPedido statusAnterior) {
+        if (statusAnterior == pedido.getStatus()) {
+            return;
+        }
+        Variacoes variacoes = new Variacoes();
+        variacoes.somar(pedido, statusAnterior, -1, pedido.getValorTotal().negate());
+        variacoes.somar(pedido, pedido.getStatus(), 1, pedido.getValorTotal());
+        aplicar(variacoes);
+    }
+
+    /**
+     * Registra mudanças de status já gravadas, de statusAnterior para status de cada pedido,
+     * somando as variações por agregado como em registrarCriacoes.
+     */
+    public void registrarMudancasStatus(List<Pedido> pedidos) {
+        Variacoes variacoes = new Variacoes();
+        for (Pedido pedido : pedidos) {
+            if (pedido.getStatusAnterior() != pedido.getStatus()) {
+                variacoes.somar(pedido, pedido.getStatusAnterior(), -1, pedido.getValorTotal().negate());
+                variacoes.somar(pedido, pedido.getStatus(), 1, pedido.getValorTotal());
+            }
+        }
+        aplicar(variacoes);
+    }
+
+    @Transactional(readOnly = true)
+    public ResumoPedidosDTO buscarResumoRestaurante(Long restauranteId) {
+        return resumir(restauranteId, agregadoPedidoRepository.findByEscopoAndReferenciaId(Escopo.RESTAURANTE, restauranteId));
+    }
+
+    @Transactional(readOnly = true)
+    public ResumoPedidosDTO buscarResumoCliente(Long clienteId) {
+        return resumir(clienteId, agregadoPedidoRepository.findByEscopoAndReferenciaId(Escopo.CLIENTE, clienteId));
+    }
+
+    /**
+     * Calcula o valor total de vendas em um período (extremos inclusivos, sem cancelados).
+     * Soma as horas cheias contidas no período e consulta os pedidos apenas
+     * nas bordas parciais, que têm menos de uma hora cada.
+     */
+    @Transactional(readOnly = true)
+    public BigDecimal calcularTotalVendasPorPeriodo(LocalDateTime dataInicio, LocalDateTime dataFim) {
+        LocalDateTime primeiraHoraCheia = dataInicio.truncatedTo(ChronoUnit.HOURS);
+        if (primeiraHoraCheia.isBefore(dataInicio)) {
+            primeiraHoraCheia = primeiraHoraCheia.plusHours(1);
+        }
+        LocalDateTime ultimaHora = dataFim.truncatedTo(ChronoUnit.HOURS);
+
+        if (!primeiraHoraCheia.isBefore(ultimaHora)) {
+            return pedidoRepository.calcularTotalVendasPorPeriodo(dataInicio, dataFim);
+        }
+
+        return pedidoRepository.calcularTotalVendasNoIntervalo(dataInicio, primeiraHoraCheia)
+            .add(vendaHorariaRepository.somarVendas(primeiraHoraCheia, ultimaHora))
+            .add(pedidoRepository.calcularTotalVendasPorPeriodo(ultimaHora, dataFim));
+    }
+
+    /**
+     * Busca a série temporal de vendas por hora ou por dia.
+     * Cada ponto cobre a hora (ou o dia) inteira que contém o instante informado.
+     */
+    @Transactional(readOnly = true)
+    public List<PontoSerieVendasDTO> buscarSerieVendas(LocalDateTime dataInicio, LocalDateTime dataFim,
+                                                       Granularidade granularidade, Long restauranteId) {
+        List<PontoSerieVendasDTO> serieHoraria = vendaHorariaRepository.buscarSerieHoraria(
+            dataInicio.truncatedTo(ChronoUnit.HOURS), dataFim, restauranteId);
+
+        if (granularidade == Granularidade.HORA) {
+            return serieHoraria;
+        }
+
+        // A série horária vem ordenada: horas do mesmo dia são consecutivas
+        List<PontoSerieVendasDTO> serieDiaria = new ArrayList<>();
+        for (PontoSerieVendasDTO ponto : serieHoraria) {
+            LocalDateTime dia = ponto.inicio().truncatedTo(ChronoUnit.DAYS);
+            int ultimo = serieDiaria.size() - 1;
+            if (ultimo >= 0 && serieDiaria.get(ultimo).inicio().equals(dia)) {
+                PontoSerieVendasDTO acumulado = serieDiaria.get(ultimo);
+                serieDiaria.set(ultimo, new PontoSerieVendasDTO(dia,
+                    acumulado.quantidade() + ponto.quantidade(),
+                    acumulado.valorTotal().add(ponto.valorTotal())));
+            } else {
+                serieDiaria.add(new PontoSerieVendasDTO(dia, ponto.quantidade(), ponto.valorTotal()));
+            }
+        }
+        return serieDiaria;
+    }
+
+    /**
+     * Descarta os agregados e recalcula a partir da tabela de pedidos.
+     * Usado para corrigir divergências; percorre todo o histórico.
+     * O DELETE bloqueia as linhas existentes até o commit: pedidos que somam nelas esperam e
+     * somam sobre os agregados já recalculados. Um primeiro pedido concorrente para um agregado
+     * novo pode fazer a reconstrução falhar na chave única; basta repeti-la.
+     *
+     * @return Número de agregados gerados
+     */
+    public int reconstruir() {
+        agregadoPedidoRepository.deleteAllInBatch();
+        vendaHorariaRepository.deleteAllInBatch();
+        return agregadoPedidoRepository.reconstruirPorRestaurante()
+            + agregadoPedidoRepository.reconstruirPorCliente()
+            + vendaHorariaRepository.reconstruir();
+    }
+
+    private void aplicar(Variacoes variacoes) {
+        // As chaves estão ordenadas: pedidos concorrentes atualizam as linhas na mesma ordem
+        variacoes.agregados.forEach((chave, variacao) -> somar(
+            () -> agregadoPedidoRepository.incrementar(chave.escopo(), chave.referenciaId(), chave.status(),
+                variacao.quantidade(), variacao.valor()),
+            INSERIR_AGREGADO, chave.escopo().name(), chave.referenciaId(), chave.status().name(),
+            variacao.quantidade(), variacao.valor()));
+        variacoes.horas.forEach((chave, variacao) -> somar(
+            () -> vendaHorariaRepository.incrementar(chave.hora(), chave.restauranteId(), chave.status(),
+                variacao.quantidade(), variacao.valor()),
+            INSERIR_VENDA_HORARIA, chave.hora(), chave.restauranteId(), chave.status().name(),
+            variacao.quantidade(), variacao.valor()));
+    }
+
+    // UPDATE; se a linha não existe, INSERT. Se outro pedido inseriu a linha antes, o INSERT
+    // espera o commit dele, falha na chave única e o UPDATE seguinte encontra a linha
+    private void somar(IntSupplier incrementar, String insert, Object... valores) {
+        do {
+            if (incrementar.getAsInt() > 0) {
+                return;
+            }
+        } while (!inserir(insert, valores));
+    }
+
+    /**
+     * Executa o INSERT por JDBC, dentro de um savepoint, na conexão da transação.
+     * A violação da chave única desfaz só o INSERT: pelo repository, o Hibernate marcaria a
+     * transação inteira para rollback.
+     *
+     * @return false se a linha já existia
+     */
+    private boolean inserir(String sql, Object... valores) {
+        return jdbcTemplate.execute((ConnectionCallback<Boolean>) conexao -> {
+            Savepoint savepoint = conexao.setSavepoint();
+            try (PreparedStatement statement = conexao.prepareStatement(sql)) {
+                for (int i = 0; i < valores.length; i++) {
+                    statement.setObject(i + 1, valores[i]);
+                }
+                statement.executeUpdate();
+                conexao.releaseSavepoint(savepoint);
+                return true;
+            } catch (SQLException e) {
+                conexao.rollback(savepoint);
+                if (VIOLACAO_CHAVE_UNICA.equals(e.getSQLState())) {
+                    return false;
+                }
+                throw e;
+            }
+        });
+    }
+
+    private ResumoPedidosDTO resumir(Long referenciaId, List<AgregadoPedido> agregados) {
+        BigDecimal valorTotal = BigDecimal.ZERO;
+        long quantidadePedidos = 0;
+        Map<StatusPedido, Long> quantidadePorStatus = new EnumMap<>(StatusPedido.class);
+
+        for (AgregadoPedido agregado : agregados) {
+            quantidadePedidos += agregado.getQuantidade();
+            quantidadePorStatus.put(agregado.getStatus(), agregado.getQuantidade());
+            // Mesma regra dos relatórios do PedidoRepository: cancelados não contam no valor
+            if (agregado.getStatus() != StatusPedido.CANCELADO) {
+                valorTotal = valorTotal.add(agregado.getValorTotal());
+            }
+        }
+
+        return new ResumoPedidosDTO(referenciaId, valorTotal, quantidadePedidos, quantidadePorStatus);
+    }
+
+    private record ChaveAgregado(Escopo escopo, Long referenciaId, StatusPedido status) {
+        static final Comparator<ChaveAgregado> ORDEM = Comparator.comparing(ChaveAgregado::escopo)
+            .thenComparing(ChaveAgregado::referenciaId).thenComparing(ChaveAgregado::status);
+    }
+
+    private record ChaveHora(LocalDateTime hora, Long restauranteId, StatusPedido status) {
+        static final Comparator<ChaveHora> ORDEM = Comparator.comparing(ChaveHora::hora)
+            .thenComparing(ChaveHora::restauranteId).thenComparing(ChaveHora::status);
+    }
+
+    private record Variacao(long quantidade, BigDecimal valor) {
+        Variacao somar(Variacao outra) {
+            return new Variacao(quantidade + outra.quantidade, valor.add(outra.valor));
+        }
+    }
+
+    // Variações pendentes por agregado e por hora, acumuladas antes de ir ao banco
+    private static final class Variacoes {
+
+        private final Map<ChaveAgregado, Variacao> agregados = new TreeMap<>(ChaveAgregado.ORDEM);
+        private final Map<ChaveHora, Variacao> horas = new TreeMap<>(ChaveHora.ORDEM);
+
+        void somar(Pedido pedido, StatusPedido status, long quantidade, BigDecimal valor) {
+            Variacao variacao = new Variacao(quantidade, valor);
+            Long restauranteId = pedido.getRestaurante().getId();
+            agregados.merge(new ChaveAgregado(Escopo.RESTAURANTE, restauranteId, status), variacao, Variacao::somar);
+            agregados.merge(new ChaveAgregado(Escopo.CLIENTE, pedido.getCliente().getId(), status), variacao, Variacao::somar);
+            horas.merge(new ChaveHora(pedido.getDataPedido().truncatedTo(ChronoUnit.HOURS), restauranteId, status),
+                variacao, Variacao::somar);
+        }
+    }
+}
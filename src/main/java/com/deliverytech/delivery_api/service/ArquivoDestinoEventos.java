@@ -0,0 +1,78 @@
+package com.deliverytech.delivery_api.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.deliverytech.delivery_api.entity.EventoOutbox;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Destino local dos eventos: acrescenta cada lote a um arquivo NDJSON, uma linha por evento
+ * ({"id", "tipo", "pedidoId", "dataCriacao", "payload"}), e força a gravação em disco
+ * uma vez por lote antes de confirmar.
+ *
+ * Propriedades:
+ * - delivery.outbox.destino=arquivo (padrão)
+ * - delivery.outbox.arquivo (padrão: outbox/eventos-pedido.ndjson)
+ */
+@Component
+@ConditionalOnProperty(name = "delivery.outbox.destino", havingValue = "arquivo", matchIfMissing = true)
+public class ArquivoDestinoEventos implements DestinoEventos {
+
+    private final ObjectMapper objectMapper;
+    private final FileChannel canal;
+
+    public ArquivoDestinoEventos(@Value("${delivery.outbox.arquivo:outbox/eventos-pedido.ndjson}") Path arquivo,
+                                 ObjectMapper objectMapper) throws IOException {
+        this.objectMapper = objectMapper;
+        Path diretorio = arquivo.toAbsolutePath().getParent();
+        if (diretorio != null) {
+            Files.createDirectories(diretorio);
+        }
+        this.canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public synchronized void publicar(List<EventoOutbox> eventos) throws IOException {
+        ByteArrayOutputStream linhas = new ByteArrayOutputStream(eventos.size() * 256);
+        for (EventoOutbox evento : eventos) {
+            try (JsonGenerator gerador = objectMapper.createGenerator(linhas)) {
+                gerador.writeStartObject();
+                gerador.writeNumberField("id", evento.getId());
+                gerador.writeStringField("tipo", evento.getTipo());
+                gerador.writeNumberField("pedidoId", evento.getPedidoId());
+                gerador.writeStringField("dataCriacao", evento.getDataCriacao().toString());
+                // O payload já é JSON: copiado sem desserializar
+                gerador.writeFieldName("payload");
+                gerador.writeRawValue(evento.getPayload());
+                gerador.writeEndObject();
+            }
+            linhas.write('\n');
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(linhas.toByteArray());
+        while (buffer.hasRemaining()) {
+            canal.write(buffer);
+        }
+        canal.force(false);
+    }
+
+    @PreDestroy
+    public void fechar() throws IOException {
+        canal.close();
+    }
+}
@@ -0,0 +1,236 @@
+package com.deliverytech.delivery_api.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.deliverytech.delivery_api.dto.EventoCardapioDTO;
+import com.deliverytech.delivery_api.dto.EventoRestauranteDTO;
+import com.deliverytech.delivery_api.dto.ProdutoResumoDTO;
+import com.deliverytech.delivery_api.dto.SugestaoDTO;
+import com.deliverytech.delivery_api.entity.Restaurante;
+import com.deliverytech.delivery_api.repository.ProdutoRepository;
+import com.deliverytech.delivery_api.repository.RestauranteRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Sugestões de digitação (GET /autocomplete) servidas de uma TrieSugestoes em memória.
+ *
+ * As sugestões são nomes de restaurantes, nomes de produtos disponíveis e categorias
+ * (de restaurantes e de produtos). O mesmo texto, sem acentos e maiúsculas, é uma única
+ * sugestão, com peso igual à maior avaliação entre os restaurantes ativos em que aparece;
+ * sem restaurante ativo, a sugestão sai da trie. Cada sugestão é encontrada pelo início de
+ * qualquer uma das suas palavras ("cala" sugere "Pizza Calabresa").
+ *
+ * A trie é carregada do banco na inicialização e depois mantida pelos eventos de
+ * ProdutoService e RestauranteService, aplicados após o commit: só as sugestões tocadas
+ * pela escrita são recalculadas. Alterações feitas por outra instância só aparecem após
+ * reiniciar a aplicação.
+ */
+@Service
+public class AutocompleteService implements SmartInitializingSingleton {
+
+    public static final int LIMITE_PADRAO = 8;
+    public static final int LIMITE_MAXIMO = 10;
+
+    private static final Comparator<SugestaoDTO> ORDEM = Comparator.comparing(SugestaoDTO::peso).reversed()
+        .thenComparing(SugestaoDTO::texto);
+
+    private final ProdutoRepository produtoRepository;
+    private final RestauranteRepository restauranteRepository;
+
+    private final TrieSugestoes<SugestaoDTO> trie = new TrieSugestoes<>(LIMITE_MAXIMO, ORDEM);
+
+    // Estado das escritas, protegido por synchronized; as consultas leem apenas a trie
+    private final Map<Long, DadosRestaurante> restaurantes = new HashMap<>();
+    private final Map<Long, ProdutoResumoDTO> produtos = new HashMap<>();
+    private final Map<ChaveSugestao, Contribuicoes> contribuicoes = new HashMap<>();
+    private final Map<Long, Set<ChaveSugestao>> sugestoesPorRestaurante = new HashMap<>();
+
+    public AutocompleteService(ProdutoRepository produtoRepository,
+                               RestauranteRepository restauranteRepository,
+                               MeterRegistry meterRegistry) {
+        this.produtoRepository = produtoRepository;
+        this.restauranteRepository = restauranteRepository;
+        Gauge.builder("delivery.autocomplete.sugestoes", contribuicoes, Map::size)
+            .description("Textos conhecidos pelo autocomplete")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        carregar();
+    }
+
+    /**
+     * Lê restaurantes e produtos do banco e os aplica às sugestões.
+     */
+    public synchronized void carregar() {
+        restauranteRepository.findAll().forEach(restaurante -> aplicarRestaurante(restaurante.getId(), restaurante));
+        produtoRepository.findAllResumos().forEach(produto -> aplicarProduto(produto.id(), produto));
+    }
+
+    /**
+     * Melhores sugestões que começam pelo texto digitado (sem acentos e maiúsculas).
+     */
+    public List<SugestaoDTO> sugerir(String prefixo, Integer limite) {
+        String normalizado = IndiceTexto.normalizar(prefixo);
+        if (normalizado.isEmpty()) {
+            return List.of();
+        }
+        int quantidade = limite == null || limite < 1 ? LIMITE_PADRAO : Math.min(limite, LIMITE_MAXIMO);
+        return trie.buscar(normalizado, quantidade);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void atualizarRestaurante(EventoRestauranteDTO evento) {
+        aplicarRestaurante(evento.restauranteId(), evento.restaurante());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void atualizarProduto(EventoCardapioDTO evento) {
+        aplicarProduto(evento.produtoId(), evento.produto());
+    }
+
+    private void aplicarRestaurante(Long id, Restaurante restaurante) {
+        DadosRestaurante anterior = restaurantes.remove(id);
+        Set<ChaveSugestao> alteradas = new HashSet<>(sugestoesPorRestaurante.getOrDefault(id, Set.of()));
+        if (anterior != null) {
+            retirar(new ChaveSugestao(SugestaoDTO.RESTAURANTE, anterior.nome()), id);
+            retirar(new ChaveSugestao(SugestaoDTO.CATEGORIA, anterior.categoria()), id);
+        }
+        if (restaurante != null) {
+            DadosRestaurante dados = DadosRestaurante.de(restaurante);
+            restaurantes.put(id, dados);
+            alteradas.add(contribuir(SugestaoDTO.RESTAURANTE, dados.nome(), id));
+            alteradas.add(contribuir(SugestaoDTO.CATEGORIA, dados.categoria(), id));
+        }
+        // Avaliação ou ativo mudam o peso de tudo o que o restaurante oferece
+        alteradas.forEach(this::recalcular);
+    }
+
+    private void aplicarProduto(Long id, ProdutoResumoDTO produto) {
+        List<ChaveSugestao> alteradas = new ArrayList<>(4);
+        ProdutoResumoDTO anterior = produtos.remove(id);
+        if (anterior != null) {
+            alteradas.add(retirar(new ChaveSugestao(SugestaoDTO.PRODUTO, anterior.nome()), anterior.restauranteId()));
+            alteradas.add(retirar(new ChaveSugestao(SugestaoDTO.CATEGORIA, anterior.categoria()), anterior.restauranteId()));
+        }
+        if (produto != null && Boolean.TRUE.equals(produto.disponivel())) {
+            produtos.put(id, produto);
+            alteradas.add(contribuir(SugestaoDTO.PRODUTO, produto.nome(), produto.restauranteId()));
+            alteradas.add(contribuir(SugestaoDTO.CATEGORIA, produto.categoria(), produto.restauranteId()));
+        }
+        alteradas.forEach(this::recalcular);
+    }
+
+    private ChaveSugestao contribuir(String tipo, String texto, Long restauranteId) {
+        ChaveSugestao chave = new ChaveSugestao(tipo, texto);
+        contribuicoes.computeIfAbsent(chave, c -> new Contribuicoes(texto)).restaurantes
+            .merge(restauranteId, 1, Integer::sum);
+        sugestoesPorRestaurante.computeIfAbsent(restauranteId, r -> new HashSet<>()).add(chave);
+        return chave;
+    }
+
+    private ChaveSugestao retirar(ChaveSugestao chave, Long restauranteId) {
+        Contribuicoes atuais = contribuicoes.get(chave);
+        if (atuais != null && atuais.restaurantes.merge(restauranteId, -1, Integer::sum) <= 0) {
+            atuais.restaurantes.remove(restauranteId);
+            sugestoesPorRestaurante.computeIfPresent(restauranteId, (id, doRestaurante) -> {
+                doRestaurante.remove(chave);
+                return doRestaurante.isEmpty() ? null : doRestaurante;
+            });
+        }
+        return chave;
+    }
+
+    // Substitui a sugestão na trie se o peso mudou; sem restaurante ativo, apenas a retira
+    private void recalcular(ChaveSugestao chave) {
+        Contribuicoes atuais = contribuicoes.get(chave);
+        if (atuais == null) {
+            return;
+        }
+        Double peso = atuais.restaurantes.keySet().stream()
+            .map(restaurantes::get)
+            .filter(dados -> dados != null && dados.ativo())
+            .map(DadosRestaurante::avaliacao)
+            .max(Double::compare)
+            .orElse(null);
+        SugestaoDTO nova = peso != null ? new SugestaoDTO(atuais.texto, chave.tipo(), peso) : null;
+        if (nova != null ? nova.equals(atuais.sugestao) : atuais.sugestao == null) {
+            if (atuais.restaurantes.isEmpty()) {
+                contribuicoes.remove(chave);
+            }
+            return;
+        }
+
+        List<String> chavesTrie = chavesTrie(chave.normalizado());
+        if (atuais.sugestao != null) {
+            chavesTrie.forEach(chaveTrie -> trie.remover(chaveTrie, atuais.sugestao));
+        }
+        if (nova != null) {
+            chavesTrie.forEach(chaveTrie -> trie.incluir(chaveTrie, nova));
+        }
+        atuais.sugestao = nova;
+        if (atuais.restaurantes.isEmpty()) {
+            contribuicoes.remove(chave);
+        }
+    }
+
+    // O texto inteiro e o trecho a partir de cada palavra que não seja vazia ("de", "com"...)
+    private static List<String> chavesTrie(String normalizado) {
+        if (normalizado.isEmpty()) {
+            return List.of();
+        }
+        List<String> chaves = new ArrayList<>();
+        chaves.add(normalizado);
+        for (int i = normalizado.indexOf(' '); i >= 0; i = normalizado.indexOf(' ', i + 1)) {
+            String trecho = normalizado.substring(i + 1);
+            int fimPalavra = trecho.indexOf(' ');
+            String palavra = fimPalavra < 0 ? trecho : trecho.substring(0, fimPalavra);
+            if (!IndiceTexto.PALAVRAS_VAZIAS.contains(palavra)) {
+                chaves.add(trecho);
+            }
+        }
+        return chaves;
+    }
+
+    private record DadosRestaurante(String nome, String categoria, double avaliacao, boolean ativo) {
+
+        static DadosRestaurante de(Restaurante restaurante) {
+            return new DadosRestaurante(restaurante.getNome(), restaurante.getCategoria(),
+                restaurante.getAvaliacao() != null ? restaurante.getAvaliacao() : 0.0,
+                Boolean.TRUE.equals(restaurante.getAtivo()));
+        }
+    }
+
+    // Mesmo tipo e texto normalizado: a mesma sugestão
+    private record ChaveSugestao(String tipo, String normalizado) {
+
+        ChaveSugestao {
+            normalizado = IndiceTexto.normalizar(normalizado);
+        }
+    }
+
+    // Restaurantes (com a quantidade de ocorrências) em que o texto aparece e a sugestão na trie
+    private static final class Contribuicoes {
+
+        private final String texto;
+        private final Map<Long, Integer> restaurantes = new HashMap<>();
+        private SugestaoDTO sugestao;
+
+        Contribuicoes(String texto) {
+            this.texto = texto;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.deliverytech.delivery_api.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.deliverytech.delivery_api.dto.EventoCardapioDTO;
+import com.deliverytech.delivery_api.dto.EventoRestauranteDTO;
+import com.deliverytech.delivery_api.dto.ProdutoResumoDTO;
+import com.deliverytech.delivery_api.entity.Restaurante;
+import com.deliverytech.delivery_api.repository.ProdutoRepository;
+import com.deliverytech.delivery_api.repository.RestauranteRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Busca textual de produtos e restaurantes em índices invertidos em memória (IndiceTexto).
+ *
+ * Produtos disponíveis são indexados por nome, categoria e descrição; restaurantes, por
+ * nome e categoria. Os índices são carregados do banco na inicialização e depois mantidos
+ * pelos eventos de ProdutoService e RestauranteService, aplicados após o commit.
+ * Alterações feitas por outra instância só aparecem após reiniciar a aplicação.
+ */
+@Service
+public class BuscaService implements SmartInitializingSingleton {
+
+    public static final int LIMITE_PADRAO = 20;
+    public static final int LIMITE_MAXIMO = 100;
+
+    private final ProdutoRepository produtoRepository;
+    private final RestauranteRepository restauranteRepository;
+
+    // Pesos: nome, categoria, descrição
+    private final IndiceTexto<ProdutoResumoDTO> produtos = new IndiceTexto<>(3.0, 2.0, 1.0);
+    // Pesos: nome, categoria
+    private final IndiceTexto<Restaurante> restaurantes = new IndiceTexto<>(3.0, 2.0);
+
+    public BuscaService(ProdutoRepository produtoRepository,
+                        RestauranteRepository restauranteRepository,
+                        MeterRegistry meterRegistry) {
+        this.produtoRepository = produtoRepository;
+        this.restauranteRepository = restauranteRepository;
+        Gauge.builder("delivery.busca.documentos", produtos, IndiceTexto::tamanho)
+            .tag("indice", "produtos")
+            .description("Documentos no índice de busca em memória")
+            .register(meterRegistry);
+        Gauge.builder("delivery.busca.documentos", restaurantes, IndiceTexto::tamanho)
+            .tag("indice", "restaurantes")
+            .description("Documentos no índice de busca em memória")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        carregar();
+    }
+
+    /**
+     * Lê produtos e restaurantes do banco e os aplica aos índices, sem interromper as buscas.
+     */
+    public void carregar() {
+        produtoRepository.findAllResumos().forEach(this::indexar);
+        restauranteRepository.findAll().forEach(this::indexar);
+    }
+
+    /**
+     * Produtos disponíveis que contêm todos os termos, do mais relevante para o menos.
+     */
+    public List<ProdutoResumoDTO> buscarProdutos(String consulta, Integer limite) {
+        return produtos.buscar(consulta, limitar(limite));
+    }
+
+    /**
+     * Restaurantes que contêm todos os termos no nome ou na categoria, do mais relevante para o menos.
+     */
+    public List<Restaurante> buscarRestaurantes(String consulta, Integer limite) {
+        return restaurantes.buscar(consulta, limitar(limite));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void atualizarProduto(EventoCardapioDTO evento) {
+        if (evento.produto() != null) {
+            indexar(evento.produto());
+        } else {
+            produtos.remover(evento.produtoId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void atualizarRestaurante(EventoRestauranteDTO evento) {
+        if (evento.restaurante() != null) {
+            indexar(evento.restaurante());
+        } else {
+            restaurantes.remover(evento.restauranteId());
+        }
+    }
+
+    private void indexar(ProdutoResumoDTO produto) {
+        if (Boolean.TRUE.equals(produto.disponivel())) {
+            produtos.indexar(produto.id(), produto, produto.nome(), produto.categoria(), produto.descricao());
+        } else {
+            produtos.remover(produto.id());
+        }
+    }
+
+    private void indexar(Restaurante restaurante) {
+        restaurantes.indexar(restaurante.getId(), restaurante, restaurante.getNome(), restaurante.getCategoria());
+    }
+
+    private static int limitar(Integer limite) {
+        if (limite == null || limite < 1) {
+            return LIMITE_PADRAO;
+        }
+        return Math.min(limite, LIMITE_MAXIMO);
+    }
+}
@@ -0,0 +1,89 @@
+package com.deliverytech.delivery_api.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import com.deliverytech.delivery_api.dto.ProdutoResumoDTO;
+
+/**
+ * Cardápio de um restaurante em memória, imutável e com as listagens já montadas.
+ * Uma alteração gera um novo Cardapio (com(), sem()); quem está lendo o anterior não é afetado.
+ *
+ * @param versao versão do catálogo do restaurante já refletida (o conteúdo pode ser mais novo)
+ * @param produtos todos os produtos, por ID
+ * @param disponiveis produtos disponíveis, por ID
+ * @param disponiveisPorPreco produtos disponíveis, do mais barato para o mais caro
+ * @param porCategoria todos os produtos de cada categoria, por ID
+ * @param categorias categorias com algum produto disponível, em ordem alfabética
+ */
+public record Cardapio(
+    long versao,
+
+    List<ProdutoResumoDTO> produtos,
+
+    List<ProdutoResumoDTO> disponiveis,
+
+    List<ProdutoResumoDTO> disponiveisPorPreco,
+
+    Map<String, List<ProdutoResumoDTO>> porCategoria,
+
+    List<String> categorias
+) {
+
+    private static final Comparator<ProdutoResumoDTO> POR_ID = Comparator.comparing(ProdutoResumoDTO::id);
+    private static final Comparator<ProdutoResumoDTO> POR_PRECO =
+        Comparator.comparing(ProdutoResumoDTO::preco).thenComparing(ProdutoResumoDTO::id);
+
+    public static Cardapio de(long versao, List<ProdutoResumoDTO> produtos) {
+        List<ProdutoResumoDTO> ordenados = produtos.stream().sorted(POR_ID).toList();
+        List<ProdutoResumoDTO> disponiveis = ordenados.stream()
+            .filter(produto -> Boolean.TRUE.equals(produto.disponivel()))
+            .toList();
+
+        Map<String, List<ProdutoResumoDTO>> porCategoria = new LinkedHashMap<>();
+        for (ProdutoResumoDTO produto : ordenados) {
+            porCategoria.computeIfAbsent(produto.categoria(), categoria -> new ArrayList<>()).add(produto);
+        }
+        porCategoria.replaceAll((categoria, lista) -> List.copyOf(lista));
+
+        TreeSet<String> categorias = new TreeSet<>();
+        disponiveis.forEach(produto -> categorias.add(produto.categoria()));
+
+        return new Cardapio(versao, ordenados, disponiveis, disponiveis.stream().sorted(POR_PRECO).toList(),
+            Map.copyOf(porCategoria), List.copyOf(categorias));
+    }
+
+    /**
+     * Novo cardápio com o produto incluído ou substituído.
+     */
+    public Cardapio com(long novaVersao, ProdutoResumoDTO produto) {
+        List<ProdutoResumoDTO> novos = new ArrayList<>(produtos.size() + 1);
+        produtos.stream().filter(atual -> !atual.id().equals(produto.id())).forEach(novos::add);
+        novos.add(produto);
+        return de(novaVersao, novos);
+    }
+
+    /**
+     * Novo cardápio sem o produto.
+     */
+    public Cardapio sem(long novaVersao, Long produtoId) {
+        return de(novaVersao, produtos.stream().filter(atual -> !atual.id().equals(produtoId)).toList());
+    }
+
+    public List<ProdutoResumoDTO> porCategoria(String categoria, boolean apenasDisponiveis) {
+        List<ProdutoResumoDTO> daCategoria = porCategoria.getOrDefault(categoria, List.of());
+        return apenasDisponiveis
+            ? daCategoria.stream().filter(produto -> Boolean.TRUE.equals(produto.disponivel())).toList()
+            : daCategoria;
+    }
+
+    public List<ProdutoResumoDTO> maisCaros(int limite) {
+        int quantidade = Math.clamp(limite, 0, disponiveisPorPreco.size());
+        return disponiveisPorPreco.subList(disponiveisPorPreco.size() - quantidade, disponiveisPorPreco.size())
+            .reversed();
+    }
+}
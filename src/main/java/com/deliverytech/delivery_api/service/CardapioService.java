@@ -0,0 +1,93 @@
+package com.deliverytech.delivery_api.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.deliverytech.delivery_api.dto.EventoCardapioDTO;
+import com.deliverytech.delivery_api.repository.ProdutoRepository;
+import com.deliverytech.delivery_api.repository.RestauranteRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Cardápios dos restaurantes em memória, um Cardapio imutável por restaurante.
+ *
+ * O cardápio é montado do banco na primeira leitura e depois mantido pelos eventos que
+ * ProdutoService publica, aplicados após o commit: cada alteração gera um novo Cardapio
+ * que substitui o anterior de uma vez. Um evento que não é o seguinte ao cardápio em
+ * memória (commits concorrentes fora de ordem) descarta o cardápio, remontado na
+ * próxima leitura.
+ *
+ * Cada leitura compara a versão do cardápio com a versão do catálogo do restaurante, lida
+ * do banco pela PK; um cardápio mais antigo é remontado. Alterações feitas por outra
+ * instância aparecem na leitura seguinte.
+ *
+ * Propriedades:
+ * - delivery.cardapio.max-restaurantes (padrão: 10000)
+ */
+@Service
+public class CardapioService {
+
+    private final ProdutoRepository produtoRepository;
+    private final RestauranteRepository restauranteRepository;
+    private final Cache<Long, Cardapio> cardapios;
+
+    public CardapioService(ProdutoRepository produtoRepository,
+                           RestauranteRepository restauranteRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${delivery.cardapio.max-restaurantes:10000}") long maximoRestaurantes) {
+        this.produtoRepository = produtoRepository;
+        this.restauranteRepository = restauranteRepository;
+        this.cardapios = Caffeine.newBuilder()
+            .maximumSize(maximoRestaurantes)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cardapios, "cardapios");
+    }
+
+    /**
+     * Cardápio atual do restaurante.
+     *
+     * @throws IllegalArgumentException se o restaurante não existe
+     */
+    public Cardapio buscar(Long restauranteId) {
+        long versaoAtual = restauranteRepository.findVersaoCatalogoById(restauranteId)
+            .orElseThrow(() -> new IllegalArgumentException("Restaurante não encontrado com ID: " + restauranteId));
+        Cardapio cardapio = cardapios.getIfPresent(restauranteId);
+        if (cardapio != null && cardapio.versao() >= versaoAtual) {
+            return cardapio;
+        }
+        return carregar(restauranteId, versaoAtual);
+    }
+
+    /**
+     * Aplica a alteração confirmada de um produto ao cardápio em memória, se houver.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aplicar(EventoCardapioDTO evento) {
+        cardapios.asMap().computeIfPresent(evento.restauranteId(), (restauranteId, atual) -> {
+            long versao = evento.versaoCatalogo();
+            if (versao <= atual.versao()) {
+                return atual;
+            }
+            if (versao != atual.versao() + 1) {
+                return null;
+            }
+            return evento.produto() != null
+                ? atual.com(versao, evento.produto())
+                : atual.sem(versao, evento.produtoId());
+        });
+    }
+
+    // Sem transação: a versão é lida antes dos produtos, então o conteúdo é no mínimo tão
+    // novo quanto a versão registrada
+    private Cardapio carregar(Long restauranteId, long versao) {
+        Cardapio carregado = Cardapio.de(versao, produtoRepository.findResumosByRestauranteId(restauranteId));
+        return cardapios.asMap().merge(restauranteId, carregado,
+            (atual, novo) -> atual.versao() >= novo.versao() ? atual : novo);
+    }
+}
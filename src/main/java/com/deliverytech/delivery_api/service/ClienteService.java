@@ -1,7 +1,11 @@
 package com.deliverytech.delivery_api.service;
 
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,9 +20,11 @@ import com.deliverytech.delivery_api.repository.ClienteRepository;
 public class ClienteService {
 
     private final ClienteRepository clienteRepository;
+    private final Cache cache;
 
-    public ClienteService(ClienteRepository clienteRepository) {
+    public ClienteService(ClienteRepository clienteRepository, CacheManager cacheManager) {
         this.clienteRepository = clienteRepository;
+        this.cache = cacheManager.getCache("clientes");
     }
 
     public Cliente criar(Cliente cliente) {
@@ -32,13 +38,30 @@ public class ClienteService {
         return clienteRepository.findAll();
     }
 
+    /**
+     * Busca vários clientes em uma única consulta (WHERE id IN ...).
+     * IDs inexistentes são ignorados.
+     */
+    public List<Cliente> buscarPorIds(Collection<Long> ids) {
+        return clienteRepository.findAllById(ids);
+    }
+
+    /**
+     * Busca por ID com cache de leitura. O cache guarda uma cópia fora de qualquer sessão JPA
+     * e cada chamada recebe a sua própria cópia (ver RestauranteService.buscarPorId).
+     */
     public Cliente buscarPorId(Long id) {
-        return clienteRepository.findById(id)
-            .orElseThrow(() -> new IllegalArgumentException("Cliente não encontrado com ID: " + id));
+        Cliente emCache = cache.get(id, Cliente.class);
+        if (emCache == null) {
+            emCache = copiar(carregar(id));
+            cache.put(id, emCache);
+        }
+        return copiar(emCache);
     }
 
+    @CacheEvict(cacheNames = "clientes", key = "#id")
     public Cliente atualizar(Long id, Cliente clienteAtualizado) {
-        Cliente cliente = buscarPorId(id);
+        Cliente cliente = carregar(id);
 
         // Verifica se o email já existe em outro cliente
         if (!cliente.getEmail().equals(clienteAtualizado.getEmail())
@@ -57,8 +80,9 @@ public class ClienteService {
         return clienteRepository.save(cliente);
     }
 
+    @CacheEvict(cacheNames = "clientes", key = "#id")
     public void deletar(Long id) {
-        Cliente cliente = buscarPorId(id);
+        Cliente cliente = carregar(id);
         clienteRepository.delete(cliente);
     }
 
@@ -69,4 +93,18 @@ public class ClienteService {
     public List<Cliente> buscarAtivos() {
         return clienteRepository.findByAtivo(true);
     }
+
+    // Leitura direta do banco, sem cache: entidade gerenciada, segura para alteração
+    private Cliente carregar(Long id) {
+        return clienteRepository.findById(id)
+            .orElseThrow(() -> new IllegalArgumentException("Cliente não encontrado com ID: " + id));
+    }
+
+    private static Cliente copiar(Cliente origem) {
+        Cliente copia = new Cliente(origem.getNome(), origem.getEmail(), origem.getTelefone(), origem.getEndereco());
+        copia.setId(origem.getId());
+        copia.setAtivo(origem.getAtivo());
+        copia.setDataCadastro(origem.getDataCadastro());
+        return copia;
+    }
 }
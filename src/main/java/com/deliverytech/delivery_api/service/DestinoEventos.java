@@ -0,0 +1,21 @@
+package com.deliverytech.delivery_api.service;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.deliverytech.delivery_api.entity.EventoOutbox;
+
+/**
+ * Destino dos eventos publicados pelo relay do outbox (fila, tópico, arquivo...).
+ * A implementação é escolhida por delivery.outbox.destino; a padrão é ArquivoDestinoEventos.
+ */
+public interface DestinoEventos {
+
+    /**
+     * Publica um lote de eventos em ordem de ID. Só deve retornar depois que o destino
+     * os tiver aceitado de forma durável: em seguida as linhas do outbox são removidas.
+     * Se lançar exceção, o lote inteiro volta a ser publicado na próxima execução, e por
+     * isso o consumidor pode receber um evento mais de uma vez (deduplicar pelo ID).
+     */
+    void publicar(List<EventoOutbox> eventos) throws IOException;
+}
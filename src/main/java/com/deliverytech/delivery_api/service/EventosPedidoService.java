@@ -0,0 +1,270 @@
+package com.deliverytech.delivery_api.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.deliverytech.delivery_api.dto.EventoPedidoDTO;
+import com.deliverytech.delivery_api.exception.CapacidadeEsgotadaException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Envia as mudanças de pedidos por Server-Sent Events aos inscritos em um pedido,
+ * em um cliente ou em um restaurante.
+ *
+ * PedidoService publica um EventoPedidoDTO por pedido alterado; a entrega acontece só
+ * depois do commit. Cada inscrição tem uma fila própria, esvaziada em uma thread virtual:
+ * quem publica nunca espera por uma conexão lenta. Na fila fica apenas o evento mais
+ * recente de cada pedido; se um inscrito acumula mais pedidos pendentes que o limite,
+ * a conexão é encerrada e o cliente deve reconectar e reler o estado.
+ *
+ * Propriedades:
+ * - delivery.eventos.max-inscricoes (padrão: 10000 por instância; acima disso, 503)
+ * - delivery.eventos.max-pendentes (padrão: 256 pedidos por inscrição)
+ * - delivery.eventos.timeout (padrão: 30m; o cliente reconecta ao expirar)
+ * - delivery.eventos.intervalo-heartbeat (padrão: 15s)
+ */
+@Service
+public class EventosPedidoService {
+
+    // Origem dos eventos que uma inscrição recebe
+    public enum Canal {
+        PEDIDO,
+        CLIENTE,
+        RESTAURANTE
+    }
+
+    private final int maximoInscricoes;
+    private final int maximoPendentes;
+    private final long timeoutMillis;
+
+    private final Map<Inscrito, Set<Inscricao>> inscricoes = new ConcurrentHashMap<>();
+    private final AtomicInteger inscricoesAtivas = new AtomicInteger();
+    private final Counter desconexoesPorAtraso;
+    private final ExecutorService envios = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("eventos-pedido-heartbeat").daemon().factory());
+
+    public EventosPedidoService(@Value("${delivery.eventos.max-inscricoes:10000}") int maximoInscricoes,
+                                @Value("${delivery.eventos.max-pendentes:256}") int maximoPendentes,
+                                @Value("${delivery.eventos.timeout:30m}") Duration timeout,
+                                @Value("${delivery.eventos.intervalo-heartbeat:15s}") Duration intervaloHeartbeat,
+                                MeterRegistry meterRegistry) {
+        this.maximoInscricoes = maximoInscricoes;
+        this.maximoPendentes = maximoPendentes;
+        this.timeoutMillis = timeout.toMillis();
+        this.desconexoesPorAtraso = Counter.builder("delivery.eventos.desconexoes.atraso")
+            .description("Inscrições encerradas por acumular eventos sem conseguir enviá-los")
+            .register(meterRegistry);
+        Gauge.builder("delivery.eventos.inscricoes", inscricoesAtivas, AtomicInteger::get)
+            .description("Inscrições de eventos de pedidos abertas nesta instância")
+            .register(meterRegistry);
+        heartbeat.scheduleWithFixedDelay(this::enviarHeartbeat,
+            intervaloHeartbeat.toMillis(), intervaloHeartbeat.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Abre uma inscrição. estadoInicial, se informado, é consultado depois do registro
+     * (nenhuma mudança se perde entre a leitura e a inscrição) e enviado como primeiro evento;
+     * se lançar exceção, a inscrição é desfeita e a exceção propagada (ex: 404).
+     */
+    public SseEmitter inscrever(Canal canal, Long id, Supplier<EventoPedidoDTO> estadoInicial) {
+        if (inscricoesAtivas.incrementAndGet() > maximoInscricoes) {
+            inscricoesAtivas.decrementAndGet();
+            throw new CapacidadeEsgotadaException("Limite de inscrições de eventos atingido, tente novamente");
+        }
+
+        Inscrito inscrito = new Inscrito(canal, id);
+        Inscricao inscricao = new Inscricao(inscrito, new SseEmitter(timeoutMillis));
+        // compute (e não computeIfAbsent + add): não concorre com encerrar() removendo o conjunto vazio
+        inscricoes.compute(inscrito, (chave, inscritos) -> {
+            Set<Inscricao> destino = inscritos != null ? inscritos : ConcurrentHashMap.newKeySet();
+            destino.add(inscricao);
+            return destino;
+        });
+        inscricao.emitter.onCompletion(inscricao::encerrar);
+        inscricao.emitter.onTimeout(inscricao::encerrar);
+        inscricao.emitter.onError(erro -> inscricao.encerrar());
+
+        if (estadoInicial != null) {
+            try {
+                inscricao.enfileirar(estadoInicial.get());
+            } catch (RuntimeException e) {
+                inscricao.encerrar();
+                throw e;
+            }
+        }
+        return inscricao.emitter;
+    }
+
+    /**
+     * Distribui o evento às inscrições do pedido, do cliente e do restaurante após o commit
+     * da transação que o publicou.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void distribuir(EventoPedidoDTO evento) {
+        distribuir(new Inscrito(Canal.PEDIDO, evento.pedidoId()), evento);
+        distribuir(new Inscrito(Canal.CLIENTE, evento.clienteId()), evento);
+        distribuir(new Inscrito(Canal.RESTAURANTE, evento.restauranteId()), evento);
+    }
+
+    public int getInscricoesAtivas() {
+        return inscricoesAtivas.get();
+    }
+
+    /**
+     * Fecha as conexões no início do desligamento: o encerramento gracioso do servidor
+     * espera as requisições abertas terminarem, e uma inscrição SSE só terminaria no timeout.
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void fecharInscricoes() {
+        inscricoes.values().forEach(inscritos -> inscritos.forEach(inscricao -> inscricao.emitter.complete()));
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        heartbeat.shutdownNow();
+        envios.shutdown();
+    }
+
+    private void distribuir(Inscrito inscrito, EventoPedidoDTO evento) {
+        Set<Inscricao> destinos = inscricoes.get(inscrito);
+        if (destinos != null) {
+            destinos.forEach(inscricao -> inscricao.enfileirar(evento));
+        }
+    }
+
+    private void enviarHeartbeat() {
+        inscricoes.values().forEach(inscritos -> inscritos.forEach(Inscricao::solicitarHeartbeat));
+    }
+
+    private record Inscrito(Canal canal, Long id) {
+    }
+
+    // Uma conexão SSE com a fila de eventos ainda não enviados
+    private final class Inscricao {
+
+        private final Inscrito inscrito;
+        private final SseEmitter emitter;
+        private final AtomicBoolean encerrada = new AtomicBoolean();
+
+        // Protegidos pelo monitor da inscrição
+        private final Map<Long, EventoPedidoDTO> pendentes = new LinkedHashMap<>();
+        private boolean heartbeatPendente;
+        private boolean enviando;
+
+        Inscricao(Inscrito inscrito, SseEmitter emitter) {
+            this.inscrito = inscrito;
+            this.emitter = emitter;
+        }
+
+        void enfileirar(EventoPedidoDTO evento) {
+            synchronized (this) {
+                if (encerrada.get()) {
+                    return;
+                }
+                // Mantém só o evento mais recente de cada pedido (os commits podem chegar fora de ordem)
+                pendentes.merge(evento.pedidoId(), evento,
+                    (atual, novo) -> novo.versao() >= atual.versao() ? novo : atual);
+                if (pendentes.size() > maximoPendentes) {
+                    desconexoesPorAtraso.increment();
+                    encerrar();
+                    emitter.complete();
+                    return;
+                }
+                if (!agendarEnvio()) {
+                    return;
+                }
+            }
+            envios.execute(this::enviarPendentes);
+        }
+
+        void solicitarHeartbeat() {
+            synchronized (this) {
+                heartbeatPendente = true;
+                if (!agendarEnvio()) {
+                    return;
+                }
+            }
+            envios.execute(this::enviarPendentes);
+        }
+
+        // Retorna true se quem chamou deve iniciar o envio (nenhum em andamento)
+        private boolean agendarEnvio() {
+            if (enviando) {
+                return false;
+            }
+            enviando = true;
+            return true;
+        }
+
+        private void enviarPendentes() {
+            while (true) {
+                List<EventoPedidoDTO> eventos;
+                boolean enviarHeartbeat;
+                synchronized (this) {
+                    if (encerrada.get() || (pendentes.isEmpty() && !heartbeatPendente)) {
+                        enviando = false;
+                        return;
+                    }
+                    eventos = new ArrayList<>(pendentes.values());
+                    pendentes.clear();
+                    enviarHeartbeat = heartbeatPendente;
+                    heartbeatPendente = false;
+                }
+                try {
+                    for (EventoPedidoDTO evento : eventos) {
+                        emitter.send(SseEmitter.event()
+                            .id(evento.pedidoId() + ":" + evento.versao())
+                            .name("pedido")
+                            .data(evento, MediaType.APPLICATION_JSON));
+                    }
+                    if (enviarHeartbeat) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    // Conexão fechada pelo cliente ou emitter já concluído
+                    encerrar();
+                }
+            }
+        }
+
+        void encerrar() {
+            if (!encerrada.compareAndSet(false, true)) {
+                return;
+            }
+            inscricoesAtivas.decrementAndGet();
+            inscricoes.computeIfPresent(inscrito, (chave, inscritos) -> {
+                inscritos.remove(this);
+                return inscritos.isEmpty() ? null : inscritos;
+            });
+            synchronized (this) {
+                pendentes.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.deliverytech.delivery_api.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Horário de funcionamento estruturado, interpretado do texto de Restaurante.horarioFuncionamento.
+ *
+ * Formato: trechos separados por ";", cada um com dias opcionais (sem dias: todos) seguidos
+ * de um ou mais intervalos HH:MM-HH:MM separados por ",":
+ * - "18:00-23:00"
+ * - "seg-sex 11:00-15:00, 18:00-23:00; sab,dom 12:00-00:00"
+ *
+ * Dias pelas três primeiras letras (dom, seg, ter, qua, qui, sex, sab, também por extenso e
+ * sem diferenciar maiúsculas e acentos); faixas como "sex-seg" dão a volta na semana. Um
+ * intervalo que termina antes de começar (ou em 00:00) passa da meia-noite e pertence ao dia
+ * em que abre; "24:00" vale como fim do dia e um intervalo de início igual ao fim, como 24 horas.
+ *
+ * @param periodos Um período por dia e intervalo
+ */
+public record HorarioFuncionamento(List<Periodo> periodos) {
+
+    public static final int MINUTOS_DIA = 24 * 60;
+    public static final int MINUTOS_SEMANA = 7 * MINUTOS_DIA;
+
+    private static final Pattern INTERVALO = Pattern.compile("(\\d{1,2}):(\\d{2})\\s*-\\s*(\\d{1,2}):(\\d{2})");
+    private static final Pattern SEPARADOR_INTERVALOS = Pattern.compile("\\s*,?\\s*");
+    private static final Map<String, DayOfWeek> DIAS = Map.of(
+        "dom", DayOfWeek.SUNDAY,
+        "seg", DayOfWeek.MONDAY,
+        "ter", DayOfWeek.TUESDAY,
+        "qua", DayOfWeek.WEDNESDAY,
+        "qui", DayOfWeek.THURSDAY,
+        "sex", DayOfWeek.FRIDAY,
+        "sab", DayOfWeek.SATURDAY);
+
+    public HorarioFuncionamento {
+        periodos = List.copyOf(periodos);
+    }
+
+    /**
+     * Interpreta o texto do horário de funcionamento.
+     *
+     * @return Horário interpretado ou null se o texto estiver vazio
+     * @throws IllegalStateException se o texto não segue o formato
+     */
+    public static HorarioFuncionamento interpretar(String texto) {
+        if (texto == null || texto.isBlank()) {
+            return null;
+        }
+        List<Periodo> periodos = new ArrayList<>();
+        for (String trecho : texto.split(";")) {
+            if (!trecho.isBlank()) {
+                interpretarTrecho(trecho, periodos, texto);
+            }
+        }
+        return new HorarioFuncionamento(periodos);
+    }
+
+    /**
+     * Minuto da semana de um instante: 0 na segunda-feira às 00:00, até MINUTOS_SEMANA - 1.
+     */
+    public static int minutoDaSemana(LocalDateTime instante) {
+        return (instante.getDayOfWeek().getValue() - 1) * MINUTOS_DIA + instante.getHour() * 60 + instante.getMinute();
+    }
+
+    /**
+     * Minutos da semana em que o restaurante está aberto (um bit por minuto, ver minutoDaSemana).
+     */
+    public BitSet minutos() {
+        BitSet minutos = new BitSet(MINUTOS_SEMANA);
+        for (Periodo periodo : periodos) {
+            int inicio = (periodo.dia().getValue() - 1) * MINUTOS_DIA + periodo.abertura();
+            int fim = inicio + periodo.fechamento() - periodo.abertura();
+            if (fim <= MINUTOS_SEMANA) {
+                minutos.set(inicio, fim);
+            } else {
+                // Domingo depois da meia-noite: continua na segunda-feira
+                minutos.set(inicio, MINUTOS_SEMANA);
+                minutos.set(0, fim - MINUTOS_SEMANA);
+            }
+        }
+        return minutos;
+    }
+
+    public boolean abertoEm(LocalDateTime instante) {
+        return minutos().get(minutoDaSemana(instante));
+    }
+
+    private static void interpretarTrecho(String trecho, List<Periodo> periodos, String texto) {
+        Matcher intervalo = INTERVALO.matcher(trecho);
+        Set<DayOfWeek> dias = null;
+        int fimAnterior = 0;
+        while (intervalo.find()) {
+            String antes = trecho.substring(fimAnterior, intervalo.start());
+            if (dias == null) {
+                dias = antes.isBlank() ? EnumSet.allOf(DayOfWeek.class) : interpretarDias(antes, texto);
+            } else if (!SEPARADOR_INTERVALOS.matcher(antes).matches()) {
+                throw invalido(texto);
+            }
+            int abertura = minutoDoDia(intervalo.group(1), intervalo.group(2), texto);
+            int fechamento = minutoDoDia(intervalo.group(3), intervalo.group(4), texto);
+            if (abertura == MINUTOS_DIA) {
+                throw invalido(texto);
+            }
+            if (fechamento <= abertura) {
+                fechamento += MINUTOS_DIA;
+            }
+            for (DayOfWeek dia : dias) {
+                periodos.add(new Periodo(dia, abertura, fechamento));
+            }
+            fimAnterior = intervalo.end();
+        }
+        if (dias == null || !trecho.substring(fimAnterior).isBlank()) {
+            throw invalido(texto);
+        }
+    }
+
+    private static Set<DayOfWeek> interpretarDias(String especificacao, String texto) {
+        Set<DayOfWeek> dias = EnumSet.noneOf(DayOfWeek.class);
+        for (String parte : especificacao.split(",")) {
+            String[] extremos = parte.split("-", -1);
+            if (extremos.length > 2) {
+                throw invalido(texto);
+            }
+            DayOfWeek primeiro = dia(extremos[0], texto);
+            DayOfWeek ultimo = extremos.length == 2 ? dia(extremos[1], texto) : primeiro;
+            for (DayOfWeek dia = primeiro; ; dia = dia.plus(1)) {
+                dias.add(dia);
+                if (dia == ultimo) {
+                    break;
+                }
+            }
+        }
+        return dias;
+    }
+
+    private static DayOfWeek dia(String nome, String texto) {
+        String normalizado = IndiceTexto.normalizar(nome);
+        DayOfWeek dia = normalizado.length() >= 3 && normalizado.chars().allMatch(Character::isLetter)
+            ? DIAS.get(normalizado.substring(0, 3))
+            : null;
+        if (dia == null) {
+            throw invalido(texto);
+        }
+        return dia;
+    }
+
+    private static int minutoDoDia(String hora, String minuto, String texto) {
+        int horas = Integer.parseInt(hora);
+        int minutos = Integer.parseInt(minuto);
+        if (horas > 24 || minutos > 59 || (horas == 24 && minutos > 0)) {
+            throw invalido(texto);
+        }
+        return horas * 60 + minutos;
+    }
+
+    private static IllegalStateException invalido(String texto) {
+        return new IllegalStateException("Horário de funcionamento inválido: '" + texto
+            + "' (exemplo: seg-sex 11:00-15:00, 18:00-23:00; sab,dom 12:00-00:00)");
+    }
+
+    /**
+     * Intervalo de um dia, em minutos desde a meia-noite. O fechamento é maior que a abertura
+     * e vai até abertura + MINUTOS_DIA: passando de MINUTOS_DIA, termina no dia seguinte.
+     */
+    public record Periodo(DayOfWeek dia, int abertura, int fechamento) {
+    }
+}
@@ -0,0 +1,103 @@
+package com.deliverytech.delivery_api.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.deliverytech.delivery_api.dto.EventoRestauranteDTO;
+import com.deliverytech.delivery_api.entity.Restaurante;
+import com.deliverytech.delivery_api.repository.RestauranteRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Restaurantes abertos agora (GET /restaurantes?abertoAgora=true) servidos de um IndiceHorarios
+ * em memória, sem ler e interpretar o horário de cada restaurante a cada consulta.
+ *
+ * O índice contém os restaurantes ativos com horário de funcionamento. Ele é carregado do
+ * banco na inicialização e depois mantido pelos eventos de RestauranteService, aplicados após
+ * o commit. Horários gravados antes da validação que não seguem o formato de
+ * HorarioFuncionamento ficam fora do índice (nunca aparecem como abertos).
+ *
+ * Propriedades:
+ * - delivery.horarios.fuso-horario (padrão: America/Sao_Paulo, em que os horários são lidos)
+ */
+@Service
+public class HorarioService implements SmartInitializingSingleton {
+
+    private final RestauranteRepository restauranteRepository;
+    private final ZoneId fusoHorario;
+    private final IndiceHorarios<Restaurante> indice = new IndiceHorarios<>();
+
+    public HorarioService(RestauranteRepository restauranteRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${delivery.horarios.fuso-horario:America/Sao_Paulo}") ZoneId fusoHorario) {
+        this.restauranteRepository = restauranteRepository;
+        this.fusoHorario = fusoHorario;
+        Gauge.builder("delivery.horarios.restaurantes", indice, IndiceHorarios::tamanho)
+            .description("Restaurantes ativos com horário no índice de funcionamento")
+            .register(meterRegistry);
+        Gauge.builder("delivery.horarios.trechos", indice, IndiceHorarios::trechos)
+            .description("Trechos da semana com bitset próprio no índice de funcionamento")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        carregar();
+    }
+
+    /**
+     * Lê os restaurantes do banco e os aplica ao índice.
+     */
+    public void carregar() {
+        restauranteRepository.findAll().forEach(restaurante -> aplicar(restaurante.getId(), restaurante));
+    }
+
+    /**
+     * Minuto da semana atual no fuso dos horários (ver HorarioFuncionamento.minutoDaSemana).
+     */
+    public int minutoAtual() {
+        return HorarioFuncionamento.minutoDaSemana(LocalDateTime.now(fusoHorario));
+    }
+
+    /**
+     * Restaurantes ativos abertos no minuto da semana, ordenados por ID.
+     *
+     * @param categoria Categoria (sem diferenciar maiúsculas e acentos) ou null para todas
+     */
+    public List<Restaurante> buscarAbertos(int minutoDaSemana, String categoria) {
+        return indice.buscar(minutoDaSemana, categoria != null ? IndiceTexto.normalizar(categoria) : null)
+            .stream()
+            .sorted(Comparator.comparing(Restaurante::getId))
+            .toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void atualizar(EventoRestauranteDTO evento) {
+        aplicar(evento.restauranteId(), evento.restaurante());
+    }
+
+    private void aplicar(Long id, Restaurante restaurante) {
+        HorarioFuncionamento horario = null;
+        if (restaurante != null && Boolean.TRUE.equals(restaurante.getAtivo())) {
+            try {
+                horario = HorarioFuncionamento.interpretar(restaurante.getHorarioFuncionamento());
+            } catch (IllegalStateException e) {
+                // Horário inválido gravado antes da validação
+            }
+        }
+        if (horario != null) {
+            indice.incluir(id, horario, IndiceTexto.normalizar(restaurante.getCategoria()), restaurante);
+        } else {
+            indice.remover(id);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.deliverytech.delivery_api.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Índice espacial em memória: uma grade de células de tamanho fixo (em graus) sobre
+ * latitude e longitude, com os IDs dos pontos de cada célula.
+ *
+ * Uma busca por raio visita apenas as células que cobrem o retângulo em torno do centro
+ * (a largura em longitude cresce com a latitude) e confirma cada ponto pela distância
+ * de haversine. Escritas são serializadas; buscas não bloqueiam e podem ver um ponto em
+ * movimento nas duas células, por isso descartam IDs repetidos.
+ */
+public class IndiceGeografico<T> {
+
+    public static final double RAIO_TERRA_KM = 6371.0088;
+    private static final double KM_POR_GRAU = Math.PI * RAIO_TERRA_KM / 180.0;
+
+    private final double tamanhoCelula;
+    private final int colunas;
+    private final Map<Long, Ponto<T>> pontos = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> celulas = new ConcurrentHashMap<>();
+
+    /**
+     * @param tamanhoCelula Lado da célula em graus (0.05 = cerca de 5,5 km de latitude)
+     */
+    public IndiceGeografico(double tamanhoCelula) {
+        this.tamanhoCelula = tamanhoCelula;
+        this.colunas = (int) Math.ceil(360.0 / tamanhoCelula);
+    }
+
+    /**
+     * Inclui o ponto ou o move para a nova posição.
+     */
+    public synchronized void incluir(Long id, double latitude, double longitude, T valor) {
+        Ponto<T> novo = new Ponto<>(latitude, longitude, celula(linha(latitude), coluna(longitude)), valor);
+        Ponto<T> anterior = pontos.put(id, novo);
+        celulas.computeIfAbsent(novo.celula, chave -> ConcurrentHashMap.newKeySet()).add(id);
+        if (anterior != null && anterior.celula != novo.celula) {
+            removerDaCelula(anterior.celula, id);
+        }
+    }
+
+    public synchronized void remover(Long id) {
+        Ponto<T> anterior = pontos.remove(id);
+        if (anterior != null) {
+            removerDaCelula(anterior.celula, id);
+        }
+    }
+
+    public int tamanho() {
+        return pontos.size();
+    }
+
+    /**
+     * Pontos a até raioKm do centro que atendem ao filtro, do mais próximo para o mais distante.
+     */
+    public List<Resultado<T>> buscar(double latitude, double longitude, double raioKm, Predicate<? super T> filtro,
+                                     int limite) {
+        double grausLatitude = raioKm / KM_POR_GRAU;
+        double latitudeMinima = Math.max(-90.0, latitude - grausLatitude);
+        double latitudeMaxima = Math.min(90.0, latitude + grausLatitude);
+        // Largura em longitude na latitude mais distante do equador dentro do retângulo
+        double cosseno = Math.cos(Math.toRadians(Math.max(Math.abs(latitudeMinima), Math.abs(latitudeMaxima))));
+        double grausLongitude = cosseno > 1e-6 ? grausLatitude / cosseno : 360.0;
+
+        int primeiraColuna;
+        int quantidadeColunas;
+        if (grausLongitude >= 180.0) {
+            primeiraColuna = 0;
+            quantidadeColunas = colunas;
+        } else {
+            primeiraColuna = coluna(longitude - grausLongitude);
+            quantidadeColunas = Math.min(colunas, Math.floorMod(coluna(longitude + grausLongitude) - primeiraColuna, colunas) + 1);
+        }
+
+        Set<Long> vistos = new HashSet<>();
+        List<Resultado<T>> resultados = new ArrayList<>();
+        for (int linha = linha(latitudeMinima); linha <= linha(latitudeMaxima); linha++) {
+            for (int deslocamento = 0; deslocamento < quantidadeColunas; deslocamento++) {
+                Set<Long> ids = celulas.get(celula(linha, (primeiraColuna + deslocamento) % colunas));
+                if (ids == null) {
+                    continue;
+                }
+                for (Long id : ids) {
+                    Ponto<T> ponto = pontos.get(id);
+                    if (ponto == null || !vistos.add(id) || !filtro.test(ponto.valor)) {
+                        continue;
+                    }
+                    double distancia = distanciaKm(latitude, longitude, ponto.latitude, ponto.longitude);
+                    if (distancia <= raioKm) {
+                        resultados.add(new Resultado<>(ponto.valor, distancia));
+                    }
+                }
+            }
+        }
+        resultados.sort(Comparator.comparingDouble(Resultado::distanciaKm));
+        return resultados.size() <= limite ? resultados : resultados.subList(0, limite);
+    }
+
+    /**
+     * Distância de haversine, em km, entre dois pontos em graus decimais.
+     */
+    public static double distanciaKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double deltaLatitude = Math.toRadians(latitude2 - latitude1);
+        double deltaLongitude = Math.toRadians(longitude2 - longitude1);
+        double a = Math.pow(Math.sin(deltaLatitude / 2), 2)
+            + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+            * Math.pow(Math.sin(deltaLongitude / 2), 2);
+        return 2 * RAIO_TERRA_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    private int linha(double latitude) {
+        return (int) Math.floor((latitude + 90.0) / tamanhoCelula);
+    }
+
+    private int coluna(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180.0) / tamanhoCelula), colunas);
+    }
+
+    private long celula(int linha, int coluna) {
+        return (long) linha * colunas + coluna;
+    }
+
+    private void removerDaCelula(long celula, Long id) {
+        celulas.computeIfPresent(celula, (chave, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    public record Resultado<T>(T valor, double distanciaKm) {
+    }
+
+    private record Ponto<T>(double latitude, double longitude, long celula, T valor) {
+    }
+}
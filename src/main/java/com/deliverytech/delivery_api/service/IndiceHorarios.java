@@ -0,0 +1,162 @@
+package com.deliverytech.delivery_api.service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Índice em memória de quem está aberto em cada minuto da semana, por bitsets.
+ *
+ * Cada valor ocupa uma posição de bit. Para cada minuto da semana há um bitset com as
+ * posições abertas; como o conjunto só muda nas aberturas e fechamentos, minutos seguidos
+ * com os mesmos bits compartilham um único bitset, guardado no minuto em que o trecho
+ * começa. Cada categoria tem o bitset das suas posições, e "abertos agora na categoria" é
+ * a interseção dos dois.
+ *
+ * Os bitsets publicados nunca são alterados: uma escrita troca apenas os trechos atingidos
+ * por cópias. Escritas são serializadas; buscas não bloqueiam e veem cada trecho antes ou
+ * depois da escrita.
+ */
+public class IndiceHorarios<T> {
+
+    private final ConcurrentSkipListMap<Integer, BitSet> abertos = new ConcurrentSkipListMap<>();
+    private final Map<String, BitSet> porCategoria = new ConcurrentHashMap<>();
+    private final Map<Integer, T> valores = new ConcurrentHashMap<>();
+
+    // Estado das escritas, protegido por synchronized
+    private final Map<Long, Registro> registros = new HashMap<>();
+    private final BitSet posicoesLivres = new BitSet();
+    private int proximaPosicao;
+
+    public IndiceHorarios() {
+        abertos.put(0, new BitSet());
+    }
+
+    /**
+     * Inclui o valor ou substitui o horário, a categoria e o valor já indexados com o ID.
+     * Os minutos que continuam abertos não deixam de ser encontrados durante a troca.
+     *
+     * @param categoria Categoria já normalizada
+     */
+    public synchronized void incluir(Long id, HorarioFuncionamento horario, String categoria, T valor) {
+        Registro anterior = registros.get(id);
+        int posicao = anterior != null ? anterior.posicao : reservarPosicao();
+        valores.put(posicao, valor);
+
+        BitSet minutos = horario.minutos();
+        BitSet minutosAnteriores = anterior != null ? anterior.horario.minutos() : new BitSet();
+        BitSet abrir = (BitSet) minutos.clone();
+        abrir.andNot(minutosAnteriores);
+        minutosAnteriores.andNot(minutos);
+        alterar(abrir, posicao, true);
+        alterar(minutosAnteriores, posicao, false);
+
+        alterarCategoria(categoria, posicao, true);
+        if (anterior != null && !anterior.categoria.equals(categoria)) {
+            alterarCategoria(anterior.categoria, posicao, false);
+        }
+        registros.put(id, new Registro(posicao, horario, categoria));
+    }
+
+    public synchronized void remover(Long id) {
+        Registro anterior = registros.remove(id);
+        if (anterior == null) {
+            return;
+        }
+        alterar(anterior.horario.minutos(), anterior.posicao, false);
+        alterarCategoria(anterior.categoria, anterior.posicao, false);
+        valores.remove(anterior.posicao);
+        posicoesLivres.set(anterior.posicao);
+    }
+
+    public int tamanho() {
+        return valores.size();
+    }
+
+    /**
+     * Valores abertos no minuto da semana (ver HorarioFuncionamento.minutoDaSemana).
+     *
+     * @param categoria Categoria já normalizada ou null para todas
+     */
+    public List<T> buscar(int minutoDaSemana, String categoria) {
+        BitSet resultado = (BitSet) abertos.floorEntry(minutoDaSemana).getValue().clone();
+        if (categoria != null) {
+            resultado.and(porCategoria.getOrDefault(categoria, new BitSet()));
+        }
+        List<T> encontrados = new ArrayList<>(resultado.cardinality());
+        for (int posicao = resultado.nextSetBit(0); posicao >= 0; posicao = resultado.nextSetBit(posicao + 1)) {
+            T valor = valores.get(posicao);
+            if (valor != null) {
+                encontrados.add(valor);
+            }
+        }
+        return encontrados;
+    }
+
+    /**
+     * Quantidade de trechos com bitset próprio (no máximo um por abertura ou fechamento distinto).
+     */
+    public int trechos() {
+        return abertos.size();
+    }
+
+    private int reservarPosicao() {
+        int livre = posicoesLivres.nextSetBit(0);
+        if (livre < 0) {
+            return proximaPosicao++;
+        }
+        posicoesLivres.clear(livre);
+        return livre;
+    }
+
+    // Liga ou desliga a posição em cada sequência contínua de minutos marcada
+    private void alterar(BitSet minutos, int posicao, boolean aberto) {
+        for (int inicio = minutos.nextSetBit(0); inicio >= 0; inicio = minutos.nextSetBit(inicio + 1)) {
+            int fim = minutos.nextClearBit(inicio);
+            dividir(inicio);
+            if (fim < HorarioFuncionamento.MINUTOS_SEMANA) {
+                dividir(fim);
+            }
+            for (Integer minuto : new ArrayList<>(abertos.subMap(inicio, fim).keySet())) {
+                BitSet copia = (BitSet) abertos.get(minuto).clone();
+                copia.set(posicao, aberto);
+                abertos.put(minuto, copia);
+            }
+            juntar(inicio);
+            juntar(fim);
+            inicio = fim;
+        }
+    }
+
+    // Começa um trecho no minuto, com os bits do trecho que o contém (compartilhados até a cópia)
+    private void dividir(int minuto) {
+        if (!abertos.containsKey(minuto)) {
+            abertos.put(minuto, abertos.floorEntry(minuto).getValue());
+        }
+    }
+
+    // Remove o início de trecho que ficou com os mesmos bits do trecho anterior
+    private void juntar(int minuto) {
+        BitSet bits = abertos.get(minuto);
+        if (minuto > 0 && bits != null && bits.equals(abertos.lowerEntry(minuto).getValue())) {
+            abertos.remove(minuto);
+        }
+    }
+
+    private void alterarCategoria(String categoria, int posicao, boolean incluir) {
+        BitSet copia = (BitSet) porCategoria.getOrDefault(categoria, new BitSet()).clone();
+        copia.set(posicao, incluir);
+        if (copia.isEmpty()) {
+            porCategoria.remove(categoria);
+        } else {
+            porCategoria.put(categoria, copia);
+        }
+    }
+
+    private record Registro(int posicao, HorarioFuncionamento horario, String categoria) {
+    }
+}
@@ -0,0 +1,196 @@
+package com.deliverytech.delivery_api.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * Índice invertido em memória para busca textual, sem consultas LIKE '%...%' no banco.
+ *
+ * Cada documento tem um valor (o que a busca retorna) e textos por campo, com pesos
+ * definidos na criação do índice (ex.: nome pesa mais que descrição). Os textos são
+ * normalizados por termos(): minúsculas, sem acentos, sem palavras vazias do português e
+ * sem o "s" final do plural, de modo que "Pizzas à Moda" e "pizza moda" se encontrem.
+ *
+ * Na busca, todos os termos da consulta precisam aparecer no documento. Um termo encontra
+ * as palavras iguais a ele e, com dois ou mais caracteres, as que começam com ele (digitação
+ * em andamento), com metade do peso. A relevância soma, por termo, o peso dos campos em que
+ * a palavra aparece vezes a sua raridade no índice (idf).
+ *
+ * Palavras vazias não são indexadas nem exigidas, exceto a última palavra da consulta:
+ * ela pode ser o começo de outra ("com" → "combo") e vale como prefixo opcional. Sozinha,
+ * encontra as palavras que começam com ela; junto de outros termos, só soma relevância.
+ *
+ * Escritas são serializadas; buscas não bloqueiam e podem ver um documento em atualização.
+ */
+public class IndiceTexto<T> {
+
+    private static final Pattern ACENTOS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^\\p{Alnum}]+");
+    static final Set<String> PALAVRAS_VAZIAS = Set.of(
+        "a", "o", "as", "os", "e", "de", "da", "do", "das", "dos", "em", "na", "no", "nas", "nos",
+        "com", "para", "por", "um", "uma", "ao");
+    private static final int PREFIXO_MINIMO = 2;
+    private static final double PESO_PREFIXO = 0.5;
+
+    private final double[] pesos;
+    private final Map<Long, Documento<T>> documentos = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<String, Map<Long, Double>> termos = new ConcurrentSkipListMap<>();
+
+    /**
+     * @param pesos Peso de cada campo, na ordem em que os textos são passados a indexar()
+     */
+    public IndiceTexto(double... pesos) {
+        this.pesos = pesos.clone();
+    }
+
+    /**
+     * Inclui ou substitui o documento.
+     *
+     * @param textos Texto de cada campo (pode ser null), na ordem dos pesos
+     */
+    public synchronized void indexar(Long id, T valor, String... textos) {
+        Map<String, Double> novos = new HashMap<>();
+        for (int campo = 0; campo < pesos.length && campo < textos.length; campo++) {
+            for (String termo : termos(textos[campo])) {
+                novos.merge(termo, pesos[campo], Double::sum);
+            }
+        }
+
+        Documento<T> anterior = documentos.put(id, new Documento<>(valor, novos.keySet()));
+        if (anterior != null) {
+            anterior.termos.stream().filter(termo -> !novos.containsKey(termo)).forEach(termo -> removerTermo(termo, id));
+        }
+        novos.forEach((termo, peso) -> termos.computeIfAbsent(termo, chave -> new ConcurrentHashMap<>()).put(id, peso));
+    }
+
+    public synchronized void remover(Long id) {
+        Documento<T> anterior = documentos.remove(id);
+        if (anterior != null) {
+            anterior.termos.forEach(termo -> removerTermo(termo, id));
+        }
+    }
+
+    public int tamanho() {
+        return documentos.size();
+    }
+
+    /**
+     * Documentos que contêm todos os termos da consulta, do mais relevante para o menos
+     * (empate: menor ID primeiro).
+     */
+    public List<T> buscar(String consulta, int limite) {
+        List<String> termosConsulta = termos(consulta);
+        String prefixoFinal = prefixoFinal(consulta);
+        if (termosConsulta.isEmpty() && prefixoFinal == null) {
+            return List.of();
+        }
+
+        Map<Long, Double> pontuacao = null;
+        for (String termo : new HashSet<>(termosConsulta)) {
+            Map<Long, Double> doTermo = pontuar(termo);
+            if (pontuacao == null) {
+                pontuacao = doTermo;
+            } else {
+                pontuacao.keySet().retainAll(doTermo.keySet());
+                pontuacao.replaceAll((id, pontos) -> pontos + doTermo.get(id));
+            }
+            if (pontuacao.isEmpty()) {
+                return List.of();
+            }
+        }
+        if (prefixoFinal != null) {
+            Map<Long, Double> doPrefixo = pontuar(prefixoFinal);
+            if (pontuacao == null) {
+                pontuacao = doPrefixo;
+            } else {
+                pontuacao.replaceAll((id, pontos) -> pontos + doPrefixo.getOrDefault(id, 0.0));
+            }
+        }
+
+        List<T> resultado = new ArrayList<>(Math.min(limite, pontuacao.size()));
+        pontuacao.entrySet().stream()
+            .sorted(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()))
+            .limit(limite)
+            .forEach(entrada -> {
+                Documento<T> documento = documentos.get(entrada.getKey());
+                if (documento != null) {
+                    resultado.add(documento.valor);
+                }
+            });
+        return resultado;
+    }
+
+    /**
+     * Termos de um texto como indexados e buscados: minúsculas, sem acentos e pontuação,
+     * sem palavras vazias e sem o "s" final de palavras com mais de três letras.
+     */
+    public static List<String> termos(String texto) {
+        String normalizado = normalizar(texto);
+        if (normalizado.isEmpty()) {
+            return List.of();
+        }
+        List<String> termos = new ArrayList<>();
+        for (String palavra : normalizado.split(" ")) {
+            if (palavra.isEmpty() || PALAVRAS_VAZIAS.contains(palavra)) {
+                continue;
+            }
+            termos.add(palavra.length() > 3 && palavra.endsWith("s") && !palavra.endsWith("ss")
+                ? palavra.substring(0, palavra.length() - 1)
+                : palavra);
+        }
+        return termos;
+    }
+
+    /**
+     * Texto em minúsculas, sem acentos, com as palavras separadas por um espaço.
+     */
+    public static String normalizar(String texto) {
+        if (texto == null) {
+            return "";
+        }
+        String semAcentos = ACENTOS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARADORES.matcher(semAcentos.toLowerCase()).replaceAll(" ").trim();
+    }
+
+    // Última palavra da consulta, se for uma palavra vazia com tamanho de prefixo
+    private static String prefixoFinal(String consulta) {
+        String normalizado = normalizar(consulta);
+        String ultima = normalizado.substring(normalizado.lastIndexOf(' ') + 1);
+        return ultima.length() >= PREFIXO_MINIMO && PALAVRAS_VAZIAS.contains(ultima) ? ultima : null;
+    }
+
+    // Palavra igual ao termo vale o peso inteiro; palavra que começa com ele, PESO_PREFIXO
+    private Map<Long, Double> pontuar(String termo) {
+        Map<Long, Double> pontuacao = new HashMap<>();
+        Map<String, Map<Long, Double>> encontrados = termo.length() >= PREFIXO_MINIMO
+            ? termos.subMap(termo, true, termo + Character.MAX_VALUE, false)
+            : termos.subMap(termo, true, termo, true);
+        int total = Math.max(documentos.size(), 1);
+        encontrados.forEach((palavra, ocorrencias) -> {
+            double idf = Math.log(1.0 + (double) total / Math.max(ocorrencias.size(), 1));
+            double fator = palavra.equals(termo) ? 1.0 : PESO_PREFIXO;
+            ocorrencias.forEach((id, peso) -> pontuacao.merge(id, peso * idf * fator, Math::max));
+        });
+        return pontuacao;
+    }
+
+    private void removerTermo(String termo, Long id) {
+        termos.computeIfPresent(termo, (chave, ocorrencias) -> {
+            ocorrencias.remove(id);
+            return ocorrencias.isEmpty() ? null : ocorrencias;
+        });
+    }
+
+    private record Documento<T>(T valor, Set<String> termos) {
+    }
+}
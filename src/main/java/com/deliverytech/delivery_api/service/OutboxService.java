@@ -0,0 +1,50 @@
+package com.deliverytech.delivery_api.service;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.deliverytech.delivery_api.dto.EventoPedidoDTO;
+import com.deliverytech.delivery_api.entity.EventoOutbox;
+import com.deliverytech.delivery_api.entity.Pedido.StatusPedido;
+import com.deliverytech.delivery_api.repository.EventoOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Grava cada EventoPedidoDTO publicado por PedidoService na tabela de outbox, dentro da
+ * transação da própria mudança: o evento existe se e somente se a mudança foi confirmada.
+ * A entrega aos consumidores fica com RelayOutboxService.
+ */
+@Service
+public class OutboxService {
+
+    private final EventoOutboxRepository eventoOutboxRepository;
+    private final ObjectMapper objectMapper;
+
+    public OutboxService(EventoOutboxRepository eventoOutboxRepository, ObjectMapper objectMapper) {
+        this.eventoOutboxRepository = eventoOutboxRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    // Listener síncrono (não @TransactionalEventListener): precisa rodar antes do commit
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrar(EventoPedidoDTO evento) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(evento);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar evento do pedido " + evento.pedidoId(), e);
+        }
+        eventoOutboxRepository.save(new EventoOutbox(tipo(evento), evento.pedidoId(), payload, evento.dataEvento()));
+    }
+
+    private static String tipo(EventoPedidoDTO evento) {
+        if (evento.statusAnterior() == null) {
+            return EventoOutbox.PEDIDO_CRIADO;
+        }
+        return evento.status() == StatusPedido.CANCELADO ? EventoOutbox.PEDIDO_CANCELADO : EventoOutbox.STATUS_ALTERADO;
+    }
+}
@@ -0,0 +1,250 @@
+package com.deliverytech.delivery_api.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.deliverytech.delivery_api.dto.CursorPedido;
+import com.deliverytech.delivery_api.dto.EventoPedidoDTO;
+import com.deliverytech.delivery_api.dto.PaginaDTO;
+import com.deliverytech.delivery_api.dto.PedidoPainelDTO;
+import com.deliverytech.delivery_api.dto.PedidoResumoDTO;
+import com.deliverytech.delivery_api.entity.Pedido.StatusPedido;
+import com.deliverytech.delivery_api.repository.PedidoRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Painel de pedidos em andamento (GET /pedidos?pendentes=true) servido da memória.
+ *
+ * Os pedidos não finalizados ficam em índices ordenados por (dataPedido, id): todos,
+ * por restaurante e por status. O painel é carregado do banco na inicialização e depois
+ * mantido pelos eventos que PedidoService publica, aplicados após o commit. Como commits
+ * concorrentes podem entregar eventos fora de ordem, cada pedido guarda a versão aplicada
+ * e eventos mais antigos são descartados; pedidos finalizados são lembrados por um minuto
+ * para que um evento atrasado não os traga de volta.
+ *
+ * Cada índice registra a revisão da sua última alteração, usada como ETag: um painel que
+ * não mudou é respondido com 304 sem montar a página.
+ *
+ * O painel reflete as mudanças feitas por esta instância; pedidos alterados fora dela
+ * (outra instância, SQL direto) só aparecem após reiniciar a aplicação.
+ */
+@Service
+public class PainelPendentesService implements SmartInitializingSingleton {
+
+    private final PedidoRepository pedidoRepository;
+    private final ClienteService clienteService;
+    private final RestauranteService restauranteService;
+
+    private final Map<Long, Entrada> porId = new ConcurrentHashMap<>();
+    private final Indice todos = new Indice();
+    private final Map<Long, Indice> porRestaurante = new ConcurrentHashMap<>();
+    private final Map<StatusPedido, Indice> porStatus = new EnumMap<>(StatusPedido.class);
+    private final Cache<Long, Long> finalizados = Caffeine.newBuilder()
+        .expireAfterWrite(Duration.ofMinutes(1))
+        .build();
+
+    // Revisões crescem em todos os índices; o prefixo distingue ETags de execuções anteriores
+    private final AtomicLong revisao = new AtomicLong();
+    private final String instancia = Long.toString(System.currentTimeMillis(), 36);
+
+    public PainelPendentesService(PedidoRepository pedidoRepository,
+                                  ClienteService clienteService,
+                                  RestauranteService restauranteService,
+                                  MeterRegistry meterRegistry) {
+        this.pedidoRepository = pedidoRepository;
+        this.clienteService = clienteService;
+        this.restauranteService = restauranteService;
+        for (StatusPedido status : StatusPedido.values()) {
+            if (!status.finalizado()) {
+                porStatus.put(status, new Indice());
+            }
+        }
+        Gauge.builder("delivery.painel.pendentes", porId, Map::size)
+            .description("Pedidos em andamento no painel em memória")
+            .register(meterRegistry);
+    }
+
+    // Antes do servidor web aceitar requisições
+    @Override
+    public void afterSingletonsInstantiated() {
+        carregar();
+    }
+
+    /**
+     * Lê os pedidos em andamento do banco e os aplica ao painel. Pode ser chamado com a
+     * aplicação em uso: um pedido só é substituído se a versão lida for mais recente.
+     */
+    public void carregar() {
+        for (PedidoPainelDTO pedido : pedidoRepository.findPainelPendentes()) {
+            aplicar(pedido.id(), pedido.versao(), pedido.status(), atual -> pedido.resumo());
+        }
+    }
+
+    /**
+     * Aplica a mudança confirmada de um pedido. Um pedido que ainda não está no painel
+     * recebe os nomes de cliente e restaurante dos caches de ClienteService e RestauranteService.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void atualizar(EventoPedidoDTO evento) {
+        // Consultado fora de compute(): o mapa não deve ficar bloqueado durante uma leitura no banco
+        PedidoResumoDTO novo = porId.containsKey(evento.pedidoId()) || evento.status().finalizado()
+            ? null
+            : new PedidoResumoDTO(
+                evento.pedidoId(),
+                evento.dataPedido(),
+                evento.status(),
+                evento.valorTotal(),
+                evento.clienteId(),
+                clienteService.buscarPorId(evento.clienteId()).getNome(),
+                evento.restauranteId(),
+                restauranteService.buscarPorId(evento.restauranteId()).getNome());
+        aplicar(evento.pedidoId(), evento.versao(), evento.status(),
+            atual -> atual != null ? comStatus(atual, evento.status()) : novo);
+    }
+
+    /**
+     * ETag do painel filtrado: muda sempre que algum pedido do filtro entra, sai ou muda de status.
+     */
+    public String etag(Long restauranteId, StatusPedido status) {
+        Indice indice = indice(restauranteId, status);
+        long ultimaAlteracao = indice != null ? indice.revisao.get() : 0;
+        return "\"" + instancia + "-" + ultimaAlteracao + "\"";
+    }
+
+    /**
+     * Página do painel, do pedido mais antigo para o mais recente.
+     *
+     * @param restauranteId Restaurante ou null para todos
+     * @param status Status em andamento ou null para todos (finalizados retornam vazio)
+     */
+    public PaginaDTO<PedidoResumoDTO> listar(Long restauranteId, StatusPedido status, String cursor, Integer tamanho) {
+        int limite = PedidoService.limitarTamanho(tamanho);
+        CursorPedido posicao = CursorPedido.decodificar(cursor, true);
+        Indice indice = indice(restauranteId, status);
+        if (indice == null) {
+            return new PaginaDTO<>(List.of(), null, 0);
+        }
+
+        // Com restaurante e status, percorre o índice do restaurante filtrando o status
+        boolean filtrarStatus = restauranteId != null && status != null;
+        List<PedidoResumoDTO> itens = new ArrayList<>(limite);
+        NavigableMap<ChavePainel, PedidoResumoDTO> seguintes =
+            indice.pedidos.tailMap(new ChavePainel(posicao.dataPedido(), posicao.id()), false);
+        for (PedidoResumoDTO pedido : seguintes.values()) {
+            if (filtrarStatus && pedido.status() != status) {
+                continue;
+            }
+            if (itens.size() == limite) {
+                return new PaginaDTO<>(itens, CursorPedido.de(itens.get(limite - 1)).codificar(), limite);
+            }
+            itens.add(pedido);
+        }
+        return new PaginaDTO<>(itens, null, itens.size());
+    }
+
+    // Status finalizado ou restaurante sem pedidos em andamento: nenhum índice
+    private Indice indice(Long restauranteId, StatusPedido status) {
+        if (status != null && status.finalizado()) {
+            return null;
+        }
+        if (restauranteId != null) {
+            return porRestaurante.get(restauranteId);
+        }
+        return status != null ? porStatus.get(status) : todos;
+    }
+
+    private void aplicar(Long id, long versao, StatusPedido status,
+                         Function<PedidoResumoDTO, PedidoResumoDTO> resumo) {
+        porId.compute(id, (chave, atual) -> {
+            if (atual != null ? atual.versao >= versao : versao <= finalizados.asMap().getOrDefault(id, -1L)) {
+                return atual;
+            }
+
+            if (status.finalizado()) {
+                finalizados.put(id, versao);
+                if (atual != null) {
+                    ChavePainel chavePainel = ChavePainel.de(atual.resumo);
+                    todos.pedidos.remove(chavePainel);
+                    porRestaurante.get(atual.resumo.restauranteId()).pedidos.remove(chavePainel);
+                    porStatus.get(atual.resumo.status()).pedidos.remove(chavePainel);
+                    marcarAlteracao(atual.resumo, null);
+                }
+                return null;
+            }
+
+            PedidoResumoDTO novo = resumo.apply(atual != null ? atual.resumo : null);
+            if (novo == null) {
+                return atual;
+            }
+            ChavePainel chavePainel = ChavePainel.de(novo);
+            // put substitui no lugar: quem percorre o índice não deixa de ver o pedido
+            todos.pedidos.put(chavePainel, novo);
+            porRestaurante.computeIfAbsent(novo.restauranteId(), restauranteId -> new Indice()).pedidos.put(chavePainel, novo);
+            porStatus.get(novo.status()).pedidos.put(chavePainel, novo);
+            if (atual != null && atual.resumo.status() != novo.status()) {
+                porStatus.get(atual.resumo.status()).pedidos.remove(chavePainel);
+            }
+            marcarAlteracao(novo, atual != null ? atual.resumo.status() : null);
+            return new Entrada(novo, versao);
+        });
+    }
+
+    // Depois de alterar os índices: quem lê a revisão antes do conteúdo nunca recebe 304 indevido
+    private void marcarAlteracao(PedidoResumoDTO pedido, StatusPedido statusAnterior) {
+        long atual = revisao.incrementAndGet();
+        todos.marcar(atual);
+        porRestaurante.get(pedido.restauranteId()).marcar(atual);
+        porStatus.get(pedido.status()).marcar(atual);
+        if (statusAnterior != null) {
+            porStatus.get(statusAnterior).marcar(atual);
+        }
+    }
+
+    private static PedidoResumoDTO comStatus(PedidoResumoDTO pedido, StatusPedido status) {
+        return new PedidoResumoDTO(pedido.id(), pedido.dataPedido(), status, pedido.valorTotal(),
+            pedido.clienteId(), pedido.clienteNome(), pedido.restauranteId(), pedido.restauranteNome());
+    }
+
+    private record Entrada(PedidoResumoDTO resumo, long versao) {
+    }
+
+    private record ChavePainel(LocalDateTime dataPedido, long id) implements Comparable<ChavePainel> {
+
+        static ChavePainel de(PedidoResumoDTO pedido) {
+            return new ChavePainel(pedido.dataPedido(), pedido.id());
+        }
+
+        @Override
+        public int compareTo(ChavePainel outra) {
+            int comparacao = dataPedido.compareTo(outra.dataPedido);
+            return comparacao != 0 ? comparacao : Long.compare(id, outra.id);
+        }
+    }
+
+    private static final class Indice {
+
+        private final ConcurrentSkipListMap<ChavePainel, PedidoResumoDTO> pedidos = new ConcurrentSkipListMap<>();
+        private final AtomicLong revisao = new AtomicLong();
+
+        void marcar(long novaRevisao) {
+            revisao.accumulateAndGet(novaRevisao, Math::max);
+        }
+    }
+}
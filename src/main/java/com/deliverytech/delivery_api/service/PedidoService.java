@@ -1,16 +1,45 @@
 package com.deliverytech.delivery_api.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.deliverytech.delivery_api.dto.CursorPedido;
+import com.deliverytech.delivery_api.dto.EventoPedidoDTO;
+import com.deliverytech.delivery_api.dto.PaginaDTO;
+import com.deliverytech.delivery_api.dto.PedidoDTO;
+import com.deliverytech.delivery_api.dto.PedidoResumoDTO;
+import com.deliverytech.delivery_api.dto.ResultadoLoteDTO;
+import com.deliverytech.delivery_api.dto.ResultadoTransicaoLoteDTO;
 import com.deliverytech.delivery_api.entity.Cliente;
 import com.deliverytech.delivery_api.entity.Pedido;
 import com.deliverytech.delivery_api.entity.Pedido.StatusPedido;
 import com.deliverytech.delivery_api.entity.Restaurante;
+import com.deliverytech.delivery_api.exception.ConflitoException;
 import com.deliverytech.delivery_api.repository.PedidoRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 
 /**
  * Service para gerenciamento de pedidos.
@@ -19,16 +48,41 @@ import com.deliverytech.delivery_api.repository.PedidoRepository;
 @Transactional
 public class PedidoService {
 
+    public static final int TAMANHO_PAGINA_PADRAO = 20;
+    public static final int TAMANHO_PAGINA_MAXIMO = 100;
+    public static final int TAMANHO_LOTE_EXPORTACAO = 500;
+    public static final int TAMANHO_LOTE_CRIACAO_MAXIMO = 1000;
+    public static final int TAMANHO_LOTE_STATUS_MAXIMO = 1000;
+    public static final Set<String> EXPANSOES = Set.of("cliente", "restaurante");
+
     private final PedidoRepository pedidoRepository;
     private final ClienteService clienteService;
     private final RestauranteService restauranteService;
+    private final AgregadoPedidoService agregadoPedidoService;
+    private final EntityManager entityManager;
+    private final ObjectWriter exportacaoWriter;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
 
     public PedidoService(PedidoRepository pedidoRepository,
                         ClienteService clienteService,
-                        RestauranteService restauranteService) {
+                        RestauranteService restauranteService,
+                        AgregadoPedidoService agregadoPedidoService,
+                        EntityManager entityManager,
+                        ObjectMapper objectMapper,
+                        Validator validator,
+                        ApplicationEventPublisher eventPublisher) {
         this.pedidoRepository = pedidoRepository;
         this.clienteService = clienteService;
         this.restauranteService = restauranteService;
+        this.agregadoPedidoService = agregadoPedidoService;
+        this.entityManager = entityManager;
+        // A saída pertence ao container HTTP: não fechar nem forçar flush a cada pedido
+        this.exportacaoWriter = objectMapper.writer()
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
     }
 
     public Pedido criar(Pedido pedido, Long clienteId, Long restauranteId) {
@@ -37,14 +91,85 @@ public class PedidoService {
 
         pedido.setCliente(cliente);
         pedido.setRestaurante(restaurante);
-        pedido.setDataPedido(LocalDateTime.now());
+        pedido.setDataPedido(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
         pedido.setStatus(StatusPedido.PENDENTE);
 
-        return pedidoRepository.save(pedido);
+        Pedido pedidoSalvo = pedidoRepository.save(pedido);
+        agregadoPedidoService.registrarCriacao(pedidoSalvo);
+        eventPublisher.publishEvent(EventoPedidoDTO.de(pedidoSalvo));
+        return pedidoSalvo;
     }
 
-    public List<Pedido> listarTodos() {
-        return pedidoRepository.findAll();
+    /**
+     * Cria vários pedidos em uma transação, com resultado individual por item.
+     * Clientes e restaurantes são buscados em uma consulta IN cada; os INSERTs vão em
+     * lotes JDBC (hibernate.jdbc.batch_size) e os agregados são atualizados uma vez por chave.
+     * Itens inválidos ou com cliente/restaurante inexistente são rejeitados sem afetar os demais.
+     */
+    public List<ResultadoLoteDTO> criarEmLote(List<PedidoDTO> itens) {
+        if (itens.size() > TAMANHO_LOTE_CRIACAO_MAXIMO) {
+            throw new IllegalStateException("Lote deve ter no máximo " + TAMANHO_LOTE_CRIACAO_MAXIMO + " pedidos");
+        }
+
+        Set<Long> clienteIds = new HashSet<>();
+        Set<Long> restauranteIds = new HashSet<>();
+        for (PedidoDTO item : itens) {
+            if (item != null) {
+                clienteIds.add(item.clienteId());
+                restauranteIds.add(item.restauranteId());
+            }
+        }
+        clienteIds.remove(null);
+        restauranteIds.remove(null);
+        Map<Long, Cliente> clientes = clienteService.buscarPorIds(clienteIds).stream()
+            .collect(Collectors.toMap(Cliente::getId, Function.identity()));
+        Map<Long, Restaurante> restaurantes = restauranteService.buscarPorIds(restauranteIds).stream()
+            .collect(Collectors.toMap(Restaurante::getId, Function.identity()));
+
+        LocalDateTime agora = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        List<Pedido> novos = new ArrayList<>();
+        List<Integer> indicesNovos = new ArrayList<>();
+        ResultadoLoteDTO[] resultados = new ResultadoLoteDTO[itens.size()];
+
+        for (int i = 0; i < itens.size(); i++) {
+            PedidoDTO item = itens.get(i);
+            String erro = validar(item, clientes, restaurantes);
+            if (erro != null) {
+                resultados[i] = ResultadoLoteDTO.falha(i, erro);
+                continue;
+            }
+
+            Pedido pedido = new Pedido();
+            pedido.setCliente(clientes.get(item.clienteId()));
+            pedido.setRestaurante(restaurantes.get(item.restauranteId()));
+            pedido.setValorTotal(item.valorTotal());
+            pedido.setObservacoes(item.observacoes());
+            pedido.setEnderecoEntrega(item.enderecoEntrega());
+            pedido.setLatitudeEntrega(item.latitudeEntrega());
+            pedido.setLongitudeEntrega(item.longitudeEntrega());
+            pedido.setDataPedido(agora);
+            pedido.setStatus(StatusPedido.PENDENTE);
+            novos.add(pedido);
+            indicesNovos.add(i);
+        }
+
+        pedidoRepository.saveAll(novos);
+        agregadoPedidoService.registrarCriacoes(novos);
+        entityManager.flush();
+        novos.forEach(pedido -> eventPublisher.publishEvent(EventoPedidoDTO.de(pedido)));
+
+        for (int j = 0; j < novos.size(); j++) {
+            int indice = indicesNovos.get(j);
+            resultados[indice] = ResultadoLoteDTO.sucesso(indice, novos.get(j).getId());
+        }
+        return List.of(resultados);
+    }
+
+    public PaginaDTO<PedidoResumoDTO> listarTodos(String cursor, Integer tamanho) {
+        CursorPedido posicao = CursorPedido.decodificar(cursor, false);
+        int limite = limitarTamanho(tamanho);
+        return paginar(pedidoRepository.findPaginaAposCursor(
+            posicao.dataPedido(), posicao.id(), Limit.of(limite + 1)), limite);
     }
 
     public Pedido buscarPorId(Long id) {
@@ -52,43 +177,198 @@ public class PedidoService {
             .orElseThrow(() -> new IllegalArgumentException("Pedido não encontrado com ID: " + id));
     }
 
-    public List<Pedido> buscarPorCliente(Long clienteId) {
-        return pedidoRepository.findByClienteId(clienteId);
+    /**
+     * Busca o pedido para exibição. Sem expandir, carrega cliente e restaurante juntos;
+     * com expandir, apenas as associações listadas (vazio = só o pedido).
+     */
+    @Transactional(readOnly = true)
+    public Pedido buscarDetalhe(Long id, Set<String> expandir) {
+        Optional<Pedido> pedido = expandir == null
+            ? pedidoRepository.findDetalheById(id)
+            : PlanoBusca.buscar(entityManager, Pedido.class, id, expandir, EXPANSOES);
+        return pedido.orElseThrow(() -> new IllegalArgumentException("Pedido não encontrado com ID: " + id));
     }
 
-    public List<Pedido> buscarPorRestaurante(Long restauranteId) {
-        return pedidoRepository.findByRestauranteId(restauranteId);
+    /**
+     * Estado atual do pedido no formato dos eventos (primeiro evento de GET /pedidos/{id}/eventos).
+     */
+    @Transactional(readOnly = true)
+    public EventoPedidoDTO buscarEvento(Long id) {
+        return EventoPedidoDTO.de(buscarPorId(id));
     }
 
-    public List<Pedido> buscarPorStatus(StatusPedido status) {
-        return pedidoRepository.findByStatus(status);
+    public PaginaDTO<PedidoResumoDTO> buscarPorCliente(Long clienteId, String cursor, Integer tamanho) {
+        CursorPedido posicao = CursorPedido.decodificar(cursor, false);
+        int limite = limitarTamanho(tamanho);
+        return paginar(pedidoRepository.findPaginaByClienteAposCursor(
+            clienteId, posicao.dataPedido(), posicao.id(), Limit.of(limite + 1)), limite);
     }
 
-    public Pedido atualizarStatus(Long id, StatusPedido novoStatus) {
-        Pedido pedido = buscarPorId(id);
-        pedido.setStatus(novoStatus);
+    public PaginaDTO<PedidoResumoDTO> buscarPorRestaurante(Long restauranteId, String cursor, Integer tamanho) {
+        CursorPedido posicao = CursorPedido.decodificar(cursor, false);
+        int limite = limitarTamanho(tamanho);
+        return paginar(pedidoRepository.findPaginaByRestauranteAposCursor(
+            restauranteId, posicao.dataPedido(), posicao.id(), Limit.of(limite + 1)), limite);
+    }
+
+    public PaginaDTO<PedidoResumoDTO> buscarPorStatus(StatusPedido status, String cursor, Integer tamanho) {
+        CursorPedido posicao = CursorPedido.decodificar(cursor, false);
+        int limite = limitarTamanho(tamanho);
+        return paginar(pedidoRepository.findPaginaByStatusAposCursor(
+            status, posicao.dataPedido(), posicao.id(), Limit.of(limite + 1)), limite);
+    }
 
-        // Se o status for ENTREGUE, registra a data de entrega
-        if (novoStatus == StatusPedido.ENTREGUE) {
-            pedido.setDataEntrega(LocalDateTime.now());
+    /**
+     * Exporta os pedidos de um período em JSON delimitado por linha (NDJSON).
+     * Lê com cursor e limpa o contexto de persistência a cada lote,
+     * mantendo o uso de memória constante independente do tamanho do período.
+     */
+    @Transactional(readOnly = true)
+    public void exportarPorPeriodo(LocalDateTime dataInicio, LocalDateTime dataFim, OutputStream saida)
+            throws IOException {
+        try (Stream<Pedido> pedidos = pedidoRepository.streamByDataPedidoBetween(dataInicio, dataFim)) {
+            int linhas = 0;
+            for (Pedido pedido : (Iterable<Pedido>) pedidos::iterator) {
+                exportacaoWriter.writeValue(saida, pedido);
+                saida.write('\n');
+
+                if (++linhas % TAMANHO_LOTE_EXPORTACAO == 0) {
+                    entityManager.clear();
+                    saida.flush();
+                }
+            }
         }
+        saida.flush();
+    }
+
+    public Pedido atualizarStatus(Long id, StatusPedido novoStatus) {
+        return atualizarStatus(id, novoStatus, null);
+    }
 
-        return pedidoRepository.save(pedido);
+    /**
+     * Muda o status seguindo o ciclo de StatusPedido, com um UPDATE condicional
+     * (status de origem e, se informada, versão esperada) em vez de ler, alterar e salvar.
+     * Duas atualizações concorrentes do mesmo pedido não se sobrescrevem: a segunda
+     * não encontra mais o status de origem e recebe ConflitoException.
+     *
+     * @param versaoEsperada versão lida pelo cliente (If-Match), ou null para não conferir
+     */
+    public Pedido atualizarStatus(Long id, StatusPedido novoStatus, Long versaoEsperada) {
+        transicionar(id, novoStatus, versaoEsperada);
+        // A linha já está bloqueada por esta transação: a leitura vê o resultado do UPDATE
+        Pedido pedido = pedidoRepository.findDetalheById(id).orElseThrow();
+        agregadoPedidoService.registrarMudancaStatus(pedido, pedido.getStatusAnterior());
+        eventPublisher.publishEvent(EventoPedidoDTO.de(pedido));
+        return pedido;
     }
 
-    public List<Pedido> buscarPedidosPendentes() {
-        return pedidoRepository.findPedidosPendentes();
+    /**
+     * Aplica a mesma transição a vários pedidos (ex: tela da cozinha movendo os confirmados
+     * para EM_PREPARACAO). Os pedidos elegíveis são bloqueados em uma consulta e alterados
+     * em um único UPDATE; os agregados são atualizados uma vez por chave. Pedidos inexistentes
+     * ou com status que não permite a transição são ignorados e listados no resultado.
+     */
+    public ResultadoTransicaoLoteDTO atualizarStatusEmLote(List<Long> ids, StatusPedido novoStatus) {
+        if (ids.size() > TAMANHO_LOTE_STATUS_MAXIMO) {
+            throw new IllegalStateException("Lote deve ter no máximo " + TAMANHO_LOTE_STATUS_MAXIMO + " pedidos");
+        }
+        if (novoStatus.origens().isEmpty()) {
+            throw new IllegalStateException("Status " + novoStatus + " não pode ser atribuído a um pedido existente");
+        }
+        Set<Long> solicitados = new LinkedHashSet<>(ids);
+        solicitados.remove(null);
+        if (solicitados.isEmpty()) {
+            return new ResultadoTransicaoLoteDTO(novoStatus, List.of(), List.of());
+        }
+
+        List<Pedido> elegiveis = pedidoRepository.findElegiveisParaTransicao(solicitados, novoStatus.origens());
+        List<Long> atualizados = elegiveis.stream().map(Pedido::getId).toList();
+        if (!elegiveis.isEmpty()) {
+            LocalDateTime dataEntrega = novoStatus == StatusPedido.ENTREGUE ? LocalDateTime.now() : null;
+            pedidoRepository.transicionarStatusEmLote(atualizados, novoStatus.origens(), novoStatus, dataEntrega);
+
+            // As linhas seguem bloqueadas por esta transação: a leitura vê o resultado do UPDATE
+            List<Pedido> transicionados = pedidoRepository.findDetalheByIdInOrderById(atualizados);
+            agregadoPedidoService.registrarMudancasStatus(transicionados);
+            transicionados.forEach(pedido -> eventPublisher.publishEvent(EventoPedidoDTO.de(pedido)));
+        }
+
+        Set<Long> atualizadosSet = new HashSet<>(atualizados);
+        List<Long> ignorados = solicitados.stream().filter(id -> !atualizadosSet.contains(id)).toList();
+        return new ResultadoTransicaoLoteDTO(novoStatus, atualizados, ignorados);
     }
 
     public void cancelar(Long id) {
+        cancelar(id, null);
+    }
+
+    public void cancelar(Long id, Long versaoEsperada) {
+        transicionar(id, StatusPedido.CANCELADO, versaoEsperada);
         Pedido pedido = buscarPorId(id);
+        agregadoPedidoService.registrarMudancaStatus(pedido, pedido.getStatusAnterior());
+        eventPublisher.publishEvent(EventoPedidoDTO.de(pedido));
+    }
 
-        // Só permite cancelar pedidos que não foram entregues
-        if (pedido.getStatus() == StatusPedido.ENTREGUE) {
-            throw new IllegalStateException("Não é possível cancelar um pedido já entregue");
+    private void transicionar(Long id, StatusPedido novoStatus, Long versaoEsperada) {
+        if (novoStatus.origens().isEmpty()) {
+            throw new IllegalStateException("Status " + novoStatus + " não pode ser atribuído a um pedido existente");
+        }
+        LocalDateTime dataEntrega = novoStatus == StatusPedido.ENTREGUE ? LocalDateTime.now() : null;
+        if (pedidoRepository.transicionarStatus(id, novoStatus.origens(), versaoEsperada, novoStatus, dataEntrega) == 0) {
+            throw conflitoTransicao(id, novoStatus, versaoEsperada);
         }
+    }
 
-        pedido.setStatus(StatusPedido.CANCELADO);
-        pedidoRepository.save(pedido);
+    // O UPDATE não alterou nenhuma linha: lê o pedido apenas para explicar o motivo
+    private RuntimeException conflitoTransicao(Long id, StatusPedido novoStatus, Long versaoEsperada) {
+        Pedido atual = buscarPorId(id);
+        if (versaoEsperada != null && !versaoEsperada.equals(atual.getVersao())) {
+            return new ConflitoException("Pedido " + id + " foi alterado por outra operação (versão atual: "
+                + atual.getVersao() + ", esperada: " + versaoEsperada + ")");
+        }
+        if (novoStatus == StatusPedido.CANCELADO && atual.getStatus() == StatusPedido.ENTREGUE) {
+            return new ConflitoException("Não é possível cancelar um pedido já entregue");
+        }
+        return new ConflitoException("Transição de status inválida: " + atual.getStatus() + " -> " + novoStatus);
+    }
+
+    // Mensagem do primeiro problema do item, ou null se puder ser criado
+    private String validar(PedidoDTO item, Map<Long, Cliente> clientes, Map<Long, Restaurante> restaurantes) {
+        if (item == null) {
+            return "Pedido não informado";
+        }
+        Set<ConstraintViolation<PedidoDTO>> violacoes = validator.validate(item);
+        if (!violacoes.isEmpty()) {
+            return violacoes.stream()
+                .map(violacao -> violacao.getPropertyPath() + ": " + violacao.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+        }
+        if (!clientes.containsKey(item.clienteId())) {
+            return "Cliente não encontrado com ID: " + item.clienteId();
+        }
+        if (!restaurantes.containsKey(item.restauranteId())) {
+            return "Restaurante não encontrado com ID: " + item.restauranteId();
+        }
+        return null;
+    }
+
+    // Aplica o tamanho padrão e o limite máximo de itens por página
+    // Também usado por PainelPendentesService
+    static int limitarTamanho(Integer tamanho) {
+        if (tamanho == null || tamanho < 1) {
+            return TAMANHO_PAGINA_PADRAO;
+        }
+        return Math.min(tamanho, TAMANHO_PAGINA_MAXIMO);
+    }
+
+    // Monta a página a partir de uma consulta que buscou um item a mais que o limite
+    private PaginaDTO<PedidoResumoDTO> paginar(List<PedidoResumoDTO> pedidos, int limite) {
+        if (pedidos.size() <= limite) {
+            return new PaginaDTO<>(pedidos, null, pedidos.size());
+        }
+        List<PedidoResumoDTO> itens = pedidos.subList(0, limite);
+        String proximoCursor = CursorPedido.de(itens.get(limite - 1)).codificar();
+        return new PaginaDTO<>(List.copyOf(itens), proximoCursor, limite);
     }
 }
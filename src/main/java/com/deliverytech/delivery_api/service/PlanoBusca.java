@@ -0,0 +1,35 @@
+package com.deliverytech.delivery_api.service;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.hibernate.jpa.SpecHints;
+
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Busca por ID com as associações escolhidas pelo cliente da API (?expand=).
+ * Monta um fetch graph dinâmico: as associações pedidas vêm no mesmo SELECT (JOIN)
+ * e as demais ficam LAZY.
+ */
+final class PlanoBusca {
+
+    private PlanoBusca() {
+    }
+
+    static <T> Optional<T> buscar(EntityManager entityManager, Class<T> tipo, Object id,
+                                  Set<String> expandir, Set<String> permitidas) {
+        EntityGraph<T> grafo = entityManager.createEntityGraph(tipo);
+        for (String associacao : expandir) {
+            if (!permitidas.contains(associacao)) {
+                throw new IllegalStateException("Expansão inválida: " + associacao
+                    + ". Valores aceitos: " + String.join(", ", new TreeSet<>(permitidas)));
+            }
+            grafo.addAttributeNodes(associacao);
+        }
+        return Optional.ofNullable(entityManager.find(tipo, id, Map.of(SpecHints.HINT_SPEC_FETCH_GRAPH, grafo)));
+    }
+}
@@ -1,37 +1,63 @@
 package com.deliverytech.delivery_api.service;
 
 import java.util.List;
+import java.util.Set;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.deliverytech.delivery_api.dto.EventoCardapioDTO;
+import com.deliverytech.delivery_api.dto.ProdutoResumoDTO;
 import com.deliverytech.delivery_api.entity.Produto;
 import com.deliverytech.delivery_api.entity.Restaurante;
 import com.deliverytech.delivery_api.repository.ProdutoRepository;
+import com.deliverytech.delivery_api.service.RespostasSerializadas.Listagem;
+
+import jakarta.persistence.EntityManager;
 
 /**
  * Service para gerenciamento de produtos.
+ * As leituras do cardápio de um restaurante vêm de CardapioService (memória); cada
+ * escrita publica um EventoCardapioDTO que o atualiza após o commit.
  */
 @Service
 @Transactional
 public class ProdutoService {
 
+    public static final Set<String> EXPANSOES = Set.of("restaurante");
+
     private final ProdutoRepository produtoRepository;
     private final RestauranteService restauranteService;
-
-    public ProdutoService(ProdutoRepository produtoRepository, RestauranteService restauranteService) {
+    private final CardapioService cardapioService;
+    private final BuscaService buscaService;
+    private final RespostasSerializadas respostasSerializadas;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+
+    public ProdutoService(ProdutoRepository produtoRepository, RestauranteService restauranteService,
+                          CardapioService cardapioService, BuscaService buscaService,
+                          RespostasSerializadas respostasSerializadas, ApplicationEventPublisher eventPublisher,
+                          EntityManager entityManager) {
         this.produtoRepository = produtoRepository;
         this.restauranteService = restauranteService;
+        this.cardapioService = cardapioService;
+        this.buscaService = buscaService;
+        this.respostasSerializadas = respostasSerializadas;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
     }
 
     public Produto criar(Produto produto, Long restauranteId) {
         Restaurante restaurante = restauranteService.buscarPorId(restauranteId);
         produto.setRestaurante(restaurante);
-        return produtoRepository.save(produto);
+        Produto produtoSalvo = produtoRepository.save(produto);
+        publicarAlteracao(restauranteId, produtoSalvo.getId(), ProdutoResumoDTO.de(produtoSalvo));
+        return produtoSalvo;
     }
 
-    public List<Produto> listarTodos() {
-        return produtoRepository.findAll();
+    public List<ProdutoResumoDTO> listarTodos() {
+        return produtoRepository.findAllResumos();
     }
 
     public Produto buscarPorId(Long id) {
@@ -39,6 +65,16 @@ public class ProdutoService {
             .orElseThrow(() -> new IllegalArgumentException("Produto não encontrado com ID: " + id));
     }
 
+    /**
+     * Busca o produto para exibição. Sem expandir, carrega o restaurante junto;
+     * com expandir vazio, apenas o produto.
+     */
+    @Transactional(readOnly = true)
+    public Produto buscarDetalhe(Long id, Set<String> expandir) {
+        return PlanoBusca.buscar(entityManager, Produto.class, id, expandir == null ? EXPANSOES : expandir, EXPANSOES)
+            .orElseThrow(() -> new IllegalArgumentException("Produto não encontrado com ID: " + id));
+    }
+
     public Produto atualizar(Long id, Produto produtoAtualizado) {
         Produto produto = buscarPorId(id);
 
@@ -51,23 +87,71 @@ public class ProdutoService {
         }
         produto.setImagemUrl(produtoAtualizado.getImagemUrl());
 
-        return produtoRepository.save(produto);
+        Produto produtoSalvo = produtoRepository.save(produto);
+        publicarAlteracao(produto.getRestaurante().getId(), id, ProdutoResumoDTO.de(produtoSalvo));
+        return produtoSalvo;
     }
 
     public void deletar(Long id) {
         Produto produto = buscarPorId(id);
         produtoRepository.delete(produto);
+        publicarAlteracao(produto.getRestaurante().getId(), id, null);
+    }
+
+    public List<ProdutoResumoDTO> buscarPorRestaurante(Long restauranteId) {
+        return cardapioService.buscar(restauranteId).produtos();
+    }
+
+    public List<ProdutoResumoDTO> buscarDisponiveisPorRestaurante(Long restauranteId) {
+        return cardapioService.buscar(restauranteId).disponiveis();
+    }
+
+    /**
+     * Produtos de uma categoria no cardápio do restaurante.
+     */
+    public List<ProdutoResumoDTO> buscarPorRestauranteECategoria(Long restauranteId, String categoria,
+                                                                 boolean apenasDisponiveis) {
+        return cardapioService.buscar(restauranteId).porCategoria(categoria, apenasDisponiveis);
+    }
+
+    /**
+     * Produtos disponíveis do restaurante, do mais barato para o mais caro.
+     */
+    public List<ProdutoResumoDTO> buscarDisponiveisPorPreco(Long restauranteId) {
+        return cardapioService.buscar(restauranteId).disponiveisPorPreco();
+    }
+
+    /**
+     * Os produtos disponíveis mais caros do restaurante, do mais caro para o mais barato.
+     */
+    public List<ProdutoResumoDTO> buscarMaisCaros(Long restauranteId, int limite) {
+        return cardapioService.buscar(restauranteId).maisCaros(limite);
+    }
+
+    /**
+     * Categorias com produtos disponíveis no restaurante, em ordem alfabética.
+     */
+    public List<String> buscarCategorias(Long restauranteId) {
+        return cardapioService.buscar(restauranteId).categorias();
     }
 
-    public List<Produto> buscarPorRestaurante(Long restauranteId) {
-        return produtoRepository.findByRestauranteId(restauranteId);
+    /**
+     * Busca textual de produtos disponíveis (nome, categoria, descrição) no índice em memória,
+     * por relevância.
+     */
+    public List<ProdutoResumoDTO> buscarPorTexto(String consulta, Integer limite) {
+        return buscaService.buscarProdutos(consulta, limite);
     }
 
-    public List<Produto> buscarDisponiveisPorRestaurante(Long restauranteId) {
-        return produtoRepository.findProdutosDisponiveisByRestaurante(restauranteId);
+    public List<ProdutoResumoDTO> buscarPorCategoria(String categoria) {
+        return produtoRepository.findResumosByCategoria(categoria);
     }
 
-    public List<Produto> buscarPorCategoria(String categoria) {
-        return produtoRepository.findByCategoria(categoria);
+    // Respostas do restaurante mudam com a versão do catálogo; as listagens gerais, pela geração,
+    // registrada depois do evento para que os índices em memória já estejam atualizados
+    private void publicarAlteracao(Long restauranteId, Long produtoId, ProdutoResumoDTO produto) {
+        long versao = restauranteService.registrarAlteracaoCatalogo(restauranteId);
+        eventPublisher.publishEvent(new EventoCardapioDTO(restauranteId, versao, produtoId, produto));
+        respostasSerializadas.invalidarAposCommit(Listagem.PRODUTOS);
     }
 }
@@ -0,0 +1,101 @@
+package com.deliverytech.delivery_api.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.deliverytech.delivery_api.dto.EventoRestauranteDTO;
+import com.deliverytech.delivery_api.dto.RestauranteProximoDTO;
+import com.deliverytech.delivery_api.entity.Restaurante;
+import com.deliverytech.delivery_api.repository.RestauranteRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Busca de restaurantes próximos (GET /restaurantes/proximos) em um IndiceGeografico em memória.
+ *
+ * O índice contém os restaurantes ativos com latitude e longitude. Ele é carregado do banco
+ * na inicialização e depois mantido pelos eventos de RestauranteService, aplicados após o
+ * commit. Alterações feitas por outra instância só aparecem após reiniciar a aplicação.
+ *
+ * Propriedades:
+ * - delivery.proximidade.tamanho-celula (padrão: 0.05 grau, cerca de 5,5 km)
+ */
+@Service
+public class ProximidadeService implements SmartInitializingSingleton {
+
+    public static final double RAIO_PADRAO_KM = 5.0;
+    public static final double RAIO_MAXIMO_KM = 50.0;
+    public static final int LIMITE_PADRAO = 20;
+    public static final int LIMITE_MAXIMO = 100;
+
+    private final RestauranteRepository restauranteRepository;
+    private final IndiceGeografico<Restaurante> indice;
+
+    public ProximidadeService(RestauranteRepository restauranteRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${delivery.proximidade.tamanho-celula:0.05}") double tamanhoCelula) {
+        this.restauranteRepository = restauranteRepository;
+        this.indice = new IndiceGeografico<>(tamanhoCelula);
+        Gauge.builder("delivery.proximidade.restaurantes", indice, IndiceGeografico::tamanho)
+            .description("Restaurantes ativos com coordenadas no índice espacial")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        carregar();
+    }
+
+    /**
+     * Lê os restaurantes do banco e os aplica ao índice.
+     */
+    public void carregar() {
+        restauranteRepository.findAll().forEach(restaurante -> aplicar(restaurante.getId(), restaurante));
+    }
+
+    /**
+     * Restaurantes ativos a até raioKm do ponto, do mais próximo para o mais distante.
+     *
+     * @param categoria Categoria exata (sem diferenciar maiúsculas) ou null para todas
+     * @param avaliacaoMinima Avaliação mínima ou null
+     * @throws IllegalStateException se as coordenadas ou o raio são inválidos
+     */
+    public List<RestauranteProximoDTO> buscar(double latitude, double longitude, Double raioKm,
+                                              String categoria, Double avaliacaoMinima, Integer limite) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalStateException("Coordenadas inválidas: latitude entre -90 e 90, longitude entre -180 e 180");
+        }
+        double raio = raioKm != null ? raioKm : RAIO_PADRAO_KM;
+        if (raio <= 0 || raio > RAIO_MAXIMO_KM) {
+            throw new IllegalStateException("Raio deve ser maior que 0 e no máximo " + RAIO_MAXIMO_KM + " km");
+        }
+        int quantidade = limite == null || limite < 1 ? LIMITE_PADRAO : Math.min(limite, LIMITE_MAXIMO);
+
+        return indice.buscar(latitude, longitude, raio,
+                restaurante -> (categoria == null || categoria.equalsIgnoreCase(restaurante.getCategoria()))
+                    && (avaliacaoMinima == null || restaurante.getAvaliacao() >= avaliacaoMinima),
+                quantidade)
+            .stream()
+            .map(resultado -> RestauranteProximoDTO.de(resultado.valor(), resultado.distanciaKm()))
+            .toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void atualizar(EventoRestauranteDTO evento) {
+        aplicar(evento.restauranteId(), evento.restaurante());
+    }
+
+    private void aplicar(Long id, Restaurante restaurante) {
+        if (restaurante != null && Boolean.TRUE.equals(restaurante.getAtivo())
+            && restaurante.getLatitude() != null && restaurante.getLongitude() != null) {
+            indice.incluir(id, restaurante.getLatitude(), restaurante.getLongitude(), restaurante);
+        } else {
+            indice.remover(id);
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.deliverytech.delivery_api.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.deliverytech.delivery_api.dto.EventoPedidoDTO;
+import com.deliverytech.delivery_api.dto.EventoRestauranteDTO;
+import com.deliverytech.delivery_api.dto.RestauranteRankingDTO;
+import com.deliverytech.delivery_api.dto.VendasRestauranteDTO;
+import com.deliverytech.delivery_api.entity.Pedido.StatusPedido;
+import com.deliverytech.delivery_api.entity.Restaurante;
+import com.deliverytech.delivery_api.repository.RestauranteRepository;
+import com.deliverytech.delivery_api.repository.VendaHorariaRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Rankings de restaurantes ativos mantidos em memória, sem ORDER BY sobre a tabela inteira.
+ *
+ * - Por avaliação (GET /restaurantes?ordenarPorAvaliacao=true)
+ * - Por pontuação, geral e por categoria (GET /restaurantes/ranking): avaliação mais
+ *   peso-vendas × ln(1 + pedidos entregues na janela), para que restaurantes com muitas
+ *   entregas recentes subam entre os de avaliação parecida
+ *
+ * Cada ranking é um skiplist ordenado (maior primeiro, empate: menor ID): uma mudança
+ * reposiciona apenas o restaurante alterado e os k primeiros são lidos sem ordenar nada.
+ * Restaurantes são aplicados pelos eventos de RestauranteService e pedidos entregues pelos
+ * de PedidoService, após o commit.
+ *
+ * Os pedidos entregues já são gravados em vendas_por_hora na transação do pedido; a cada
+ * intervalo a contagem da janela é relida de lá, o que descarta as horas que saíram da janela
+ * e incorpora entregas feitas por outras instâncias. Entre duas releituras a contagem é
+ * aproximada: uma entrega confirmada durante a releitura pode ser contada duas vezes.
+ *
+ * Propriedades:
+ * - delivery.ranking.janela (padrão: 24h de pedidos entregues, pela hora do pedido)
+ * - delivery.ranking.peso-vendas (padrão: 0.5; 0 ordena apenas pela avaliação)
+ * - delivery.ranking.intervalo (padrão: 5m entre releituras das vendas)
+ */
+@Service
+public class RankingService implements SmartInitializingSingleton {
+
+    public static final int LIMITE_PADRAO = 10;
+    public static final int LIMITE_MAXIMO = 100;
+
+    private static final Comparator<Posicao> ORDEM_AVALIACAO = Comparator
+        .comparingDouble(Posicao::avaliacao).reversed()
+        .thenComparing(Posicao::id);
+    private static final Comparator<Posicao> ORDEM_PONTUACAO = Comparator
+        .comparingDouble(Posicao::pontuacao).reversed()
+        .thenComparing(Posicao::id);
+
+    private final RestauranteRepository restauranteRepository;
+    private final VendaHorariaRepository vendaHorariaRepository;
+    private final Duration janela;
+    private final double pesoVendas;
+
+    private final Ranking porAvaliacao = new Ranking(ORDEM_AVALIACAO);
+    private final Ranking porPontuacao = new Ranking(ORDEM_PONTUACAO);
+    private final Map<String, Ranking> porCategoria = new ConcurrentHashMap<>();
+
+    // Estado das escritas, protegido por synchronized; as consultas leem apenas os rankings
+    private final Map<Long, Posicao> posicoes = new HashMap<>();
+    private final Map<Long, Long> pedidosRecentes = new HashMap<>();
+
+    public RankingService(RestauranteRepository restauranteRepository,
+                          VendaHorariaRepository vendaHorariaRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${delivery.ranking.janela:24h}") Duration janela,
+                          @Value("${delivery.ranking.peso-vendas:0.5}") double pesoVendas) {
+        this.restauranteRepository = restauranteRepository;
+        this.vendaHorariaRepository = vendaHorariaRepository;
+        this.janela = janela;
+        this.pesoVendas = pesoVendas;
+        Gauge.builder("delivery.ranking.restaurantes", porAvaliacao.posicoes, Set::size)
+            .description("Restaurantes ativos nos rankings em memória")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        carregar();
+    }
+
+    /**
+     * Lê as vendas da janela e os restaurantes do banco e os aplica aos rankings.
+     */
+    public synchronized void carregar() {
+        lerVendas();
+        restauranteRepository.findAll().forEach(restaurante -> aplicar(restaurante.getId(), restaurante));
+    }
+
+    /**
+     * Relê do banco os pedidos entregues na janela e reposiciona os restaurantes cuja contagem mudou.
+     */
+    @Scheduled(initialDelayString = "${delivery.ranking.intervalo:5m}", fixedDelayString = "${delivery.ranking.intervalo:5m}")
+    public synchronized void atualizarVendas() {
+        Set<Long> alterados = new HashSet<>(pedidosRecentes.keySet());
+        Map<Long, Long> anteriores = new HashMap<>(pedidosRecentes);
+        lerVendas();
+        alterados.addAll(pedidosRecentes.keySet());
+        alterados.removeIf(id -> pedidosRecentes.getOrDefault(id, 0L).equals(anteriores.getOrDefault(id, 0L)));
+        alterados.forEach(this::reposicionar);
+    }
+
+    /**
+     * Restaurantes ativos da maior para a menor avaliação.
+     */
+    public List<Restaurante> ordenadosPorAvaliacao() {
+        return porAvaliacao.primeiros(Integer.MAX_VALUE, Posicao::restaurante);
+    }
+
+    /**
+     * Os restaurantes ativos de maior pontuação.
+     *
+     * @param categoria Categoria (sem diferenciar maiúsculas e acentos) ou null para todas
+     */
+    public List<RestauranteRankingDTO> buscar(String categoria, Integer limite) {
+        int quantidade = limite == null || limite < 1 ? LIMITE_PADRAO : Math.min(limite, LIMITE_MAXIMO);
+        Ranking ranking = categoria == null ? porPontuacao : porCategoria.get(IndiceTexto.normalizar(categoria));
+        return ranking == null ? List.of() : ranking.primeiros(quantidade, Posicao::dto);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void atualizarRestaurante(EventoRestauranteDTO evento) {
+        aplicar(evento.restauranteId(), evento.restaurante());
+    }
+
+    // ENTREGUE é final: cada pedido chega a ele uma única vez
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void atualizarPedido(EventoPedidoDTO evento) {
+        if (evento.status() == StatusPedido.ENTREGUE && evento.statusAnterior() != StatusPedido.ENTREGUE) {
+            pedidosRecentes.merge(evento.restauranteId(), 1L, Long::sum);
+            reposicionar(evento.restauranteId());
+        }
+    }
+
+    private void lerVendas() {
+        LocalDateTime inicio = LocalDateTime.now().minus(janela).truncatedTo(ChronoUnit.HOURS);
+        pedidosRecentes.clear();
+        for (VendasRestauranteDTO vendas : vendaHorariaRepository.somarQuantidadePorRestaurante(inicio, StatusPedido.ENTREGUE)) {
+            pedidosRecentes.put(vendas.restauranteId(), vendas.quantidade());
+        }
+    }
+
+    private void reposicionar(Long id) {
+        Posicao atual = posicoes.get(id);
+        if (atual != null) {
+            aplicar(id, atual.restaurante());
+        }
+    }
+
+    private void aplicar(Long id, Restaurante restaurante) {
+        Posicao anterior = posicoes.remove(id);
+        Posicao nova = null;
+        if (restaurante != null && Boolean.TRUE.equals(restaurante.getAtivo())) {
+            nova = Posicao.de(restaurante, pedidosRecentes.getOrDefault(id, 0L), pesoVendas);
+            posicoes.put(id, nova);
+        }
+
+        porAvaliacao.substituir(anterior, nova);
+        porPontuacao.substituir(anterior, nova);
+        String categoriaAnterior = anterior != null ? anterior.categoria() : null;
+        String categoriaNova = nova != null ? nova.categoria() : null;
+        if (categoriaNova != null) {
+            porCategoria.computeIfAbsent(categoriaNova, chave -> new Ranking(ORDEM_PONTUACAO))
+                .substituir(categoriaNova.equals(categoriaAnterior) ? anterior : null, nova);
+        }
+        if (categoriaAnterior != null && !categoriaAnterior.equals(categoriaNova)) {
+            Ranking ranking = porCategoria.get(categoriaAnterior);
+            ranking.substituir(anterior, null);
+            if (ranking.posicoes.isEmpty()) {
+                porCategoria.remove(categoriaAnterior);
+            }
+        }
+    }
+
+    // Valores de ordenação copiados do restaurante: o skiplist não pode ver a chave mudar
+    private record Posicao(Long id, String categoria, double avaliacao, long pedidosRecentes, double pontuacao,
+                           Restaurante restaurante) {
+
+        static Posicao de(Restaurante restaurante, long pedidosRecentes, double pesoVendas) {
+            double avaliacao = restaurante.getAvaliacao() != null ? restaurante.getAvaliacao() : 0.0;
+            return new Posicao(restaurante.getId(), IndiceTexto.normalizar(restaurante.getCategoria()), avaliacao,
+                pedidosRecentes, avaliacao + pesoVendas * Math.log1p(pedidosRecentes), restaurante);
+        }
+
+        // Pontuação exibida com três casas; a ordem usa o valor inteiro
+        RestauranteRankingDTO dto() {
+            return new RestauranteRankingDTO(id, restaurante.getNome(), restaurante.getCategoria(),
+                restaurante.getAvaliacao(), pedidosRecentes, Math.round(pontuacao * 1000) / 1000.0);
+        }
+    }
+
+    private static final class Ranking {
+
+        private final ConcurrentSkipListSet<Posicao> posicoes;
+
+        Ranking(Comparator<Posicao> ordem) {
+            this.posicoes = new ConcurrentSkipListSet<>(ordem);
+        }
+
+        // Inclui a nova posição antes de retirar a anterior: uma leitura concorrente vê o
+        // restaurante em uma das duas (ou nas duas, e primeiros() descarta a repetição)
+        void substituir(Posicao anterior, Posicao nova) {
+            if (nova == null) {
+                if (anterior != null) {
+                    posicoes.remove(anterior);
+                }
+            } else if (posicoes.add(nova)) {
+                if (anterior != null) {
+                    posicoes.remove(anterior);
+                }
+            } else {
+                // Mesma chave de ordenação: a anterior ocupa o lugar e precisa sair primeiro
+                posicoes.remove(anterior);
+                posicoes.add(nova);
+            }
+        }
+
+        <R> List<R> primeiros(int limite, Function<Posicao, R> mapeamento) {
+            List<R> resultado = new ArrayList<>(Math.min(limite, posicoes.size()));
+            Set<Long> vistos = new HashSet<>();
+            for (Posicao posicao : posicoes) {
+                if (resultado.size() >= limite) {
+                    break;
+                }
+                if (vistos.add(posicao.id())) {
+                    resultado.add(mapeamento.apply(posicao));
+                }
+            }
+            return resultado;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.deliverytech.delivery_api.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.deliverytech.delivery_api.entity.EventoOutbox;
+import com.deliverytech.delivery_api.repository.EventoOutboxRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Publica os eventos do outbox no DestinoEventos, em lotes.
+ *
+ * Cada lote é uma transação: reserva os eventos mais antigos com FOR UPDATE SKIP LOCKED,
+ * publica, remove as linhas e confirma. Várias instâncias podem rodar o relay ao mesmo
+ * tempo sem publicar o mesmo lote duas vezes; se a publicação falhar, a transação é
+ * desfeita e o lote volta na próxima execução (entrega pelo menos uma vez). Com mais de
+ * uma instância a ordem entre lotes não é garantida: o consumidor ordena pela versão do pedido.
+ *
+ * Métricas em /actuator/metrics:
+ * - delivery.outbox.publicados / delivery.outbox.falhas (lotes com erro)
+ * - delivery.outbox.atraso (tempo entre a mudança do pedido e a publicação)
+ * - delivery.outbox.lote (duração de cada lote)
+ * - delivery.outbox.pendentes e delivery.outbox.atraso.maximo (idade do evento pendente mais antigo, em segundos),
+ *   medidos ao fim da última execução: a coleta de métricas não consulta o banco
+ *
+ * Propriedades:
+ * - delivery.outbox.relay.habilitado (padrão: true)
+ * - delivery.outbox.relay.intervalo (padrão: 500ms entre execuções)
+ * - delivery.outbox.relay.tamanho-lote (padrão: 500)
+ * - delivery.outbox.relay.max-lotes (padrão: 20 lotes por execução)
+ */
+@Service
+@ConditionalOnProperty(name = "delivery.outbox.relay.habilitado", havingValue = "true", matchIfMissing = true)
+public class RelayOutboxService {
+
+    private static final Logger log = LoggerFactory.getLogger(RelayOutboxService.class);
+
+    private final EventoOutboxRepository eventoOutboxRepository;
+    private final DestinoEventos destinoEventos;
+    private final TransactionTemplate transactionTemplate;
+    private final int tamanhoLote;
+    private final int maximoLotes;
+
+    private final Counter publicados;
+    private final Counter falhas;
+    private final Timer atraso;
+    private final Timer duracaoLote;
+
+    // Estado do outbox ao fim da última execução, lido pelos gauges
+    private volatile long pendentes;
+    private volatile LocalDateTime pendenteMaisAntigo;
+
+    public RelayOutboxService(EventoOutboxRepository eventoOutboxRepository,
+                              DestinoEventos destinoEventos,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${delivery.outbox.relay.tamanho-lote:500}") int tamanhoLote,
+                              @Value("${delivery.outbox.relay.max-lotes:20}") int maximoLotes,
+                              MeterRegistry meterRegistry) {
+        this.eventoOutboxRepository = eventoOutboxRepository;
+        this.destinoEventos = destinoEventos;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tamanhoLote = tamanhoLote;
+        this.maximoLotes = maximoLotes;
+
+        this.publicados = Counter.builder("delivery.outbox.publicados")
+            .description("Eventos do outbox publicados no destino")
+            .register(meterRegistry);
+        this.falhas = Counter.builder("delivery.outbox.falhas")
+            .description("Lotes do outbox cuja publicação falhou e será repetida")
+            .register(meterRegistry);
+        this.atraso = Timer.builder("delivery.outbox.atraso")
+            .description("Tempo entre a mudança do pedido e a publicação do evento")
+            .register(meterRegistry);
+        this.duracaoLote = Timer.builder("delivery.outbox.lote")
+            .description("Duração de cada lote do relay (reserva, publicação e remoção)")
+            .register(meterRegistry);
+        Gauge.builder("delivery.outbox.pendentes", this, RelayOutboxService::getPendentes)
+            .description("Eventos aguardando publicação ao fim da última execução do relay")
+            .register(meterRegistry);
+        Gauge.builder("delivery.outbox.atraso.maximo", this, RelayOutboxService::getAtrasoMaximoSegundos)
+            .description("Idade do evento pendente mais antigo na última execução do relay")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Publica lotes até esvaziar o outbox ou atingir o máximo de lotes por execução.
+     */
+    @Scheduled(fixedDelayString = "${delivery.outbox.relay.intervalo:500ms}")
+    public void publicarPendentes() {
+        for (int lote = 0; lote < maximoLotes; lote++) {
+            int quantidade;
+            try {
+                quantidade = duracaoLote.recordCallable(this::publicarLote);
+            } catch (Exception e) {
+                falhas.increment();
+                log.warn("Falha ao publicar eventos do outbox; o lote será repetido", e);
+                medirPendentes();
+                return;
+            }
+            if (quantidade < tamanhoLote) {
+                // Lote incompleto: não restou evento livre para reservar
+                pendentes = 0;
+                pendenteMaisAntigo = null;
+                return;
+            }
+        }
+        medirPendentes();
+    }
+
+    /**
+     * Publica um lote em uma transação.
+     *
+     * @return Número de eventos publicados
+     */
+    public int publicarLote() {
+        return transactionTemplate.execute(status -> {
+            List<EventoOutbox> eventos = eventoOutboxRepository.reservarPendentes(tamanhoLote);
+            if (eventos.isEmpty()) {
+                return 0;
+            }
+            try {
+                destinoEventos.publicar(eventos);
+            } catch (IOException e) {
+                throw new IllegalStateException("Destino de eventos indisponível", e);
+            }
+            eventoOutboxRepository.removerPublicados(eventos.stream().map(EventoOutbox::getId).toList());
+
+            LocalDateTime agora = LocalDateTime.now();
+            for (EventoOutbox evento : eventos) {
+                atraso.record(Duration.between(evento.getDataCriacao(), agora));
+            }
+            publicados.increment(eventos.size());
+            return eventos.size();
+        });
+    }
+
+    public long getPendentes() {
+        return pendentes;
+    }
+
+    public double getAtrasoMaximoSegundos() {
+        LocalDateTime maisAntigo = pendenteMaisAntigo;
+        return maisAntigo == null ? 0.0 : Duration.between(maisAntigo, LocalDateTime.now()).toMillis() / 1000.0;
+    }
+
+    // Só quando a execução termina com eventos sobrando (falha ou máximo de lotes atingido)
+    private void medirPendentes() {
+        try {
+            pendenteMaisAntigo = eventoOutboxRepository.findFirstByOrderByIdAsc()
+                .map(EventoOutbox::getDataCriacao)
+                .orElse(null);
+            pendentes = eventoOutboxRepository.count();
+        } catch (RuntimeException e) {
+            log.warn("Falha ao medir os eventos pendentes do outbox", e);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.deliverytech.delivery_api.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Respostas JSON do catálogo já serializadas (e comprimidas, acima de um tamanho mínimo),
+ * escritas pelos controllers sem passar de novo pelo Jackson.
+ *
+ * A chave é a consulta (rota e parâmetros, montada por consulta()) mais uma versão:
+ * - respostas de um restaurante usam a versão do catálogo dele, que muda a cada escrita
+ * - listagens que cruzam restaurantes usam a geração da Listagem, incrementada por
+ *   RestauranteService e ProdutoService após o commit de cada escrita
+ * Uma versão nova gera chaves novas; as respostas antigas deixam de ser lidas e saem por
+ * tamanho ou prazo. O prazo também limita o atraso para escritas feitas por outra instância.
+ *
+ * Propriedades:
+ * - delivery.respostas.max-tamanho (padrão: 64MB, soma do JSON e do gzip)
+ * - delivery.respostas.ttl (padrão: 30s)
+ * - delivery.respostas.gzip-minimo (padrão: 1KB; respostas menores não são comprimidas)
+ */
+@Service
+public class RespostasSerializadas {
+
+    /**
+     * Listagens que não pertencem a um único restaurante.
+     */
+    public enum Listagem {
+        RESTAURANTES,
+        PRODUTOS
+    }
+
+    private final ObjectMapper objectMapper;
+    private final int gzipMinimo;
+    private final Cache<ChaveResposta, RespostaSerializada> respostas;
+    private final Map<Listagem, AtomicLong> geracoes = new EnumMap<>(Listagem.class);
+
+    public RespostasSerializadas(ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${delivery.respostas.max-tamanho:64MB}") DataSize maximoTamanho,
+                                 @Value("${delivery.respostas.ttl:30s}") Duration ttl,
+                                 @Value("${delivery.respostas.gzip-minimo:1KB}") DataSize gzipMinimo) {
+        this.objectMapper = objectMapper;
+        this.gzipMinimo = (int) gzipMinimo.toBytes();
+        this.respostas = Caffeine.newBuilder()
+            .maximumWeight(maximoTamanho.toBytes())
+            .weigher((ChaveResposta chave, RespostaSerializada resposta) -> resposta.tamanho())
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        for (Listagem listagem : Listagem.values()) {
+            geracoes.put(listagem, new AtomicLong());
+        }
+        CaffeineCacheMetrics.monitor(meterRegistry, respostas, "respostas");
+    }
+
+    /**
+     * Resposta da consulta na versão informada, serializando o corpo apenas na primeira vez.
+     * Requisições simultâneas pela mesma chave esperam uma única serialização.
+     *
+     * @param consulta Rota e parâmetros que identificam a resposta
+     * @param versao Versão do catálogo do restaurante ou geracao() da listagem, lida antes do corpo
+     */
+    public RespostaSerializada obter(String consulta, long versao, Supplier<?> corpo) {
+        return respostas.get(new ChaveResposta(consulta, versao), chave -> serializar(corpo.get()));
+    }
+
+    /**
+     * Consulta usada como chave em obter(): rota seguida dos parâmetros informados, na ordem
+     * recebida. Parâmetros null são omitidos e os valores são codificados como em uma URL,
+     * para que um "&" ou "=" enviado pelo cliente não produza a chave de outra consulta.
+     *
+     * @param parametros Pares nome e valor
+     */
+    public static String consulta(String rota, Object... parametros) {
+        StringBuilder consulta = new StringBuilder(rota);
+        char separador = '?';
+        for (int i = 0; i < parametros.length; i += 2) {
+            Object valor = parametros[i + 1];
+            if (valor == null) {
+                continue;
+            }
+            consulta.append(separador).append(parametros[i]).append('=')
+                .append(URLEncoder.encode(valor.toString(), StandardCharsets.UTF_8));
+            separador = '&';
+        }
+        return consulta.toString();
+    }
+
+    public long geracao(Listagem listagem) {
+        return geracoes.get(listagem).get();
+    }
+
+    /**
+     * Incrementa a geração da listagem após o commit da transação atual (ou imediatamente,
+     * fora de transação): quem leu a geração antiga não recebe mais a resposta guardada nela.
+     */
+    public void invalidarAposCommit(Listagem listagem) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    geracoes.get(listagem).incrementAndGet();
+                }
+            });
+        } else {
+            geracoes.get(listagem).incrementAndGet();
+        }
+    }
+
+    private RespostaSerializada serializar(Object corpo) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(corpo);
+            return new RespostaSerializada(json, json.length >= gzipMinimo ? comprimir(json) : null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] comprimir(byte[] json) throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(saida)) {
+            gzip.write(json);
+        }
+        return saida.toByteArray();
+    }
+
+    private record ChaveResposta(String consulta, long versao) {
+    }
+
+    /**
+     * JSON pronto e, se a resposta passa de gzip-minimo, a mesma resposta em gzip.
+     */
+    public record RespostaSerializada(byte[] json, byte[] gzip) {
+
+        int tamanho() {
+            return json.length + (gzip != null ? gzip.length : 0);
+        }
+    }
+}
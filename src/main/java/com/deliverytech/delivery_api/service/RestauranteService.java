@@ -1,41 +1,119 @@
 package com.deliverytech.delivery_api.service;
 
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.deliverytech.delivery_api.dto.EventoRestauranteDTO;
+import com.deliverytech.delivery_api.dto.RestauranteProximoDTO;
+import com.deliverytech.delivery_api.dto.RestauranteRankingDTO;
 import com.deliverytech.delivery_api.entity.Restaurante;
 import com.deliverytech.delivery_api.repository.RestauranteRepository;
+import com.deliverytech.delivery_api.service.RespostasSerializadas.Listagem;
 
 /**
  * Service para gerenciamento de restaurantes.
+ * Cada escrita publica um EventoRestauranteDTO, aplicado após o commit pelos índices em memória.
  */
 @Service
 @Transactional
 public class RestauranteService {
 
     private final RestauranteRepository restauranteRepository;
-
-    public RestauranteService(RestauranteRepository restauranteRepository) {
+    private final RespostasSerializadas respostasSerializadas;
+    private final BuscaService buscaService;
+    private final ProximidadeService proximidadeService;
+    private final RankingService rankingService;
+    private final HorarioService horarioService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Cache cache;
+
+    public RestauranteService(RestauranteRepository restauranteRepository,
+                              RespostasSerializadas respostasSerializadas, BuscaService buscaService,
+                              ProximidadeService proximidadeService, RankingService rankingService,
+                              HorarioService horarioService, ApplicationEventPublisher eventPublisher,
+                              CacheManager cacheManager) {
         this.restauranteRepository = restauranteRepository;
+        this.respostasSerializadas = respostasSerializadas;
+        this.buscaService = buscaService;
+        this.proximidadeService = proximidadeService;
+        this.rankingService = rankingService;
+        this.horarioService = horarioService;
+        this.eventPublisher = eventPublisher;
+        this.cache = cacheManager.getCache("restaurantes");
     }
 
     public Restaurante criar(Restaurante restaurante) {
-        return restauranteRepository.save(restaurante);
+        // Horário fora do formato de HorarioFuncionamento: IllegalStateException
+        HorarioFuncionamento.interpretar(restaurante.getHorarioFuncionamento());
+        Restaurante restauranteSalvo = restauranteRepository.save(restaurante);
+        publicarAlteracao(restauranteSalvo.getId(), restauranteSalvo);
+        return restauranteSalvo;
     }
 
     public List<Restaurante> listarTodos() {
         return restauranteRepository.findAll();
     }
 
+    /**
+     * Busca vários restaurantes em uma única consulta (WHERE id IN ...).
+     * IDs inexistentes são ignorados.
+     */
+    public List<Restaurante> buscarPorIds(Collection<Long> ids) {
+        return restauranteRepository.findAllById(ids);
+    }
+
+    /**
+     * Busca por ID com cache de leitura. O cache guarda uma cópia fora de qualquer sessão JPA
+     * e cada chamada recebe a sua própria cópia: alterar o retorno não afeta o cache nem outras
+     * requisições (para alterar e salvar, use carregar).
+     */
     public Restaurante buscarPorId(Long id) {
-        return restauranteRepository.findById(id)
+        Restaurante emCache = cache.get(id, Restaurante.class);
+        if (emCache == null) {
+            emCache = copiar(carregar(id));
+            // Dentro de uma transação, só entra no cache após o commit (CacheConfig)
+            cache.put(id, emCache);
+        }
+        return copiar(emCache);
+    }
+
+    /**
+     * Como buscarPorId, conferindo antes a versão do catálogo no banco (consulta pela PK).
+     * Uma leitura que perdeu o cache junto com uma escrita pode guardar a versão anterior
+     * depois da remoção; essa cópia é descartada e o restaurante é lido do banco.
+     * Usado onde a versão vira ETag e chave de resposta serializada.
+     */
+    public Restaurante buscarPorIdNaVersaoAtual(Long id) {
+        long versaoAtual = buscarVersaoCatalogo(id);
+        Restaurante restaurante = buscarPorId(id);
+        if (restaurante.getVersaoCatalogo() >= versaoAtual) {
+            return restaurante;
+        }
+        cache.evict(id);
+        return copiar(carregar(id));
+    }
+
+    /**
+     * Versão atual do catálogo do restaurante, lida do banco e não do cache.
+     *
+     * @throws IllegalArgumentException se o restaurante não existe
+     */
+    public long buscarVersaoCatalogo(Long id) {
+        return restauranteRepository.findVersaoCatalogoById(id)
             .orElseThrow(() -> new IllegalArgumentException("Restaurante não encontrado com ID: " + id));
     }
 
+    @CacheEvict(cacheNames = "restaurantes", key = "#id")
     public Restaurante atualizar(Long id, Restaurante restauranteAtualizado) {
-        Restaurante restaurante = buscarPorId(id);
+        HorarioFuncionamento.interpretar(restauranteAtualizado.getHorarioFuncionamento());
+        Restaurante restaurante = carregar(id);
 
         restaurante.setNome(restauranteAtualizado.getNome());
         restaurante.setCategoria(restauranteAtualizado.getCategoria());
@@ -48,13 +126,35 @@ public class RestauranteService {
             restaurante.setAtivo(restauranteAtualizado.getAtivo());
         }
         restaurante.setHorarioFuncionamento(restauranteAtualizado.getHorarioFuncionamento());
+        restaurante.setLatitude(restauranteAtualizado.getLatitude());
+        restaurante.setLongitude(restauranteAtualizado.getLongitude());
+
+        Restaurante restauranteSalvo = restauranteRepository.save(restaurante);
+        // Incremento no banco, como em registrarAlteracaoCatalogo: não perde alterações de cardápio concorrentes
+        restauranteRepository.incrementarVersaoCatalogo(id);
+        restauranteSalvo.setVersaoCatalogo(restauranteRepository.findVersaoCatalogoById(id).orElseThrow());
+        publicarAlteracao(id, restauranteSalvo);
+        return restauranteSalvo;
+    }
 
-        return restauranteRepository.save(restaurante);
+    /**
+     * Registra uma alteração no cardápio do restaurante: incrementa a versão do catálogo,
+     * que muda o ETag de GET /restaurantes/{id} e GET /produtos/restaurante/{id}.
+     *
+     * @return Versão do catálogo após a alteração
+     */
+    @CacheEvict(cacheNames = "restaurantes", key = "#id")
+    public long registrarAlteracaoCatalogo(Long id) {
+        restauranteRepository.incrementarVersaoCatalogo(id);
+        return restauranteRepository.findVersaoCatalogoById(id)
+            .orElseThrow(() -> new IllegalArgumentException("Restaurante não encontrado com ID: " + id));
     }
 
+    @CacheEvict(cacheNames = "restaurantes", key = "#id")
     public void deletar(Long id) {
-        Restaurante restaurante = buscarPorId(id);
+        Restaurante restaurante = carregar(id);
         restauranteRepository.delete(restaurante);
+        publicarAlteracao(id, null);
     }
 
     public List<Restaurante> buscarPorCategoria(String categoria) {
@@ -65,11 +165,75 @@ public class RestauranteService {
         return restauranteRepository.findByAtivo(true);
     }
 
-    public List<Restaurante> buscarPorNome(String nome) {
-        return restauranteRepository.findByNomeContainingIgnoreCase(nome);
+    /**
+     * Busca textual por nome e categoria no índice em memória (BuscaService), por relevância.
+     */
+    public List<Restaurante> buscarPorNome(String nome, Integer limite) {
+        return buscaService.buscarRestaurantes(nome, limite);
     }
 
+    /**
+     * Restaurantes ativos próximos ao ponto, do índice espacial em memória (ProximidadeService).
+     */
+    public List<RestauranteProximoDTO> buscarProximos(double latitude, double longitude, Double raioKm,
+                                                      String categoria, Double avaliacaoMinima, Integer limite) {
+        return proximidadeService.buscar(latitude, longitude, raioKm, categoria, avaliacaoMinima, limite);
+    }
+
+    /**
+     * Minuto da semana atual no fuso dos horários de funcionamento.
+     */
+    public int minutoAtual() {
+        return horarioService.minutoAtual();
+    }
+
+    /**
+     * Restaurantes ativos abertos no minuto da semana (ver minutoAtual), do índice de horários
+     * em memória (HorarioService).
+     */
+    public List<Restaurante> buscarAbertos(int minutoDaSemana, String categoria) {
+        return horarioService.buscarAbertos(minutoDaSemana, categoria);
+    }
+
+    /**
+     * Restaurantes ativos da maior para a menor avaliação, do ranking em memória (RankingService).
+     */
     public List<Restaurante> buscarOrdenadosPorAvaliacao() {
-        return restauranteRepository.findRestaurantesAtivosPorAvaliacao();
+        return rankingService.ordenadosPorAvaliacao();
+    }
+
+    /**
+     * Restaurantes ativos de maior pontuação (avaliação e pedidos entregues recentemente),
+     * geral ou de uma categoria, do ranking em memória (RankingService).
+     */
+    public List<RestauranteRankingDTO> buscarRanking(String categoria, Integer limite) {
+        return rankingService.buscar(categoria, limite);
+    }
+
+    // O evento é registrado antes da nova geração das listagens: após o commit, os índices já
+    // estão atualizados quando uma listagem é montada na nova geração
+    private void publicarAlteracao(Long id, Restaurante restaurante) {
+        eventPublisher.publishEvent(new EventoRestauranteDTO(id, restaurante));
+        respostasSerializadas.invalidarAposCommit(Listagem.RESTAURANTES);
+    }
+
+    // Leitura direta do banco, sem cache: entidade gerenciada, segura para alteração
+    private Restaurante carregar(Long id) {
+        return restauranteRepository.findById(id)
+            .orElseThrow(() -> new IllegalArgumentException("Restaurante não encontrado com ID: " + id));
+    }
+
+    private static Restaurante copiar(Restaurante origem) {
+        Restaurante copia = new Restaurante(origem.getNome(), origem.getCategoria(),
+            origem.getEndereco(), origem.getTelefone());
+        copia.setId(origem.getId());
+        copia.setAvaliacao(origem.getAvaliacao());
+        copia.setAtivo(origem.getAtivo());
+        copia.setDataCadastro(origem.getDataCadastro());
+        copia.setHorarioFuncionamento(origem.getHorarioFuncionamento());
+        copia.setLatitude(origem.getLatitude());
+        copia.setLongitude(origem.getLongitude());
+        copia.setVersaoCatalogo(origem.getVersaoCatalogo());
+        return copia;
     }
 }
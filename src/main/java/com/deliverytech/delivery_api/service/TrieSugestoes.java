@@ -0,0 +1,218 @@
+package com.deliverytech.delivery_api.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Trie de prefixos compactada (radix) em que cada nó guarda os k melhores valores abaixo
+ * dele: uma consulta desce pelo prefixo e devolve a lista pronta, sem percorrer a subárvore.
+ *
+ * Os nós são imutáveis. Uma escrita copia apenas o caminho da raiz até a chave alterada,
+ * recalculando os melhores de cada nó a partir dos melhores dos filhos, e publica a nova
+ * raiz de uma vez; consultas não bloqueiam e sempre veem uma versão inteira da trie.
+ *
+ * @param <T> Valor guardado; valores iguais (equals) na mesma chave são o mesmo valor
+ */
+public class TrieSugestoes<T> {
+
+    private final int k;
+    private final Comparator<? super T> ordem;
+    private final No<T> vazio;
+    private volatile No<T> raiz;
+
+    /**
+     * @param k Quantidade de melhores valores guardada em cada nó (limite máximo das consultas)
+     * @param ordem Ordem dos valores, do melhor para o pior
+     */
+    public TrieSugestoes(int k, Comparator<? super T> ordem) {
+        this.k = k;
+        this.ordem = ordem;
+        this.vazio = new No<>(new String[0], List.of(), List.of(), List.of());
+        this.raiz = vazio;
+    }
+
+    /**
+     * Os melhores valores com chave começando pelo prefixo, no máximo k.
+     */
+    public List<T> buscar(String prefixo, int limite) {
+        No<T> no = raiz;
+        String resto = prefixo;
+        while (!resto.isEmpty()) {
+            int i = no.indice(resto.charAt(0));
+            if (i < 0) {
+                return List.of();
+            }
+            String rotulo = no.rotulos[i];
+            if (resto.length() <= rotulo.length()) {
+                return rotulo.startsWith(resto) ? primeiros(no.filhos.get(i).melhores, limite) : List.of();
+            }
+            if (!resto.startsWith(rotulo)) {
+                return List.of();
+            }
+            resto = resto.substring(rotulo.length());
+            no = no.filhos.get(i);
+        }
+        return primeiros(no.melhores, limite);
+    }
+
+    public synchronized void incluir(String chave, T valor) {
+        raiz = incluir(raiz, chave, valor);
+    }
+
+    public synchronized void remover(String chave, T valor) {
+        No<T> novaRaiz = remover(raiz, chave, valor);
+        raiz = novaRaiz != null ? novaRaiz : vazio;
+    }
+
+    private No<T> incluir(No<T> no, String resto, T valor) {
+        if (resto.isEmpty()) {
+            List<T> terminais = new ArrayList<>(no.terminais);
+            terminais.remove(valor);
+            terminais.add(valor);
+            return novo(no.rotulos, no.filhos, terminais);
+        }
+
+        int i = no.indice(resto.charAt(0));
+        if (i < 0) {
+            No<T> folha = novo(new String[0], List.of(), List.of(valor));
+            return comFilho(no, posicaoInsercao(no, resto.charAt(0)), resto, folha, true);
+        }
+
+        String rotulo = no.rotulos[i];
+        int comum = prefixoComum(rotulo, resto);
+        if (comum == rotulo.length()) {
+            return comFilho(no, i, rotulo, incluir(no.filhos.get(i), resto.substring(comum), valor), false);
+        }
+        // Divide a aresta: o trecho comum leva a um nó intermediário, que recebe o filho antigo
+        No<T> intermediario = novo(new String[] {rotulo.substring(comum)}, List.of(no.filhos.get(i)), List.of());
+        return comFilho(no, i, rotulo.substring(0, comum), incluir(intermediario, resto.substring(comum), valor), false);
+    }
+
+    // Null quando o nó fica sem valores e sem filhos
+    private No<T> remover(No<T> no, String resto, T valor) {
+        if (resto.isEmpty()) {
+            if (!no.terminais.contains(valor)) {
+                return no;
+            }
+            List<T> terminais = new ArrayList<>(no.terminais);
+            terminais.remove(valor);
+            return terminais.isEmpty() && no.filhos.isEmpty() ? null : novo(no.rotulos, no.filhos, terminais);
+        }
+
+        int i = no.indice(resto.charAt(0));
+        if (i < 0 || !resto.startsWith(no.rotulos[i])) {
+            return no;
+        }
+        String rotulo = no.rotulos[i];
+        No<T> filho = remover(no.filhos.get(i), resto.substring(rotulo.length()), valor);
+        if (filho == no.filhos.get(i)) {
+            return no;
+        }
+        if (filho == null) {
+            No<T> semFilho = semFilho(no, i);
+            return semFilho.terminais.isEmpty() && semFilho.filhos.isEmpty() ? null : semFilho;
+        }
+        // Filho sem valores e com um único neto: as duas arestas viram uma
+        if (filho.terminais.isEmpty() && filho.filhos.size() == 1) {
+            return comFilho(no, i, rotulo + filho.rotulos[0], filho.filhos.get(0), false);
+        }
+        return comFilho(no, i, rotulo, filho, false);
+    }
+
+    private No<T> comFilho(No<T> no, int posicao, String rotulo, No<T> filho, boolean inserir) {
+        int tamanho = no.rotulos.length + (inserir ? 1 : 0);
+        String[] rotulos = new String[tamanho];
+        List<No<T>> filhos = new ArrayList<>(tamanho);
+        for (int origem = 0, destino = 0; destino < tamanho; destino++) {
+            if (destino == posicao) {
+                rotulos[destino] = rotulo;
+                filhos.add(filho);
+                if (!inserir) {
+                    origem++;
+                }
+            } else {
+                rotulos[destino] = no.rotulos[origem];
+                filhos.add(no.filhos.get(origem++));
+            }
+        }
+        return novo(rotulos, filhos, no.terminais);
+    }
+
+    private No<T> semFilho(No<T> no, int posicao) {
+        String[] rotulos = new String[no.rotulos.length - 1];
+        List<No<T>> filhos = new ArrayList<>(rotulos.length);
+        for (int origem = 0, destino = 0; origem < no.rotulos.length; origem++) {
+            if (origem != posicao) {
+                rotulos[destino++] = no.rotulos[origem];
+                filhos.add(no.filhos.get(origem));
+            }
+        }
+        return novo(rotulos, filhos, no.terminais);
+    }
+
+    // Os melhores de um nó estão entre os seus valores e os melhores de cada filho
+    private No<T> novo(String[] rotulos, List<No<T>> filhos, List<T> terminais) {
+        List<T> melhores = Stream.concat(terminais.stream(), filhos.stream().flatMap(filho -> filho.melhores.stream()))
+            .distinct()
+            .sorted(ordem)
+            .limit(k)
+            .toList();
+        return new No<>(rotulos, List.copyOf(filhos), List.copyOf(terminais), melhores);
+    }
+
+    private static int posicaoInsercao(No<?> no, char inicial) {
+        int posicao = 0;
+        while (posicao < no.rotulos.length && no.rotulos[posicao].charAt(0) < inicial) {
+            posicao++;
+        }
+        return posicao;
+    }
+
+    private static int prefixoComum(String a, String b) {
+        int limite = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < limite && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static <T> List<T> primeiros(List<T> valores, int limite) {
+        return valores.size() <= limite ? valores : valores.subList(0, limite);
+    }
+
+    // Filhos ordenados pelo primeiro caractere do rótulo (únicos entre irmãos)
+    private static final class No<T> {
+
+        private final String[] rotulos;
+        private final List<No<T>> filhos;
+        private final List<T> terminais;
+        private final List<T> melhores;
+
+        No(String[] rotulos, List<No<T>> filhos, List<T> terminais, List<T> melhores) {
+            this.rotulos = rotulos;
+            this.filhos = filhos;
+            this.terminais = terminais;
+            this.melhores = melhores;
+        }
+
+        int indice(char inicial) {
+            int inicio = 0;
+            int fim = rotulos.length - 1;
+            while (inicio <= fim) {
+                int meio = (inicio + fim) >>> 1;
+                char atual = rotulos[meio].charAt(0);
+                if (atual < inicial) {
+                    inicio = meio + 1;
+                } else if (atual > inicial) {
+                    fim = meio - 1;
+                } else {
+                    return meio;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.deliverytech.delivery_api.carga;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Teste de carga HTTP com tráfego misto de leitura e escrita contra a aplicação iniciada.
+ * As escritas cobrem pedidos, produtos, restaurantes e clientes, para que as invalidações de
+ * cache e índices concorram com as leituras. Registra a latência de cada endpoint em
+ * histogramas HdrHistogram e grava um relatório JSON (carga.relatorio).
+ *
+ * Executar com: ./mvnw -Pcarga test
+ * Propriedades opcionais: -Dcarga.duracao=60 -Dcarga.usuarios=64 -Dcarga.relatorio=target/carga/relatorio.json
+ *
+ * Modelo fechado (cada usuário aguarda a resposta antes da próxima requisição):
+ * os percentis não compensam a omissão coordenada.
+ */
+@Tag("carga")
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "spring.jpa.show-sql=false",
+        // Relay ligado como em produção (desligado na configuração de testes)
+        "delivery.outbox.relay.habilitado=true",
+        "logging.level.root=WARN",
+        "logging.level.org.springframework.web=WARN"
+    }
+)
+@DisplayName("Teste de carga HTTP")
+class CargaHttpTest {
+
+    private static final int RESTAURANTES = 50;
+    private static final int CLIENTES = 200;
+    private static final int PRODUTOS_POR_RESTAURANTE = 10;
+    private static final long LATENCIA_MAXIMA_US = TimeUnit.SECONDS.toMicros(60);
+    private static final String[] CATEGORIAS = {"Italiana", "Japonesa", "Brasileira", "Hamburguer"};
+    private static final String[] CICLO_STATUS = {"CONFIRMADO", "EM_PREPARACAO", "SAIU_PARA_ENTREGA", "ENTREGUE"};
+
+    @LocalServerPort
+    private int porta;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+
+    private final Map<String, ConcurrentHistogram> latencias = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> erros = new ConcurrentHashMap<>();
+    // Numeração dos cadastros feitos durante a carga (nomes e emails únicos)
+    private final AtomicLong novosCadastros = new AtomicLong();
+
+    @BeforeEach
+    void popularDados() throws Exception {
+        for (int i = 1; i <= RESTAURANTES; i++) {
+            enviar("POST", "/restaurantes", """
+                {"nome":"Restaurante %d","categoria":"%s","endereco":"Rua %d","avaliacao":%d.5,"ativo":true}
+                """.formatted(i, CATEGORIAS[i % CATEGORIAS.length], i, i % 5));
+            for (int j = 0; j < PRODUTOS_POR_RESTAURANTE; j++) {
+                enviar("POST", "/produtos", """
+                    {"nome":"Produto %d-%d","preco":%d.90,"categoria":"%s","disponivel":true,"restauranteId":%d}
+                    """.formatted(i, j, 10 + j, CATEGORIAS[j % CATEGORIAS.length], i));
+            }
+        }
+        for (int i = 1; i <= CLIENTES; i++) {
+            enviar("POST", "/clientes", """
+                {"nome":"Cliente %d","email":"cliente%d@email.com","telefone":"119%08d"}
+                """.formatted(i, i, i));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve sustentar tráfego misto sem erros de servidor")
+    void deveSustentarTrafegoMisto() throws Exception {
+        int duracao = Integer.getInteger("carga.duracao", 30);
+        int usuarios = Integer.getInteger("carga.usuarios", 32);
+        long fim = System.nanoTime() + TimeUnit.SECONDS.toNanos(duracao);
+
+        ExecutorService executor = Executors.newFixedThreadPool(usuarios);
+        List<Future<?>> tarefas = new ArrayList<>();
+        for (int i = 0; i < usuarios; i++) {
+            tarefas.add(executor.submit(() -> simularUsuario(fim)));
+        }
+        for (Future<?> tarefa : tarefas) {
+            tarefa.get();
+        }
+        executor.shutdown();
+
+        Map<String, Object> relatorio = gerarRelatorio(duracao, usuarios);
+        Path arquivo = Path.of(System.getProperty("carga.relatorio", "target/carga/relatorio.json"));
+        Files.createDirectories(arquivo.getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(arquivo.toFile(), relatorio);
+
+        assertThat(erros).allSatisfy((endpoint, quantidade) ->
+            assertThat(quantidade.sum()).as("erros em %s", endpoint).isZero());
+    }
+
+    // Cada usuário mantém os próprios pedidos e avança o status deles em ordem
+    private Void simularUsuario(long fim) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<long[]> pedidos = new ArrayList<>(); // {id, índice em CICLO_STATUS}
+
+        while (System.nanoTime() < fim) {
+            int sorteio = random.nextInt(100);
+            long restauranteId = random.nextInt(RESTAURANTES) + 1;
+            long clienteId = random.nextInt(CLIENTES) + 1;
+
+            if (sorteio < 15) {
+                String corpo = executar("POST /pedidos", "POST", "/pedidos", """
+                    {"clienteId":%d,"restauranteId":%d,"valorTotal":%d.50,"enderecoEntrega":"Rua %d"}
+                    """.formatted(clienteId, restauranteId, random.nextInt(20, 200), clienteId));
+                if (corpo != null) {
+                    pedidos.add(new long[] {objectMapper.readTree(corpo).get("id").asLong(), 0});
+                }
+            } else if (sorteio < 22 && !pedidos.isEmpty()) {
+                long[] pedido = pedidos.get(random.nextInt(pedidos.size()));
+                executar("PATCH /pedidos/{id}/status", "PATCH",
+                    "/pedidos/" + pedido[0] + "/status?novoStatus=" + CICLO_STATUS[(int) pedido[1]], null);
+                if (++pedido[1] == CICLO_STATUS.length) {
+                    pedidos.remove(pedido);
+                }
+            } else if (sorteio < 30 && !pedidos.isEmpty()) {
+                long[] pedido = pedidos.get(random.nextInt(pedidos.size()));
+                executar("GET /pedidos/{id}", "GET", "/pedidos/" + pedido[0], null);
+            } else if (sorteio < 38) {
+                executar("GET /pedidos?restauranteId", "GET", "/pedidos?restauranteId=" + restauranteId + "&tamanho=20", null);
+            } else if (sorteio < 55) {
+                executar("GET /produtos/restaurante/{id}", "GET", "/produtos/restaurante/" + restauranteId, null);
+            } else if (sorteio < 62) {
+                executar("GET /produtos?restauranteId&disponivel", "GET",
+                    "/produtos?restauranteId=" + restauranteId + "&disponivel=true", null);
+            } else if (sorteio < 65) {
+                // Produtos semeados em ordem: os do restaurante N têm IDs (N-1)*10+1 a N*10
+                int indice = random.nextInt(PRODUTOS_POR_RESTAURANTE);
+                long produtoId = (restauranteId - 1) * PRODUTOS_POR_RESTAURANTE + indice + 1;
+                executar("PUT /produtos/{id}", "PUT", "/produtos/" + produtoId, """
+                    {"nome":"Produto %d-%d","preco":%d.90,"categoria":"%s","disponivel":true,"restauranteId":%d}
+                    """.formatted(restauranteId, indice, random.nextInt(10, 60),
+                        CATEGORIAS[indice % CATEGORIAS.length], restauranteId));
+            } else if (sorteio < 66) {
+                executar("POST /produtos", "POST", "/produtos", """
+                    {"nome":"Produto novo %d","preco":%d.90,"categoria":"%s","disponivel":true,"restauranteId":%d}
+                    """.formatted(novosCadastros.incrementAndGet(), random.nextInt(10, 60),
+                        CATEGORIAS[random.nextInt(CATEGORIAS.length)], restauranteId));
+            } else if (sorteio < 77) {
+                executar("GET /restaurantes/{id}", "GET", "/restaurantes/" + restauranteId, null);
+            } else if (sorteio < 84) {
+                executar("GET /restaurantes?categoria", "GET",
+                    "/restaurantes?categoria=" + CATEGORIAS[random.nextInt(CATEGORIAS.length)], null);
+            } else if (sorteio < 86) {
+                executar("PUT /restaurantes/{id}", "PUT", "/restaurantes/" + restauranteId, """
+                    {"nome":"Restaurante %d","categoria":"%s","endereco":"Rua %d","avaliacao":%d.5,"ativo":true}
+                    """.formatted(restauranteId, CATEGORIAS[(int) (restauranteId % CATEGORIAS.length)],
+                        restauranteId, random.nextInt(5)));
+            } else if (sorteio < 87) {
+                long numero = novosCadastros.incrementAndGet();
+                executar("POST /restaurantes", "POST", "/restaurantes", """
+                    {"nome":"Restaurante novo %d","categoria":"%s","endereco":"Rua %d","avaliacao":3.5,"ativo":true}
+                    """.formatted(numero, CATEGORIAS[random.nextInt(CATEGORIAS.length)], numero));
+            } else if (sorteio < 96) {
+                executar("GET /clientes/{id}", "GET", "/clientes/" + clienteId, null);
+            } else if (sorteio < 98) {
+                executar("PUT /clientes/{id}", "PUT", "/clientes/" + clienteId, """
+                    {"nome":"Cliente %d","email":"cliente%d@email.com","telefone":"118%08d"}
+                    """.formatted(clienteId, clienteId, random.nextInt(100_000_000)));
+            } else {
+                long numero = novosCadastros.incrementAndGet();
+                executar("POST /clientes", "POST", "/clientes", """
+                    {"nome":"Cliente novo %d","email":"novo%d@email.com","telefone":"117%08d"}
+                    """.formatted(numero, numero, numero));
+            }
+        }
+        return null;
+    }
+
+    // Executa a requisição registrando latência; retorna o corpo ou null em caso de erro
+    private String executar(String endpoint, String metodo, String caminho, String json) {
+        long inicio = System.nanoTime();
+        try {
+            HttpResponse<String> resposta = httpClient.send(requisicao(metodo, caminho, json),
+                HttpResponse.BodyHandlers.ofString());
+            registrarLatencia(endpoint, inicio);
+            if (resposta.statusCode() >= 400) {
+                erros.computeIfAbsent(endpoint, e -> new LongAdder()).increment();
+                return null;
+            }
+            return resposta.body();
+        } catch (IOException | InterruptedException e) {
+            erros.computeIfAbsent(endpoint, k -> new LongAdder()).increment();
+            return null;
+        }
+    }
+
+    private void registrarLatencia(String endpoint, long inicio) {
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - inicio), LATENCIA_MAXIMA_US);
+        latencias.computeIfAbsent(endpoint, e -> new ConcurrentHistogram(LATENCIA_MAXIMA_US, 3)).recordValue(micros);
+    }
+
+    private void enviar(String metodo, String caminho, String json) throws Exception {
+        HttpResponse<String> resposta = httpClient.send(requisicao(metodo, caminho, json),
+            HttpResponse.BodyHandlers.ofString());
+        assertThat(resposta.statusCode()).as("%s %s", metodo, caminho).isLessThan(400);
+    }
+
+    private HttpRequest requisicao(String metodo, String caminho, String json) {
+        HttpRequest.BodyPublisher corpo = json == null
+            ? HttpRequest.BodyPublishers.noBody()
+            : HttpRequest.BodyPublishers.ofString(json);
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + porta + caminho))
+            .timeout(Duration.ofSeconds(30))
+            .header("Content-Type", "application/json")
+            .method(metodo, corpo)
+            .build();
+    }
+
+    private Map<String, Object> gerarRelatorio(int duracao, int usuarios) {
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        latencias.keySet().stream().sorted().forEach(endpoint -> {
+            Histogram histograma = latencias.get(endpoint);
+            Map<String, Object> metricas = new LinkedHashMap<>();
+            metricas.put("requisicoes", histograma.getTotalCount());
+            metricas.put("erros", erros.getOrDefault(endpoint, new LongAdder()).sum());
+            metricas.put("requisicoesPorSegundo", histograma.getTotalCount() / (double) duracao);
+            metricas.put("p50Ms", histograma.getValueAtPercentile(50) / 1000.0);
+            metricas.put("p90Ms", histograma.getValueAtPercentile(90) / 1000.0);
+            metricas.put("p99Ms", histograma.getValueAtPercentile(99) / 1000.0);
+            metricas.put("p999Ms", histograma.getValueAtPercentile(99.9) / 1000.0);
+            metricas.put("maxMs", histograma.getMaxValue() / 1000.0);
+            endpoints.put(endpoint, metricas);
+        });
+
+        Map<String, Object> relatorio = new LinkedHashMap<>();
+        relatorio.put("duracaoSegundos", duracao);
+        relatorio.put("usuarios", usuarios);
+        relatorio.put("endpoints", endpoints);
+        return relatorio;
+    }
+}
@@ -0,0 +1,138 @@
+package com.deliverytech.delivery_api.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.deliverytech.delivery_api.exception.GlobalExceptionHandler;
+
+/**
+ * Testes para LimiteConexoesBanco com um DataSource simulado: devolução das permissões,
+ * espera máxima, interrupção, identidade do proxy, fechamento do pool e resposta 503.
+ */
+@DisplayName("Testes do LimiteConexoesBanco")
+class LimiteConexoesBancoTest {
+
+    private final DataSource dataSource = mock(DataSource.class);
+    private final Connection original = mock(Connection.class);
+    private LimiteConexoesBanco limite;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(original);
+        limite = new LimiteConexoesBanco(dataSource, 1, Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("Deve devolver a permissão só no primeiro close")
+    void deveDevolverPermissaoSoNoPrimeiroClose() throws SQLException {
+        Connection conexao = limite.getConnection();
+        assertThat(limite.getPermissoesDisponiveis()).isZero();
+
+        conexao.close();
+        conexao.close();
+
+        assertThat(limite.getPermissoesDisponiveis()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve devolver a permissão quando o DataSource falha ao abrir a conexão")
+    void deveDevolverPermissaoQuandoDataSourceFalha() throws SQLException {
+        when(dataSource.getConnection()).thenThrow(new SQLException("pool fechado"));
+
+        assertThatThrownBy(limite::getConnection).isInstanceOf(SQLException.class).hasMessage("pool fechado");
+        assertThat(limite.getPermissoesDisponiveis()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve desistir após a espera máxima com SQLTransientConnectionException")
+    void deveDesistirAposEsperaMaxima() throws SQLException {
+        try (Connection ocupada = limite.getConnection()) {
+            assertThatThrownBy(limite::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+            assertThat(limite.getPermissoesDisponiveis()).isZero();
+        }
+        assertThat(limite.getPermissoesDisponiveis()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve desistir com SQLTransientConnectionException e manter a interrupção da thread")
+    void deveDesistirQuandoInterrompido() {
+        Thread.currentThread().interrupt();
+
+        assertThatThrownBy(limite::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(Thread.interrupted()).isTrue();
+        assertThat(limite.getPermissoesDisponiveis()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve comparar o proxy pela própria identidade e repassar os demais métodos")
+    void deveCompararProxyPelaPropriaIdentidade() throws SQLException {
+        Connection conexao = limite.getConnection();
+
+        assertThat(conexao.equals(conexao)).isTrue();
+        assertThat(conexao.equals(original)).isFalse();
+        assertThat(conexao.hashCode()).isEqualTo(System.identityHashCode(conexao));
+        assertThat(conexao.toString()).startsWith("LimiteConexoesBanco[");
+
+        conexao.isValid(1);
+        verify(original).isValid(1);
+        conexao.close();
+        verify(original).close();
+    }
+
+    @Test
+    @DisplayName("Deve fechar o pool envolvido no close")
+    void deveFecharPoolEnvolvido() throws Exception {
+        DataSource pool = mock(DataSource.class, withSettings().extraInterfaces(AutoCloseable.class));
+
+        new LimiteConexoesBanco(pool, 1, Duration.ofMillis(50)).close();
+        limite.close();
+
+        verify((AutoCloseable) pool).close();
+    }
+
+    @Test
+    @DisplayName("Deve responder 503 quando a transação não obtém conexão dentro da espera máxima")
+    void deveResponder503QuandoTransacaoNaoObtemConexao() throws SQLException {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(limite));
+
+        CannotCreateTransactionException erro;
+        try (Connection ocupada = limite.getConnection()) {
+            erro = capturarFalhaTransacao(() -> transactionTemplate.executeWithoutResult(status -> { }));
+        }
+        assertThat(erro).hasRootCauseInstanceOf(SQLTransientConnectionException.class);
+
+        ResponseEntity<Map<String, Object>> resposta = new GlobalExceptionHandler().handleCannotCreateTransaction(erro);
+        assertThat(resposta.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(resposta.getHeaders().getFirst("Retry-After")).isNotNull();
+    }
+
+    private CannotCreateTransactionException capturarFalhaTransacao(Runnable acao) {
+        try {
+            acao.run();
+        } catch (CannotCreateTransactionException e) {
+            return e;
+        }
+        throw new AssertionError("Esperava CannotCreateTransactionException");
+    }
+}
@@ -0,0 +1,103 @@
+package com.deliverytech.delivery_api.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.deliverytech.delivery_api.entity.AgregadoPedido;
+import com.deliverytech.delivery_api.entity.AgregadoPedido.Escopo;
+import com.deliverytech.delivery_api.entity.Cliente;
+import com.deliverytech.delivery_api.entity.Pedido;
+import com.deliverytech.delivery_api.entity.Pedido.StatusPedido;
+import com.deliverytech.delivery_api.entity.Restaurante;
+
+/**
+ * Testes para AgregadoPedidoRepository.
+ */
+@DataJpaTest
+@DisplayName("Testes do AgregadoPedidoRepository")
+class AgregadoPedidoRepositoryTest {
+
+    @Autowired
+    private AgregadoPedidoRepository agregadoPedidoRepository;
+
+    @Autowired
+    private PedidoRepository pedidoRepository;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private RestauranteRepository restauranteRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Cliente cliente1;
+    private Restaurante restaurante1;
+
+    @BeforeEach
+    void setUp() {
+        cliente1 = clienteRepository.save(new Cliente("João Silva", "joao@email.com", "11999999999", "Rua A, 123"));
+        restaurante1 = restauranteRepository.save(new Restaurante("Pizza Mania", "Italiana", "Rua 1, 100", "11991111111"));
+
+        Pedido pedido1 = new Pedido(cliente1, restaurante1, new BigDecimal("100.00"), "Rua A, 123");
+        Pedido pedido2 = new Pedido(cliente1, restaurante1, new BigDecimal("50.00"), "Rua A, 123");
+        pedido2.setStatus(StatusPedido.CANCELADO);
+        pedidoRepository.save(pedido1);
+        pedidoRepository.save(pedido2);
+    }
+
+    @Test
+    @DisplayName("Deve incrementar agregado existente")
+    void deveIncrementarAgregadoExistente() {
+        agregadoPedidoRepository.save(new AgregadoPedido(
+            Escopo.RESTAURANTE, restaurante1.getId(), StatusPedido.PENDENTE, 1L, new BigDecimal("10.00")));
+
+        int atualizados = agregadoPedidoRepository.incrementar(
+            Escopo.RESTAURANTE, restaurante1.getId(), StatusPedido.PENDENTE, 2, new BigDecimal("25.50"));
+        entityManager.clear();
+
+        List<AgregadoPedido> agregados = agregadoPedidoRepository.findByEscopoAndReferenciaId(
+            Escopo.RESTAURANTE, restaurante1.getId());
+
+        assertThat(atualizados).isEqualTo(1);
+        assertThat(agregados).hasSize(1);
+        assertThat(agregados.get(0).getQuantidade()).isEqualTo(3L);
+        assertThat(agregados.get(0).getValorTotal()).isEqualByComparingTo("35.50");
+    }
+
+    @Test
+    @DisplayName("Não deve incrementar agregado inexistente")
+    void naoDeveIncrementarAgregadoInexistente() {
+        int atualizados = agregadoPedidoRepository.incrementar(
+            Escopo.CLIENTE, cliente1.getId(), StatusPedido.PENDENTE, 1, BigDecimal.ONE);
+
+        assertThat(atualizados).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir agregados a partir dos pedidos")
+    void deveReconstruirAgregados() {
+        int porRestaurante = agregadoPedidoRepository.reconstruirPorRestaurante();
+        int porCliente = agregadoPedidoRepository.reconstruirPorCliente();
+
+        List<AgregadoPedido> agregados = agregadoPedidoRepository.findByEscopoAndReferenciaId(
+            Escopo.CLIENTE, cliente1.getId());
+
+        assertThat(porRestaurante).isEqualTo(2); // PENDENTE e CANCELADO
+        assertThat(porCliente).isEqualTo(2);
+        assertThat(agregados)
+            .filteredOn(a -> a.getStatus() == StatusPedido.PENDENTE)
+            .singleElement()
+            .satisfies(a -> assertThat(a.getValorTotal()).isEqualByComparingTo("100.00"));
+    }
+}
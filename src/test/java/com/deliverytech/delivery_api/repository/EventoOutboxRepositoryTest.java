@@ -0,0 +1,62 @@
+package com.deliverytech.delivery_api.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.deliverytech.delivery_api.entity.EventoOutbox;
+
+/**
+ * Testes para EventoOutboxRepository.
+ */
+@DataJpaTest
+@DisplayName("Testes do EventoOutboxRepository")
+class EventoOutboxRepositoryTest {
+
+    @Autowired
+    private EventoOutboxRepository eventoOutboxRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private EventoOutbox evento1;
+    private EventoOutbox evento2;
+    private EventoOutbox evento3;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime agora = LocalDateTime.now();
+        evento1 = eventoOutboxRepository.save(new EventoOutbox(EventoOutbox.PEDIDO_CRIADO, 1L, "{\"pedidoId\":1}", agora));
+        evento2 = eventoOutboxRepository.save(new EventoOutbox(EventoOutbox.STATUS_ALTERADO, 1L, "{\"pedidoId\":1}", agora));
+        evento3 = eventoOutboxRepository.save(new EventoOutbox(EventoOutbox.PEDIDO_CRIADO, 2L, "{\"pedidoId\":2}", agora));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Deve reservar os eventos mais antigos até o limite")
+    void deveReservarEventosMaisAntigos() {
+        List<EventoOutbox> reservados = eventoOutboxRepository.reservarPendentes(2);
+
+        assertThat(reservados).extracting(EventoOutbox::getId).containsExactly(evento1.getId(), evento2.getId());
+        assertThat(reservados.get(0).getTipo()).isEqualTo(EventoOutbox.PEDIDO_CRIADO);
+    }
+
+    @Test
+    @DisplayName("Deve remover apenas os eventos publicados")
+    void deveRemoverEventosPublicados() {
+        int removidos = eventoOutboxRepository.removerPublicados(List.of(evento1.getId(), evento2.getId()));
+
+        assertThat(removidos).isEqualTo(2);
+        assertThat(eventoOutboxRepository.findFirstByOrderByIdAsc()).get()
+            .extracting(EventoOutbox::getId).isEqualTo(evento3.getId());
+    }
+}
@@ -5,28 +5,40 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 
+import com.deliverytech.delivery_api.dto.PedidoPainelDTO;
+import com.deliverytech.delivery_api.dto.PedidoResumoDTO;
 import com.deliverytech.delivery_api.entity.Cliente;
 import com.deliverytech.delivery_api.entity.Pedido;
 import com.deliverytech.delivery_api.entity.Pedido.StatusPedido;
 import com.deliverytech.delivery_api.entity.Restaurante;
 
+import jakarta.persistence.EntityManager;
+
 /**
  * Testes para PedidoRepository.
  */
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @DisplayName("Testes do PedidoRepository")
 class PedidoRepositoryTest {
 
     @Autowired
     private PedidoRepository pedidoRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Autowired
     private ClienteRepository clienteRepository;
 
@@ -153,6 +165,21 @@ class PedidoRepositoryTest {
         );
     }
 
+    @Test
+    @DisplayName("Deve buscar pedidos em andamento com nomes e versão para o painel")
+    void deveBuscarPainelPendentes() {
+        List<PedidoPainelDTO> pedidos = pedidoRepository.findPainelPendentes();
+
+        assertThat(pedidos).extracting(PedidoPainelDTO::id)
+            .containsExactlyInAnyOrder(pedido1.getId(), pedido3.getId());
+        PedidoPainelDTO confirmado = pedidos.stream()
+            .filter(p -> p.id().equals(pedido3.getId())).findFirst().orElseThrow();
+        assertThat(confirmado.clienteNome()).isEqualTo("Maria Santos");
+        assertThat(confirmado.restauranteNome()).isEqualTo("Pizza Mania");
+        assertThat(confirmado.versao()).isEqualTo(pedido3.getVersao());
+        assertThat(confirmado.resumo().status()).isEqualTo(StatusPedido.CONFIRMADO);
+    }
+
     @Test
     @DisplayName("Deve contar pedidos por cliente")
     void deveContarPedidosPorCliente() {
@@ -180,4 +207,130 @@ class PedidoRepositoryTest {
 
         assertThat(pedidos).hasSize(3);
     }
+
+    @Test
+    @DisplayName("Deve paginar pedidos por cursor sem repetir itens")
+    void devePaginarPedidosPorCursor() {
+        List<PedidoResumoDTO> primeiraPagina = pedidoRepository.findPaginaAposCursor(
+            LocalDateTime.of(9999, 12, 31, 23, 59), Long.MAX_VALUE, Limit.of(2));
+        PedidoResumoDTO ultimo = primeiraPagina.get(primeiraPagina.size() - 1);
+        List<PedidoResumoDTO> segundaPagina = pedidoRepository.findPaginaAposCursor(
+            ultimo.dataPedido(), ultimo.id(), Limit.of(2));
+
+        assertThat(primeiraPagina).hasSize(2);
+        assertThat(segundaPagina).hasSize(1);
+        assertThat(segundaPagina).doesNotContainAnyElementsOf(primeiraPagina);
+    }
+
+    @Test
+    @DisplayName("Deve listar resumos de pedidos com uma única consulta")
+    void deveListarResumosComUmaUnicaConsulta() {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics estatisticas = entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+
+        List<PedidoResumoDTO> pedidos = pedidoRepository.findPaginaByRestauranteAposCursor(
+            restaurante1.getId(), LocalDateTime.of(9999, 12, 31, 23, 59), Long.MAX_VALUE, Limit.of(10));
+
+        assertThat(pedidos).hasSize(3);
+        assertThat(pedidos).extracting(PedidoResumoDTO::clienteNome)
+            .containsExactlyInAnyOrder("João Silva", "João Silva", "Maria Santos");
+        assertThat(pedidos).extracting(PedidoResumoDTO::restauranteNome).containsOnly("Pizza Mania");
+        assertThat(estatisticas.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(estatisticas.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve buscar detalhe do pedido com cliente e restaurante em uma única consulta")
+    void deveBuscarDetalheComAssociacoesEmUmaUnicaConsulta() {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics estatisticas = entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+
+        Pedido pedido = pedidoRepository.findDetalheById(pedido1.getId()).orElseThrow();
+
+        assertThat(Hibernate.isInitialized(pedido.getCliente())).isTrue();
+        assertThat(Hibernate.isInitialized(pedido.getRestaurante())).isTrue();
+        assertThat(estatisticas.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve manter cliente e restaurante não carregados na busca por ID")
+    void deveManterAssociacoesNaoCarregadasNaBuscaPorId() {
+        entityManager.flush();
+        entityManager.clear();
+
+        Pedido pedido = pedidoRepository.findById(pedido1.getId()).orElseThrow();
+
+        assertThat(Hibernate.isInitialized(pedido.getCliente())).isFalse();
+        assertThat(Hibernate.isInitialized(pedido.getRestaurante())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve mudar status apenas a partir das origens e da versão esperadas")
+    void deveTransicionarStatusCondicionalmente() {
+        entityManager.flush();
+        Long versao = pedido1.getVersao();
+
+        int alterados = pedidoRepository.transicionarStatus(pedido1.getId(), StatusPedido.CONFIRMADO.origens(),
+            versao, StatusPedido.CONFIRMADO, null);
+
+        Pedido atualizado = pedidoRepository.findById(pedido1.getId()).orElseThrow();
+        assertThat(alterados).isEqualTo(1);
+        assertThat(atualizado.getStatus()).isEqualTo(StatusPedido.CONFIRMADO);
+        assertThat(atualizado.getStatusAnterior()).isEqualTo(StatusPedido.PENDENTE);
+        assertThat(atualizado.getVersao()).isEqualTo(versao + 1);
+    }
+
+    @Test
+    @DisplayName("Não deve mudar status com versão desatualizada ou origem inválida")
+    void naoDeveTransicionarStatusEmConflito() {
+        entityManager.flush();
+        Long versao = pedido1.getVersao();
+        pedidoRepository.transicionarStatus(pedido1.getId(), StatusPedido.CONFIRMADO.origens(),
+            versao, StatusPedido.CONFIRMADO, null);
+
+        int versaoDesatualizada = pedidoRepository.transicionarStatus(pedido1.getId(),
+            StatusPedido.EM_PREPARACAO.origens(), versao, StatusPedido.EM_PREPARACAO, null);
+        int origemInvalida = pedidoRepository.transicionarStatus(pedido2.getId(),
+            StatusPedido.CANCELADO.origens(), null, StatusPedido.CANCELADO, null);
+
+        assertThat(versaoDesatualizada).isZero();
+        assertThat(origemInvalida).isZero();
+        assertThat(pedidoRepository.findById(pedido1.getId()).orElseThrow().getStatus())
+            .isEqualTo(StatusPedido.CONFIRMADO);
+    }
+
+    @Test
+    @DisplayName("Deve mudar status em lote apenas dos pedidos elegíveis")
+    void deveTransicionarStatusEmLote() {
+        entityManager.flush();
+        List<Long> ids = List.of(pedido1.getId(), pedido2.getId(), pedido3.getId());
+
+        List<Pedido> elegiveis = pedidoRepository.findElegiveisParaTransicao(ids, StatusPedido.CANCELADO.origens());
+        int alterados = pedidoRepository.transicionarStatusEmLote(ids, StatusPedido.CANCELADO.origens(),
+            StatusPedido.CANCELADO, null);
+
+        assertThat(elegiveis).extracting(Pedido::getId).containsExactly(pedido1.getId(), pedido3.getId());
+        assertThat(alterados).isEqualTo(2);
+        assertThat(pedidoRepository.findById(pedido2.getId()).orElseThrow().getStatus())
+            .isEqualTo(StatusPedido.ENTREGUE);
+        assertThat(pedidoRepository.findById(pedido3.getId()).orElseThrow().getStatusAnterior())
+            .isEqualTo(StatusPedido.CONFIRMADO);
+    }
+
+    @Test
+    @DisplayName("Deve percorrer pedidos do período via stream")
+    void devePercorrerPedidosPorPeriodoViaStream() {
+        LocalDateTime dataInicio = LocalDateTime.now().minusDays(1);
+        LocalDateTime dataFim = LocalDateTime.now().plusDays(1);
+
+        try (Stream<Pedido> pedidos = pedidoRepository.streamByDataPedidoBetween(dataInicio, dataFim)) {
+            assertThat(pedidos.map(Pedido::getId)).hasSize(3);
+        }
+    }
 }
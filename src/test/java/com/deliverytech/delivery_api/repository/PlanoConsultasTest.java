@@ -0,0 +1,178 @@
+package com.deliverytech.delivery_api.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+/**
+ * Executa EXPLAIN para cada consulta @Query do pacote repository
+ * e falha se alguma delas fizer varredura completa de tabela.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+    + "com.deliverytech.delivery_api.repository.PlanoConsultasTest$CapturaSql")
+@DisplayName("Plano de execução das consultas dos repositories")
+class PlanoConsultasTest {
+
+    // Consultas que percorrem a tabela inteira por definição
+    private static final Set<String> VARREDURA_PERMITIDA = Set.of(
+        "AgregadoPedidoRepository.reconstruirPorRestaurante",
+        "AgregadoPedidoRepository.reconstruirPorCliente",
+        "VendaHorariaRepository.reconstruir",
+        "ProdutoRepository.findAllResumos"
+    );
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("Nenhuma consulta deve fazer varredura completa de tabela")
+    void nenhumaConsultaDeveFazerVarreduraCompleta() throws Exception {
+        Map<String, String> varreduras = new TreeMap<>();
+
+        for (Object repository : applicationContext.getBeansOfType(Repository.class).values()) {
+            for (Class<?> tipo : AopProxyUtils.proxiedUserInterfaces(repository)) {
+                if (!tipo.getPackageName().equals(PlanoConsultasTest.class.getPackageName())) {
+                    continue;
+                }
+                for (Method metodo : tipo.getDeclaredMethods()) {
+                    String nome = tipo.getSimpleName() + "." + metodo.getName();
+                    if (!metodo.isAnnotationPresent(Query.class) || VARREDURA_PERMITIDA.contains(nome)) {
+                        continue;
+                    }
+                    for (String plano : explicar(repository, metodo)) {
+                        if (plano.contains(".tableScan")) {
+                            varreduras.put(nome, plano);
+                        }
+                    }
+                }
+            }
+        }
+
+        assertThat(varreduras).isEmpty();
+    }
+
+    // Executa o método com argumentos fictícios, captura o SQL gerado e devolve os planos
+    private List<String> explicar(Object repository, Method metodo) throws Exception {
+        CapturaSql.SQL.clear();
+        try {
+            Object resultado = metodo.invoke(repository, argumentosFicticios(metodo));
+            if (resultado instanceof Stream<?> stream) {
+                stream.close();
+            }
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Falha ao executar " + metodo, e.getCause());
+        }
+
+        List<String> planos = new ArrayList<>();
+        Connection conexao = DataSourceUtils.getConnection(dataSource);
+        for (String sql : CapturaSql.SQL) {
+            planos.add(explicar(conexao, sql));
+        }
+        return planos;
+    }
+
+    private String explicar(Connection conexao, String sql) throws SQLException {
+        try (PreparedStatement explain = conexao.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 1; i <= explain.getParameterMetaData().getParameterCount(); i++) {
+                explain.setObject(i, null);
+            }
+            try (ResultSet resultado = explain.executeQuery()) {
+                resultado.next();
+                return resultado.getString(1);
+            }
+        }
+    }
+
+    private Object[] argumentosFicticios(Method metodo) {
+        Class<?>[] tipos = metodo.getParameterTypes();
+        Type[] tiposGenericos = metodo.getGenericParameterTypes();
+        Object[] argumentos = new Object[tipos.length];
+        for (int i = 0; i < tipos.length; i++) {
+            argumentos[i] = valorFicticio(tipos[i], tiposGenericos[i]);
+        }
+        return argumentos;
+    }
+
+    // Coleções recebem um elemento do tipo declarado (ex: Set<StatusPedido>)
+    private Object valorFicticio(Class<?> tipo, Type tipoGenerico) {
+        if (Collection.class.isAssignableFrom(tipo) && tipoGenerico instanceof ParameterizedType parametrizado
+                && parametrizado.getActualTypeArguments()[0] instanceof Class<?> elemento) {
+            Object valor = valorFicticio(elemento);
+            return Set.class.isAssignableFrom(tipo) ? Set.of(valor) : List.of(valor);
+        }
+        return valorFicticio(tipo);
+    }
+
+    private Object valorFicticio(Class<?> tipo) {
+        if (tipo == Long.class || tipo == long.class) {
+            return 1L;
+        } else if (tipo == Integer.class || tipo == int.class) {
+            return 10;
+        } else if (tipo == Double.class || tipo == double.class) {
+            return 1.0;
+        } else if (tipo == Boolean.class || tipo == boolean.class) {
+            return true;
+        } else if (tipo == String.class) {
+            return "x";
+        } else if (tipo == BigDecimal.class) {
+            return BigDecimal.ONE;
+        } else if (tipo == LocalDateTime.class) {
+            return LocalDateTime.now();
+        } else if (tipo == Limit.class) {
+            return Limit.of(10);
+        } else if (tipo.isEnum()) {
+            return tipo.getEnumConstants()[0];
+        } else if (Collection.class.isAssignableFrom(tipo)) {
+            return List.of(1L);
+        }
+        throw new IllegalArgumentException("Tipo de parâmetro sem valor fictício: " + tipo);
+    }
+
+    /**
+     * Registra o SQL preparado pelo Hibernate durante a execução de cada consulta.
+     */
+    public static class CapturaSql implements StatementInspector {
+
+        static final List<String> SQL = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            SQL.add(sql);
+            return sql;
+        }
+    }
+}
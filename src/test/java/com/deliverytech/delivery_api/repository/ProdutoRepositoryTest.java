@@ -5,25 +5,33 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.math.BigDecimal;
 import java.util.List;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
+import com.deliverytech.delivery_api.dto.ProdutoResumoDTO;
 import com.deliverytech.delivery_api.entity.Produto;
 import com.deliverytech.delivery_api.entity.Restaurante;
 
+import jakarta.persistence.EntityManager;
+
 /**
  * Testes para ProdutoRepository.
  */
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @DisplayName("Testes do ProdutoRepository")
 class ProdutoRepositoryTest {
 
     @Autowired
     private ProdutoRepository produtoRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Autowired
     private RestauranteRepository restauranteRepository;
 
@@ -88,6 +96,33 @@ class ProdutoRepositoryTest {
         assertThat(produtos.get(0).getNome()).isEqualTo("Pizza Margherita");
     }
 
+    @Test
+    @DisplayName("Deve listar resumos de produtos sem carregar restaurantes")
+    void deveListarResumosSemCarregarRestaurantes() {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics estatisticas = entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+
+        List<ProdutoResumoDTO> produtos = produtoRepository.findAllResumos();
+
+        assertThat(produtos).hasSize(3);
+        assertThat(produtos).extracting(ProdutoResumoDTO::restauranteId)
+            .containsExactlyInAnyOrder(restaurante1.getId(), restaurante1.getId(), restaurante2.getId());
+        assertThat(estatisticas.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(estatisticas.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve buscar resumos de produtos disponíveis do restaurante")
+    void deveBuscarResumosDisponiveisDoRestaurante() {
+        List<ProdutoResumoDTO> produtos = produtoRepository.findResumosDisponiveisByRestaurante(restaurante1.getId());
+
+        assertThat(produtos).extracting(ProdutoResumoDTO::nome)
+            .containsExactlyInAnyOrder("Pizza Margherita", "Coca-Cola");
+    }
+
     @Test
     @DisplayName("Deve buscar produtos por nome")
     void deveBuscarProdutosPorNome() {
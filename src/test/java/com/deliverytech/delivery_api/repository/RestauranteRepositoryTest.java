@@ -9,6 +9,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
 import com.deliverytech.delivery_api.entity.Restaurante;
 
@@ -19,6 +20,9 @@ import com.deliverytech.delivery_api.entity.Restaurante;
 @DisplayName("Testes do RestauranteRepository")
 class RestauranteRepositoryTest {
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Autowired
     private RestauranteRepository restauranteRepository;
 
@@ -121,4 +125,28 @@ class RestauranteRepositoryTest {
         assertThat(resultado).hasSize(2);
         assertThat(resultado.get(0).getAvaliacao()).isEqualTo(4.9);
     }
+
+    @Test
+    @DisplayName("Deve incrementar e buscar a versão do catálogo")
+    void deveIncrementarEBuscarVersaoCatalogo() {
+        restauranteRepository.incrementarVersaoCatalogo(restaurante1.getId());
+
+        assertThat(restauranteRepository.findVersaoCatalogoById(restaurante1.getId())).contains(1L);
+        assertThat(restauranteRepository.findVersaoCatalogoById(-1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Não deve sobrescrever a versão do catálogo ao salvar a entidade carregada antes do incremento")
+    void naoDeveSobrescreverVersaoCatalogoAoSalvar() {
+        Restaurante carregado = restauranteRepository.findById(restaurante1.getId()).orElseThrow();
+        restauranteRepository.incrementarVersaoCatalogo(restaurante1.getId());
+
+        carregado.setNome("Pizza Mania Centro");
+        restauranteRepository.saveAndFlush(carregado);
+        entityManager.clear();
+
+        Restaurante relido = restauranteRepository.findById(restaurante1.getId()).orElseThrow();
+        assertThat(relido.getNome()).isEqualTo("Pizza Mania Centro");
+        assertThat(relido.getVersaoCatalogo()).isEqualTo(1L);
+    }
 }
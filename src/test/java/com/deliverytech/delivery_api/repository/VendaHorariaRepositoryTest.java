@@ -0,0 +1,107 @@
+package com.deliverytech.delivery_api.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import com.deliverytech.delivery_api.dto.PontoSerieVendasDTO;
+import com.deliverytech.delivery_api.dto.VendasRestauranteDTO;
+import com.deliverytech.delivery_api.entity.Cliente;
+import com.deliverytech.delivery_api.entity.Pedido;
+import com.deliverytech.delivery_api.entity.Pedido.StatusPedido;
+import com.deliverytech.delivery_api.entity.Restaurante;
+
+/**
+ * Testes para VendaHorariaRepository.
+ */
+@DataJpaTest
+@DisplayName("Testes do VendaHorariaRepository")
+class VendaHorariaRepositoryTest {
+
+    private static final LocalDateTime DEZ_HORAS = LocalDateTime.of(2025, 3, 10, 10, 0);
+
+    @Autowired
+    private VendaHorariaRepository vendaHorariaRepository;
+
+    @Autowired
+    private PedidoRepository pedidoRepository;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private RestauranteRepository restauranteRepository;
+
+    private Restaurante restaurante1;
+
+    @BeforeEach
+    void setUp() {
+        Cliente cliente1 = clienteRepository.save(new Cliente("João Silva", "joao@email.com", "11999999999", "Rua A, 123"));
+        restaurante1 = restauranteRepository.save(new Restaurante("Pizza Mania", "Italiana", "Rua 1, 100", "11991111111"));
+
+        Pedido pedido1 = new Pedido(cliente1, restaurante1, new BigDecimal("100.00"), "Rua A, 123");
+        pedido1.setDataPedido(DEZ_HORAS.plusMinutes(15));
+
+        Pedido pedido2 = new Pedido(cliente1, restaurante1, new BigDecimal("50.00"), "Rua A, 123");
+        pedido2.setDataPedido(DEZ_HORAS.plusMinutes(45));
+
+        Pedido pedido3 = new Pedido(cliente1, restaurante1, new BigDecimal("30.00"), "Rua A, 123");
+        pedido3.setDataPedido(DEZ_HORAS.plusHours(1).plusMinutes(5));
+
+        Pedido pedido4 = new Pedido(cliente1, restaurante1, new BigDecimal("70.00"), "Rua A, 123");
+        pedido4.setDataPedido(DEZ_HORAS.plusMinutes(20));
+        pedido4.setStatus(StatusPedido.CANCELADO);
+
+        pedidoRepository.saveAll(List.of(pedido1, pedido2, pedido3, pedido4));
+        vendaHorariaRepository.reconstruir();
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir vendas por hora e somar horas cheias sem cancelados")
+    void deveSomarVendasPorHora() {
+        BigDecimal total = vendaHorariaRepository.somarVendas(DEZ_HORAS, DEZ_HORAS.plusHours(2));
+
+        assertThat(total).isEqualByComparingTo("180.00");
+    }
+
+    @Test
+    @DisplayName("Deve incrementar vendas de uma hora existente")
+    void deveIncrementarVendasDaHora() {
+        int atualizados = vendaHorariaRepository.incrementar(
+            DEZ_HORAS, restaurante1.getId(), StatusPedido.PENDENTE, 1, new BigDecimal("20.00"));
+
+        assertThat(atualizados).isEqualTo(1);
+        assertThat(vendaHorariaRepository.somarVendas(DEZ_HORAS, DEZ_HORAS.plusHours(1)))
+            .isEqualByComparingTo("170.00");
+    }
+
+    @Test
+    @DisplayName("Deve buscar série horária de vendas")
+    void deveBuscarSerieHoraria() {
+        List<PontoSerieVendasDTO> serie = vendaHorariaRepository.buscarSerieHoraria(
+            DEZ_HORAS, DEZ_HORAS.plusHours(5), restaurante1.getId());
+
+        assertThat(serie).hasSize(2);
+        assertThat(serie.get(0).inicio()).isEqualTo(DEZ_HORAS);
+        assertThat(serie.get(0).quantidade()).isEqualTo(2L);
+        assertThat(serie.get(1).valorTotal()).isEqualByComparingTo("30.00");
+    }
+
+    @Test
+    @DisplayName("Deve somar pedidos por restaurante a partir de uma hora")
+    void deveSomarQuantidadePorRestaurante() {
+        List<VendasRestauranteDTO> vendas = vendaHorariaRepository.somarQuantidadePorRestaurante(
+            DEZ_HORAS.plusHours(1), StatusPedido.PENDENTE);
+
+        assertThat(vendas).containsExactly(new VendasRestauranteDTO(restaurante1.getId(), 1L));
+        assertThat(vendaHorariaRepository.somarQuantidadePorRestaurante(DEZ_HORAS, StatusPedido.ENTREGUE)).isEmpty();
+    }
+}
@@ -0,0 +1,142 @@
+package com.deliverytech.delivery_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.deliverytech.delivery_api.dto.ResumoPedidosDTO;
+import com.deliverytech.delivery_api.entity.Cliente;
+import com.deliverytech.delivery_api.entity.Pedido;
+import com.deliverytech.delivery_api.entity.Pedido.StatusPedido;
+import com.deliverytech.delivery_api.entity.Restaurante;
+import com.deliverytech.delivery_api.repository.ClienteRepository;
+import com.deliverytech.delivery_api.repository.RestauranteRepository;
+
+/**
+ * Testes para AgregadoPedidoService: pedidos concorrentes em agregados que ainda não existem
+ * e pedidos criados durante a reconstrução.
+ * Sem rollback: cada pedido é confirmado na sua própria transação, como em produção.
+ */
+@SpringBootTest
+@DisplayName("Testes do AgregadoPedidoService")
+class AgregadoPedidoServiceTest {
+
+    private static final int PEDIDOS = 16;
+
+    @Autowired
+    private PedidoService pedidoService;
+
+    @Autowired
+    private AgregadoPedidoService agregadoPedidoService;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private RestauranteRepository restauranteRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("Deve somar primeiros pedidos concorrentes do mesmo restaurante e cliente sem duplicar agregados")
+    void deveSomarPrimeirosPedidosConcorrentes() throws Exception {
+        Restaurante restaurante = restauranteRepository.save(
+            new Restaurante("Agregado Concorrente", "Italiana", "Rua 1, 100", "11991111111"));
+        Cliente cliente1 = clienteRepository.save(
+            new Cliente("Maria Concorrente", "maria.concorrente@email.com", "11999999999", "Rua A, 123"));
+        Cliente cliente2 = clienteRepository.save(
+            new Cliente("José Concorrente", "jose.concorrente@email.com", "11988888888", "Rua B, 456"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(PEDIDOS);
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<Pedido>> pedidos = new ArrayList<>();
+        try {
+            for (int i = 0; i < PEDIDOS; i++) {
+                Long clienteId = (i % 2 == 0 ? cliente1 : cliente2).getId();
+                pedidos.add(executor.submit(() -> {
+                    largada.await();
+                    return pedidoService.criar(new Pedido(null, null, new BigDecimal("10.00"), "Rua A, 123"),
+                        clienteId, restaurante.getId());
+                }));
+            }
+            largada.countDown();
+            // Falha aqui se algum pedido colidiu na chave única do agregado
+            for (Future<Pedido> pedido : pedidos) {
+                assertThat(pedido.get(30, TimeUnit.SECONDS).getId()).isNotNull();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        ResumoPedidosDTO resumoRestaurante = agregadoPedidoService.buscarResumoRestaurante(restaurante.getId());
+        assertThat(resumoRestaurante.quantidadePedidos()).isEqualTo(PEDIDOS);
+        assertThat(resumoRestaurante.quantidadePorStatus()).containsEntry(StatusPedido.PENDENTE, (long) PEDIDOS);
+        assertThat(resumoRestaurante.valorTotal()).isEqualByComparingTo("160.00");
+        assertThat(agregadoPedidoService.buscarResumoCliente(cliente1.getId()).quantidadePedidos()).isEqualTo(PEDIDOS / 2);
+        assertThat(agregadoPedidoService.buscarResumoCliente(cliente2.getId()).quantidadePedidos()).isEqualTo(PEDIDOS / 2);
+    }
+
+    @Test
+    @DisplayName("Deve fazer o pedido criado durante a reconstrução esperar e somar sobre os agregados recalculados")
+    void deveSomarPedidoCriadoDuranteReconstrucao() throws Exception {
+        Restaurante restaurante = restauranteRepository.save(
+            new Restaurante("Agregado Reconstrução", "Italiana", "Rua 2, 200", "11992222222"));
+        Cliente cliente = clienteRepository.save(
+            new Cliente("Ana Reconstrução", "ana.reconstrucao@email.com", "11977777777", "Rua C, 789"));
+        pedidoService.criar(new Pedido(null, null, new BigDecimal("10.00"), "Rua C, 789"),
+            cliente.getId(), restaurante.getId());
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch reconstruido = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        try {
+            // Reconstrução com a transação aberta até o teste liberar
+            Future<?> reconstrucao = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                agregadoPedidoService.reconstruir();
+                reconstruido.countDown();
+                aguardar(liberar);
+            }));
+            assertThat(reconstruido.await(30, TimeUnit.SECONDS)).isTrue();
+
+            Future<Pedido> pedido = executor.submit(() -> pedidoService.criar(
+                new Pedido(null, null, new BigDecimal("15.00"), "Rua C, 789"), cliente.getId(), restaurante.getId()));
+            assertThatThrownBy(() -> pedido.get(200, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+
+            liberar.countDown();
+            reconstrucao.get(30, TimeUnit.SECONDS);
+            assertThat(pedido.get(30, TimeUnit.SECONDS).getId()).isNotNull();
+        } finally {
+            liberar.countDown();
+            executor.shutdownNow();
+        }
+
+        ResumoPedidosDTO resumoRestaurante = agregadoPedidoService.buscarResumoRestaurante(restaurante.getId());
+        assertThat(resumoRestaurante.quantidadePedidos()).isEqualTo(2);
+        assertThat(resumoRestaurante.valorTotal()).isEqualByComparingTo("25.00");
+        assertThat(agregadoPedidoService.buscarResumoCliente(cliente.getId()).quantidadePedidos()).isEqualTo(2);
+    }
+
+    private static void aguardar(CountDownLatch latch) {
+        try {
+            latch.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.deliverytech.delivery_api.service;
+
+import static com.deliverytech.delivery_api.service.CatalogoTeste.evento;
+import static com.deliverytech.delivery_api.service.CatalogoTeste.inativo;
+import static com.deliverytech.delivery_api.service.CatalogoTeste.produto;
+import static com.deliverytech.delivery_api.service.CatalogoTeste.remocao;
+import static com.deliverytech.delivery_api.service.CatalogoTeste.restaurante;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.deliverytech.delivery_api.dto.SugestaoDTO;
+import com.deliverytech.delivery_api.repository.ProdutoRepository;
+import com.deliverytech.delivery_api.repository.RestauranteRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Testes para AutocompleteService: sugestões por início de palavra, peso pela avaliação dos
+ * restaurantes ativos, eventos de produtos e restaurantes e limites.
+ */
+@DisplayName("Testes do AutocompleteService")
+class AutocompleteServiceTest {
+
+    private final ProdutoRepository produtoRepository = mock(ProdutoRepository.class);
+    private final RestauranteRepository restauranteRepository = mock(RestauranteRepository.class);
+    private AutocompleteService service;
+
+    @BeforeEach
+    void setUp() {
+        when(restauranteRepository.findAll()).thenReturn(List.of(
+            restaurante(1L, "Pizza Mania", "Italiana", 4.5),
+            restaurante(2L, "Cantina da Nonna", "Italiana", 4.8)));
+        when(produtoRepository.findAllResumos()).thenReturn(List.of(
+            produto(1L, "Pizza Calabresa", "Pizzas", null, 1L, true),
+            produto(2L, "Pizza Calabresa", "Pizzas", null, 2L, true),
+            produto(3L, "Lasanha", "Massas", null, 2L, false)));
+        service = new AutocompleteService(produtoRepository, restauranteRepository, new SimpleMeterRegistry());
+        service.carregar();
+    }
+
+    @Test
+    @DisplayName("Deve sugerir pelo início de qualquer palavra, sem acentos e com peso da melhor avaliação")
+    void deveSugerirPeloInicioDeQualquerPalavra() {
+        assertThat(service.sugerir("PIZ", null))
+            .extracting(SugestaoDTO::texto, SugestaoDTO::tipo, SugestaoDTO::peso)
+            .containsExactly(
+                tuple("Pizza Calabresa", SugestaoDTO.PRODUTO, 4.8),
+                tuple("Pizzas", SugestaoDTO.CATEGORIA, 4.8),
+                tuple("Pizza Mania", SugestaoDTO.RESTAURANTE, 4.5));
+        assertThat(service.sugerir("calá", null)).extracting(SugestaoDTO::texto).containsExactly("Pizza Calabresa");
+        assertThat(service.sugerir("nonna", null)).extracting(SugestaoDTO::texto).containsExactly("Cantina da Nonna");
+        // Produto indisponível não é sugerido; palavra vazia não inicia sugestão
+        assertThat(service.sugerir("lasanha", null)).isEmpty();
+        assertThat(service.sugerir("da", null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve devolver lista vazia para prefixo vazio ou inexistente")
+    void deveDevolverVazioParaPrefixoVazioOuInexistente() {
+        assertThat(service.sugerir("", null)).isEmpty();
+        assertThat(service.sugerir("  !? ", null)).isEmpty();
+        assertThat(service.sugerir("sushi", null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve recalcular o peso e retirar sugestões sem restaurante ativo")
+    void deveRecalcularPesoPelosEventosDeRestaurante() {
+        service.atualizarRestaurante(evento(inativo(restaurante(2L, "Cantina da Nonna", "Italiana", 4.8))));
+
+        assertThat(service.sugerir("calabresa", null)).extracting(SugestaoDTO::peso).containsExactly(4.5);
+        assertThat(service.sugerir("cantina", null)).isEmpty();
+        assertThat(service.sugerir("italiana", null)).extracting(SugestaoDTO::peso).containsExactly(4.5);
+
+        service.atualizarRestaurante(remocao(1L));
+        assertThat(service.sugerir("pizza", null)).isEmpty();
+        assertThat(service.sugerir("italiana", null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve aplicar eventos de produtos: inclusão, renomeação e remoção")
+    void deveAplicarEventosDeProdutos() {
+        service.atualizarProduto(evento(3L, produto(3L, "Lasanha", "Massas", null, 2L, true)));
+        assertThat(service.sugerir("mass", null)).extracting(SugestaoDTO::texto).containsExactly("Massas");
+
+        service.atualizarProduto(evento(3L, produto(3L, "Lasanha Bolonhesa", "Massas", null, 2L, true)));
+        assertThat(service.sugerir("lasanha", null)).extracting(SugestaoDTO::texto).containsExactly("Lasanha Bolonhesa");
+
+        // A sugestão continua enquanto outro restaurante tiver o produto
+        service.atualizarProduto(evento(2L, null));
+        assertThat(service.sugerir("calabresa", null)).extracting(SugestaoDTO::peso).containsExactly(4.5);
+        service.atualizarProduto(evento(1L, null));
+        assertThat(service.sugerir("calabresa", null)).isEmpty();
+        assertThat(service.sugerir("pizzas", null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve aplicar o limite padrão e o limite máximo de sugestões")
+    void deveLimitarSugestoes() {
+        for (long id = 10; id < 30; id++) {
+            service.atualizarProduto(evento(id, produto(id, "Pastel " + id, "Salgados", null, 1L, true)));
+        }
+
+        assertThat(service.sugerir("pastel", null)).hasSize(AutocompleteService.LIMITE_PADRAO);
+        assertThat(service.sugerir("pastel", 3)).hasSize(3);
+        assertThat(service.sugerir("pastel", 100)).hasSize(AutocompleteService.LIMITE_MAXIMO);
+    }
+}
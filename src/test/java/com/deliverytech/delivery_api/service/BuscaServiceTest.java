@@ -0,0 +1,100 @@
+package com.deliverytech.delivery_api.service;
+
+import static com.deliverytech.delivery_api.service.CatalogoTeste.evento;
+import static com.deliverytech.delivery_api.service.CatalogoTeste.produto;
+import static com.deliverytech.delivery_api.service.CatalogoTeste.remocao;
+import static com.deliverytech.delivery_api.service.CatalogoTeste.restaurante;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.deliverytech.delivery_api.dto.ProdutoResumoDTO;
+import com.deliverytech.delivery_api.entity.Restaurante;
+import com.deliverytech.delivery_api.repository.ProdutoRepository;
+import com.deliverytech.delivery_api.repository.RestauranteRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Testes para BuscaService: carga dos índices, pesos por campo, eventos de produtos e
+ * restaurantes e limite de resultados.
+ */
+@DisplayName("Testes do BuscaService")
+class BuscaServiceTest {
+
+    private final ProdutoRepository produtoRepository = mock(ProdutoRepository.class);
+    private final RestauranteRepository restauranteRepository = mock(RestauranteRepository.class);
+    private BuscaService service;
+
+    @BeforeEach
+    void setUp() {
+        when(produtoRepository.findAllResumos()).thenReturn(List.of(
+            produto(1L, "Pizza Margherita", "Italiana", "Molho de tomate e manjericão", 1L, true),
+            produto(2L, "Calzone", "Italiana", "Massa de pizza recheada", 1L, true),
+            produto(3L, "Açaí na Tigela", "Sobremesas", "Com granola", 1L, true),
+            produto(4L, "Pizza Doce", "Sobremesas", null, 1L, false)));
+        when(restauranteRepository.findAll()).thenReturn(List.of(
+            restaurante(1L, "Pizza Mania", "Italiana", 4.5),
+            restaurante(2L, "Sabor Italiano", "Pizzaria", 4.5)));
+        service = new BuscaService(produtoRepository, restauranteRepository, new SimpleMeterRegistry());
+        service.carregar();
+    }
+
+    @Test
+    @DisplayName("Deve indexar só produtos disponíveis e ordenar pelo peso do campo")
+    void deveIndexarSoDisponiveisPorRelevancia() {
+        assertThat(service.buscarProdutos("pizza", null)).extracting(ProdutoResumoDTO::id).containsExactly(1L, 2L);
+        assertThat(service.buscarProdutos("SOBREMESA acai", null)).extracting(ProdutoResumoDTO::id).containsExactly(3L);
+        assertThat(service.buscarProdutos("com", null)).isEmpty();
+        assertThat(service.buscarRestaurantes("pizz", null)).extracting(Restaurante::getNome)
+            .containsExactly("Pizza Mania", "Sabor Italiano");
+        assertThat(service.buscarRestaurantes("italian", null)).extracting(Restaurante::getNome)
+            .containsExactly("Sabor Italiano", "Pizza Mania");
+    }
+
+    @Test
+    @DisplayName("Deve aplicar eventos de produtos: inclusão, alteração, indisponibilidade e remoção")
+    void deveAplicarEventosDeProdutos() {
+        service.atualizarProduto(evento(5L, produto(5L, "Pizza Calabresa", "Italiana", null, 1L, true)));
+        assertThat(service.buscarProdutos("calabresa", null)).extracting(ProdutoResumoDTO::id).containsExactly(5L);
+
+        service.atualizarProduto(evento(4L, produto(4L, "Pizza Doce", "Sobremesas", null, 1L, true)));
+        assertThat(service.buscarProdutos("pizza doce", null)).extracting(ProdutoResumoDTO::id).containsExactly(4L);
+
+        service.atualizarProduto(evento(1L, produto(1L, "Pizza Margherita", "Italiana", null, 1L, false)));
+        service.atualizarProduto(evento(2L, null));
+        // Mesma relevância: desempate pelo ID
+        assertThat(service.buscarProdutos("pizza", null)).extracting(ProdutoResumoDTO::id).containsExactly(4L, 5L);
+        assertThat(service.buscarProdutos("manjericao", null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve aplicar eventos de restaurantes, reindexando nome e categoria alterados")
+    void deveAplicarEventosDeRestaurantes() {
+        service.atualizarRestaurante(evento(restaurante(1L, "Sushi House", "Japonesa", 4.5)));
+        service.atualizarRestaurante(remocao(2L));
+
+        assertThat(service.buscarRestaurantes("pizza", null)).isEmpty();
+        assertThat(service.buscarRestaurantes("japonesa sushi", null)).extracting(Restaurante::getId)
+            .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Deve aplicar o limite padrão e o limite máximo de resultados")
+    void deveLimitarResultados() {
+        for (long id = 10; id < 10 + BuscaService.LIMITE_MAXIMO + 5; id++) {
+            service.atualizarProduto(evento(id, produto(id, "Pastel " + id, "Salgados", null, 1L, true)));
+        }
+
+        assertThat(service.buscarProdutos("pastel", null)).hasSize(BuscaService.LIMITE_PADRAO);
+        assertThat(service.buscarProdutos("pastel", 0)).hasSize(BuscaService.LIMITE_PADRAO);
+        assertThat(service.buscarProdutos("pastel", 5)).hasSize(5);
+        assertThat(service.buscarProdutos("pastel", 1000)).hasSize(BuscaService.LIMITE_MAXIMO);
+    }
+}
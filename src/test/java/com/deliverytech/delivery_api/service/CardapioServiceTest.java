@@ -0,0 +1,139 @@
+package com.deliverytech.delivery_api.service;
+
+import static com.deliverytech.delivery_api.service.CardapioTest.produto;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.deliverytech.delivery_api.dto.EventoCardapioDTO;
+import com.deliverytech.delivery_api.dto.ProdutoResumoDTO;
+import com.deliverytech.delivery_api.repository.ProdutoRepository;
+import com.deliverytech.delivery_api.repository.RestauranteRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Testes para CardapioService: eventos aplicados em ordem de versão, eventos atrasados
+ * ignorados e remontagem do cardápio a partir do banco.
+ */
+@DisplayName("Testes do CardapioService")
+class CardapioServiceTest {
+
+    private static final Long RESTAURANTE_ID = 1L;
+
+    private final ProdutoRepository produtoRepository = mock(ProdutoRepository.class);
+    private final RestauranteRepository restauranteRepository = mock(RestauranteRepository.class);
+    private CardapioService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new CardapioService(produtoRepository, restauranteRepository, new SimpleMeterRegistry(), 100);
+        versaoNoBanco(1, List.of(
+            produto(1L, "Pizza Margherita", "35.90", "Italiana", true),
+            produto(2L, "Calzone", "39.90", "Italiana", true)));
+    }
+
+    @Test
+    @DisplayName("Deve montar o cardápio uma vez e reutilizá-lo enquanto a versão não muda")
+    void deveReutilizarCardapioDaMesmaVersao() {
+        Cardapio primeiro = service.buscar(RESTAURANTE_ID);
+        Cardapio segundo = service.buscar(RESTAURANTE_ID);
+
+        assertThat(segundo).isSameAs(primeiro);
+        verify(produtoRepository, times(1)).findResumosByRestauranteId(RESTAURANTE_ID);
+    }
+
+    @Test
+    @DisplayName("Deve aplicar em ordem os eventos das versões seguintes sem ler o banco")
+    void deveAplicarEventosEmOrdem() {
+        service.buscar(RESTAURANTE_ID);
+
+        service.aplicar(evento(2, 3L, produto(3L, "Lasanha", "29.90", "Italiana", true)));
+        service.aplicar(evento(3, 1L, null));
+        versaoNoBanco(3);
+
+        Cardapio cardapio = service.buscar(RESTAURANTE_ID);
+        assertThat(cardapio.versao()).isEqualTo(3);
+        assertThat(cardapio.disponiveisPorPreco()).extracting(ProdutoResumoDTO::id).containsExactly(3L, 2L);
+        verify(produtoRepository, times(1)).findResumosByRestauranteId(RESTAURANTE_ID);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar eventos de versões já refletidas no cardápio")
+    void deveIgnorarEventosAtrasados() {
+        service.buscar(RESTAURANTE_ID);
+        service.aplicar(evento(2, 3L, produto(3L, "Lasanha", "29.90", "Italiana", true)));
+
+        // Evento da versão 2 repetido e evento antigo da versão 1 chegando depois
+        service.aplicar(evento(2, 3L, produto(3L, "Lasanha", "99.90", "Italiana", true)));
+        service.aplicar(evento(1, 2L, null));
+        versaoNoBanco(2);
+
+        Cardapio cardapio = service.buscar(RESTAURANTE_ID);
+        assertThat(cardapio.produtos()).extracting(ProdutoResumoDTO::id).containsExactly(1L, 2L, 3L);
+        assertThat(cardapio.porCategoria("Italiana", true).get(2).preco()).isEqualByComparingTo("29.90");
+        verify(produtoRepository, times(1)).findResumosByRestauranteId(RESTAURANTE_ID);
+    }
+
+    @Test
+    @DisplayName("Deve descartar o cardápio ao receber um evento fora de sequência e remontá-lo do banco")
+    void deveRemontarAposEventoForaDeSequencia() {
+        service.buscar(RESTAURANTE_ID);
+
+        // A versão 2 ainda não chegou: o evento da 3 não pode ser aplicado sobre a 1
+        service.aplicar(evento(3, 4L, produto(4L, "Tiramisu", "19.90", "Sobremesas", true)));
+        versaoNoBanco(3, List.of(
+            produto(1L, "Pizza Margherita", "35.90", "Italiana", true),
+            produto(3L, "Lasanha", "29.90", "Italiana", true),
+            produto(4L, "Tiramisu", "19.90", "Sobremesas", true)));
+
+        Cardapio cardapio = service.buscar(RESTAURANTE_ID);
+        assertThat(cardapio.versao()).isEqualTo(3);
+        assertThat(cardapio.categorias()).containsExactly("Italiana", "Sobremesas");
+        verify(produtoRepository, times(2)).findResumosByRestauranteId(RESTAURANTE_ID);
+    }
+
+    @Test
+    @DisplayName("Deve remontar o cardápio quando a versão do catálogo do restaurante é mais nova")
+    void deveRemontarQuandoVersaoDoRestauranteEMaisNova() {
+        service.buscar(RESTAURANTE_ID);
+
+        // Alteração feita por outra instância: nenhum evento chega a esta
+        versaoNoBanco(2, List.of(produto(1L, "Pizza Margherita", "37.90", "Italiana", true)));
+
+        Cardapio cardapio = service.buscar(RESTAURANTE_ID);
+        assertThat(cardapio.versao()).isEqualTo(2);
+        assertThat(cardapio.produtos()).extracting(ProdutoResumoDTO::id).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção para restaurante inexistente")
+    void deveLancarExcecaoParaRestauranteInexistente() {
+        when(restauranteRepository.findVersaoCatalogoById(99L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.buscar(99L)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void versaoNoBanco(long versao, List<ProdutoResumoDTO> produtos) {
+        versaoNoBanco(versao);
+        when(produtoRepository.findResumosByRestauranteId(RESTAURANTE_ID)).thenReturn(produtos);
+    }
+
+    private void versaoNoBanco(long versao) {
+        when(restauranteRepository.findVersaoCatalogoById(RESTAURANTE_ID)).thenReturn(Optional.of(versao));
+    }
+
+    private EventoCardapioDTO evento(long versao, Long produtoId, ProdutoResumoDTO produto) {
+        return new EventoCardapioDTO(RESTAURANTE_ID, versao, produtoId, produto);
+    }
+}
@@ -0,0 +1,70 @@
+package com.deliverytech.delivery_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.deliverytech.delivery_api.dto.ProdutoResumoDTO;
+
+/**
+ * Testes para Cardapio: listagens montadas por ID, por preço e por categoria.
+ */
+@DisplayName("Testes do Cardapio")
+class CardapioTest {
+
+    private final Cardapio cardapio = Cardapio.de(3, List.of(
+        produto(4L, "Sashimi", "49.90", "Japonesa", true),
+        produto(1L, "Pizza Margherita", "35.90", "Italiana", true),
+        produto(3L, "Lasanha", "42.00", "Italiana", false),
+        produto(2L, "Calzone", "35.90", "Italiana", true),
+        produto(5L, "Temaki", "29.90", "Japonesa", true)
+    ));
+
+    @Test
+    @DisplayName("Deve ordenar os produtos por ID e os disponíveis por preço, desempatando pelo ID")
+    void deveOrdenarPorIdEPorPreco() {
+        assertThat(cardapio.versao()).isEqualTo(3);
+        assertThat(cardapio.produtos()).extracting(ProdutoResumoDTO::id).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(cardapio.disponiveis()).extracting(ProdutoResumoDTO::id).containsExactly(1L, 2L, 4L, 5L);
+        assertThat(cardapio.disponiveisPorPreco()).extracting(ProdutoResumoDTO::id).containsExactly(5L, 1L, 2L, 4L);
+        assertThat(cardapio.maisCaros(2)).extracting(ProdutoResumoDTO::id).containsExactly(4L, 2L);
+        assertThat(cardapio.maisCaros(10)).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("Deve agrupar por categoria e listar só as categorias com produto disponível")
+    void deveAgruparPorCategoria() {
+        assertThat(cardapio.porCategoria("Italiana", false)).extracting(ProdutoResumoDTO::id).containsExactly(1L, 2L, 3L);
+        assertThat(cardapio.porCategoria("Italiana", true)).extracting(ProdutoResumoDTO::id).containsExactly(1L, 2L);
+        assertThat(cardapio.porCategoria("Brasileira", false)).isEmpty();
+        assertThat(cardapio.categorias()).containsExactly("Italiana", "Japonesa");
+
+        Cardapio semJaponesa = cardapio.sem(4, 4L).sem(5, 5L);
+        assertThat(semJaponesa.categorias()).containsExactly("Italiana");
+    }
+
+    @Test
+    @DisplayName("Deve gerar um novo cardápio ao incluir, substituir e remover produtos")
+    void deveGerarNovoCardapioAoAlterar() {
+        Cardapio alterado = cardapio
+            .com(4, produto(3L, "Lasanha", "25.00", "Italiana", true))
+            .com(5, produto(6L, "Feijoada", "39.90", "Brasileira", true))
+            .sem(6, 1L);
+
+        assertThat(alterado.versao()).isEqualTo(6);
+        assertThat(alterado.produtos()).extracting(ProdutoResumoDTO::id).containsExactly(2L, 3L, 4L, 5L, 6L);
+        assertThat(alterado.disponiveisPorPreco()).extracting(ProdutoResumoDTO::id).containsExactly(3L, 5L, 2L, 6L, 4L);
+        assertThat(alterado.categorias()).containsExactly("Brasileira", "Italiana", "Japonesa");
+        // O cardápio anterior não muda
+        assertThat(cardapio.produtos()).extracting(ProdutoResumoDTO::id).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(cardapio.porCategoria("Italiana", true)).extracting(ProdutoResumoDTO::id).containsExactly(1L, 2L);
+    }
+
+    static ProdutoResumoDTO produto(Long id, String nome, String preco, String categoria, boolean disponivel) {
+        return new ProdutoResumoDTO(id, nome, null, new BigDecimal(preco), categoria, disponivel, null, 1L);
+    }
+}
@@ -0,0 +1,55 @@
+package com.deliverytech.delivery_api.service;
+
+import java.math.BigDecimal;
+
+import com.deliverytech.delivery_api.dto.EventoCardapioDTO;
+import com.deliverytech.delivery_api.dto.EventoRestauranteDTO;
+import com.deliverytech.delivery_api.dto.ProdutoResumoDTO;
+import com.deliverytech.delivery_api.entity.Restaurante;
+
+/**
+ * Restaurantes, produtos e eventos de catálogo montados em memória, sem banco, para os testes
+ * dos índices de busca, sugestões, proximidade e ranking.
+ */
+final class CatalogoTeste {
+
+    private CatalogoTeste() {
+    }
+
+    static Restaurante restaurante(Long id, String nome, String categoria, double avaliacao) {
+        Restaurante restaurante = new Restaurante(nome, categoria, "Rua " + id, "1133330000");
+        restaurante.setId(id);
+        restaurante.setAvaliacao(avaliacao);
+        return restaurante;
+    }
+
+    static Restaurante inativo(Restaurante restaurante) {
+        restaurante.setAtivo(false);
+        return restaurante;
+    }
+
+    static Restaurante localizado(Restaurante restaurante, Double latitude, Double longitude) {
+        restaurante.setLatitude(latitude);
+        restaurante.setLongitude(longitude);
+        return restaurante;
+    }
+
+    static ProdutoResumoDTO produto(Long id, String nome, String categoria, String descricao, Long restauranteId,
+                                    boolean disponivel) {
+        return new ProdutoResumoDTO(id, nome, descricao, new BigDecimal("10.00"), categoria, disponivel, null,
+            restauranteId);
+    }
+
+    static EventoRestauranteDTO evento(Restaurante restaurante) {
+        return new EventoRestauranteDTO(restaurante.getId(), restaurante);
+    }
+
+    static EventoRestauranteDTO remocao(Long restauranteId) {
+        return new EventoRestauranteDTO(restauranteId, null);
+    }
+
+    // Produto null: remoção do produto
+    static EventoCardapioDTO evento(Long produtoId, ProdutoResumoDTO produto) {
+        return new EventoCardapioDTO(produto != null ? produto.restauranteId() : 1L, 1L, produtoId, produto);
+    }
+}
@@ -0,0 +1,74 @@
+package com.deliverytech.delivery_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.deliverytech.delivery_api.entity.Cliente;
+import com.deliverytech.delivery_api.repository.ClienteRepository;
+
+/**
+ * Testes do cache de leitura de ClienteService.buscarPorId.
+ */
+@SpringBootTest
+@DisplayName("Testes do cache do ClienteService")
+class ClienteServiceTest {
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("Deve entregar uma cópia por chamada, que alterada não afeta o cache")
+    void deveEntregarCopiaPorChamada() {
+        Cliente cliente = salvar("cache.copia@email.com");
+
+        Cliente primeira = clienteService.buscarPorId(cliente.getId());
+        primeira.setNome("Alterado pelo Chamador");
+
+        assertThat(clienteService.buscarPorId(cliente.getId()).getNome()).isEqualTo("Cliente Cache");
+    }
+
+    @Test
+    @DisplayName("Deve remover do cache após o commit da atualização e manter quando ela é desfeita")
+    void deveRemoverDoCacheSoAposCommit() {
+        Cliente cliente = salvar("cache.commit@email.com");
+        clienteService.buscarPorId(cliente.getId());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            clienteService.atualizar(cliente.getId(), renomeado(cliente, "Nunca Confirmado"));
+            status.setRollbackOnly();
+        });
+        assertThat(cache().get(cliente.getId())).isNotNull();
+
+        clienteService.atualizar(cliente.getId(), renomeado(cliente, "Cliente Atualizado"));
+        assertThat(cache().get(cliente.getId())).isNull();
+        assertThat(clienteService.buscarPorId(cliente.getId()).getNome()).isEqualTo("Cliente Atualizado");
+    }
+
+    private Cliente salvar(String email) {
+        return clienteRepository.save(new Cliente("Cliente Cache", email, "11990000000", "Rua do Cache, 10"));
+    }
+
+    private Cliente renomeado(Cliente origem, String nome) {
+        return new Cliente(nome, origem.getEmail(), origem.getTelefone(), origem.getEndereco());
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache("clientes");
+    }
+}
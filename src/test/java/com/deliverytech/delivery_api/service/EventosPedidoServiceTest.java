@@ -0,0 +1,134 @@
+package com.deliverytech.delivery_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.IntSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.deliverytech.delivery_api.dto.EventoPedidoDTO;
+import com.deliverytech.delivery_api.entity.Pedido.StatusPedido;
+import com.deliverytech.delivery_api.exception.CapacidadeEsgotadaException;
+import com.deliverytech.delivery_api.service.EventosPedidoService.Canal;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Testes para EventosPedidoService: limite de inscrições, limite de pendentes e limpeza
+ * de conexões encerradas. Os emitters não estão ligados a uma resposta HTTP; um emitter
+ * concluído pelo teste faz o próximo envio falhar, como uma conexão fechada pelo cliente.
+ */
+@DisplayName("Testes do EventosPedidoService")
+class EventosPedidoServiceTest {
+
+    private static final Duration SEM_HEARTBEAT = Duration.ofHours(1);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private EventosPedidoService service;
+
+    @AfterEach
+    void encerrar() {
+        service.encerrar();
+    }
+
+    @Test
+    @DisplayName("Deve recusar inscrições acima do limite e liberar a vaga de uma inscrição encerrada")
+    void deveRecusarInscricoesAcimaDoLimite() throws Exception {
+        service = novoService(2, 256, SEM_HEARTBEAT);
+        SseEmitter primeira = service.inscrever(Canal.PEDIDO, 1L, null);
+        service.inscrever(Canal.CLIENTE, 10L, null);
+
+        assertThatThrownBy(() -> service.inscrever(Canal.RESTAURANTE, 100L, null))
+            .isInstanceOf(CapacidadeEsgotadaException.class);
+        assertThat(service.getInscricoesAtivas()).isEqualTo(2);
+
+        // O evento do pedido 1 encontra a conexão fechada e a inscrição é removida
+        primeira.complete();
+        service.distribuir(evento(1L, 10L, 100L, 1L));
+        aguardar(service::getInscricoesAtivas, 1);
+
+        service.inscrever(Canal.RESTAURANTE, 100L, null);
+        assertThat(service.getInscricoesAtivas()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve desfazer a inscrição quando o estado inicial falha")
+    void deveDesfazerInscricaoQuandoEstadoInicialFalha() {
+        service = novoService(1, 256, SEM_HEARTBEAT);
+
+        assertThatThrownBy(() -> service.inscrever(Canal.PEDIDO, 1L, () -> {
+            throw new IllegalArgumentException("Pedido não encontrado com ID: 1");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(service.getInscricoesAtivas()).isZero();
+        service.inscrever(Canal.PEDIDO, 2L, null);
+        assertThat(service.getInscricoesAtivas()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve encerrar a inscrição que acumula mais pedidos pendentes que o limite")
+    void deveEncerrarInscricaoAcimaDoLimiteDePendentes() {
+        // Com limite zero, o primeiro evento ainda não enviado já excede o limite
+        service = novoService(10, 0, SEM_HEARTBEAT);
+        SseEmitter emitter = service.inscrever(Canal.CLIENTE, 10L, null);
+
+        service.distribuir(evento(1L, 10L, 100L, 1L));
+
+        assertThat(service.getInscricoesAtivas()).isZero();
+        assertThat(meterRegistry.counter("delivery.eventos.desconexoes.atraso").count()).isEqualTo(1.0);
+        // Emitter concluído pelo serviço: o cliente deve reconectar
+        assertThatThrownBy(() -> emitter.send("evento")).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Não deve encerrar a inscrição que envia seus eventos dentro do limite de pendentes")
+    void naoDeveEncerrarInscricaoDentroDoLimite() {
+        service = novoService(10, 256, SEM_HEARTBEAT);
+        service.inscrever(Canal.RESTAURANTE, 100L, null);
+
+        for (long versao = 1; versao <= 100; versao++) {
+            service.distribuir(evento(1L, 10L, 100L, versao));
+        }
+
+        assertThat(service.getInscricoesAtivas()).isEqualTo(1);
+        assertThat(meterRegistry.counter("delivery.eventos.desconexoes.atraso").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve remover pelo heartbeat as conexões encerradas que não recebem eventos")
+    void deveRemoverConexoesEncerradasPeloHeartbeat() throws Exception {
+        service = novoService(10, 256, Duration.ofMillis(20));
+        SseEmitter encerrada = service.inscrever(Canal.PEDIDO, 1L, null);
+        service.inscrever(Canal.PEDIDO, 2L, null);
+
+        encerrada.complete();
+
+        aguardar(service::getInscricoesAtivas, 1);
+    }
+
+    private EventosPedidoService novoService(int maximoInscricoes, int maximoPendentes, Duration heartbeat) {
+        return new EventosPedidoService(maximoInscricoes, maximoPendentes, Duration.ofMinutes(30), heartbeat,
+            meterRegistry);
+    }
+
+    private EventoPedidoDTO evento(Long pedidoId, Long clienteId, Long restauranteId, long versao) {
+        return new EventoPedidoDTO(pedidoId, clienteId, restauranteId, LocalDateTime.now(),
+            new BigDecimal("10.00"), StatusPedido.CONFIRMADO, StatusPedido.PENDENTE, versao, LocalDateTime.now());
+    }
+
+    // Os envios acontecem em threads virtuais: espera o valor por até 5 segundos
+    private void aguardar(IntSupplier valor, int esperado) throws InterruptedException {
+        long limite = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (valor.getAsInt() != esperado && System.nanoTime() < limite) {
+            Thread.sleep(10);
+        }
+        assertThat(valor.getAsInt()).isEqualTo(esperado);
+    }
+}
@@ -0,0 +1,112 @@
+package com.deliverytech.delivery_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.deliverytech.delivery_api.service.HorarioFuncionamento.Periodo;
+
+/**
+ * Testes para HorarioFuncionamento: dias, faixas que dão a volta na semana, intervalos que
+ * passam da meia-noite e textos rejeitados.
+ */
+@DisplayName("Testes do HorarioFuncionamento")
+class HorarioFuncionamentoTest {
+
+    // Segunda-feira
+    private static final LocalDateTime SEGUNDA = LocalDateTime.of(2026, 1, 5, 0, 0);
+
+    @Test
+    @DisplayName("Deve interpretar dias, faixas e vários intervalos por trecho")
+    void deveInterpretarDiasEIntervalos() {
+        HorarioFuncionamento horario = HorarioFuncionamento.interpretar(
+            "seg-sex 11:00-15:00, 18:00-23:00; Sábado,DOMINGO 12:00-16:00");
+
+        assertThat(horario.periodos()).hasSize(12).contains(
+            new Periodo(DayOfWeek.MONDAY, 11 * 60, 15 * 60),
+            new Periodo(DayOfWeek.FRIDAY, 18 * 60, 23 * 60),
+            new Periodo(DayOfWeek.SUNDAY, 12 * 60, 16 * 60));
+        assertThat(horario.abertoEm(SEGUNDA.withHour(11))).isTrue();
+        assertThat(horario.abertoEm(SEGUNDA.withHour(15))).isFalse();
+        assertThat(horario.abertoEm(SEGUNDA.plusDays(5).withHour(18))).isFalse();
+        assertThat(horario.abertoEm(SEGUNDA.plusDays(6).withHour(15).withMinute(59))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve dar a volta na semana em faixas como sex-seg")
+    void deveDarAVoltaNaSemana() {
+        HorarioFuncionamento horario = HorarioFuncionamento.interpretar("sex-seg 10:00-12:00");
+
+        assertThat(horario.periodos()).extracting(Periodo::dia).containsExactlyInAnyOrder(
+            DayOfWeek.FRIDAY, DayOfWeek.SATURDAY, DayOfWeek.SUNDAY, DayOfWeek.MONDAY);
+        assertThat(horario.abertoEm(SEGUNDA.withHour(10))).isTrue();
+        assertThat(horario.abertoEm(SEGUNDA.plusDays(1).withHour(10))).isFalse();
+        assertThat(horario.abertoEm(SEGUNDA.plusDays(4).withHour(11))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve estender até segunda-feira o intervalo de domingo que passa da meia-noite")
+    void deveEstenderDomingoAteSegunda() {
+        HorarioFuncionamento horario = HorarioFuncionamento.interpretar("dom 22:00-03:00");
+
+        assertThat(horario.periodos()).containsExactly(new Periodo(DayOfWeek.SUNDAY, 22 * 60, 27 * 60));
+        assertThat(horario.abertoEm(SEGUNDA.plusDays(6).withHour(21).withMinute(59))).isFalse();
+        assertThat(horario.abertoEm(SEGUNDA.plusDays(6).withHour(23))).isTrue();
+        assertThat(horario.abertoEm(SEGUNDA.withHour(2).withMinute(59))).isTrue();
+        assertThat(horario.abertoEm(SEGUNDA.withHour(3))).isFalse();
+        assertThat(horario.minutos().cardinality()).isEqualTo(5 * 60);
+    }
+
+    @Test
+    @DisplayName("Deve abrir o dia inteiro quando o início é igual ao fim e aceitar 24:00 como fim")
+    void deveAbrirDiaInteiro() {
+        HorarioFuncionamento todoDia = HorarioFuncionamento.interpretar("00:00-00:00");
+        assertThat(todoDia.minutos().cardinality()).isEqualTo(HorarioFuncionamento.MINUTOS_SEMANA);
+
+        HorarioFuncionamento ateMeiaNoite = HorarioFuncionamento.interpretar("qua 18:00-24:00");
+        assertThat(ateMeiaNoite.periodos()).containsExactly(new Periodo(DayOfWeek.WEDNESDAY, 18 * 60, 24 * 60));
+        assertThat(ateMeiaNoite.abertoEm(SEGUNDA.plusDays(2).withHour(23).withMinute(59))).isTrue();
+        assertThat(ateMeiaNoite.abertoEm(SEGUNDA.plusDays(3))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve contar o minuto da semana a partir de segunda-feira às 00:00")
+    void deveCalcularMinutoDaSemana() {
+        assertThat(HorarioFuncionamento.minutoDaSemana(SEGUNDA)).isZero();
+        assertThat(HorarioFuncionamento.minutoDaSemana(SEGUNDA.plusDays(6).withHour(23).withMinute(59)))
+            .isEqualTo(HorarioFuncionamento.MINUTOS_SEMANA - 1);
+    }
+
+    @Test
+    @DisplayName("Deve devolver null para texto vazio")
+    void deveDevolverNullParaTextoVazio() {
+        assertThat(HorarioFuncionamento.interpretar(null)).isNull();
+        assertThat(HorarioFuncionamento.interpretar("  ")).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "24:00-10:00",
+        "11h-23h",
+        "Segunda a Sexta 10:00-12:00",
+        "seg-qua-sex 10:00-12:00",
+        "xyz 10:00-12:00",
+        "10:00-25:00",
+        "10:60-12:00",
+        "10:00-12:00 e 14:00-18:00",
+        "seg 10:00-12:00 fechado"
+    })
+    @DisplayName("Deve rejeitar textos fora do formato")
+    void deveRejeitarTextoInvalido(String texto) {
+        assertThatThrownBy(() -> HorarioFuncionamento.interpretar(texto))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining(texto);
+    }
+}
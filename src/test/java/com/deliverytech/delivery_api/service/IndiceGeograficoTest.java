@@ -0,0 +1,113 @@
+package com.deliverytech.delivery_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.deliverytech.delivery_api.service.IndiceGeografico.Resultado;
+
+/**
+ * Testes para IndiceGeografico: raio confirmado por haversine, ordem e limite, buscas que
+ * cruzam a longitude ±180°, buscas perto dos polos, movimento e remoção de pontos e filtro.
+ */
+@DisplayName("Testes do IndiceGeografico")
+class IndiceGeograficoTest {
+
+    private static final double KM_POR_GRAU = Math.PI * IndiceGeografico.RAIO_TERRA_KM / 180.0;
+
+    private final IndiceGeografico<String> indice = new IndiceGeografico<>(0.05);
+
+    @Test
+    @DisplayName("Deve incluir só os pontos dentro do raio pela distância de haversine")
+    void deveIncluirSoPontosDentroDoRaio() {
+        indice.incluir(1L, 0.05, 0.05, "Dentro");
+        // Dentro do retângulo de 10 km em volta do centro, mas a cerca de 12,6 km
+        indice.incluir(2L, 0.08, 0.08, "Canto");
+        indice.incluir(3L, 0.0, 0.085, "Borda");
+        indice.incluir(4L, 1.0, 1.0, "Longe");
+
+        List<Resultado<String>> resultados = indice.buscar(0.0, 0.0, 10.0, valor -> true, 10);
+
+        assertThat(resultados).extracting(Resultado::valor).containsExactly("Dentro", "Borda");
+        assertThat(resultados.get(0).distanciaKm())
+            .isCloseTo(IndiceGeografico.distanciaKm(0.0, 0.0, 0.05, 0.05), within(1e-9))
+            .isCloseTo(7.86, within(0.01));
+    }
+
+    @Test
+    @DisplayName("Deve ordenar do mais próximo para o mais distante e respeitar o limite")
+    void deveOrdenarERespeitarLimite() {
+        // Um ponto por km a leste do centro, em células diferentes
+        for (int km = 5; km >= 1; km--) {
+            indice.incluir((long) km, 0.0, km / KM_POR_GRAU, km + " km");
+        }
+
+        assertThat(indice.buscar(0.0, 0.0, 10.0, valor -> true, 3))
+            .extracting(Resultado::valor).containsExactly("1 km", "2 km", "3 km");
+        assertThat(indice.buscar(0.0, 0.0, 10.0, valor -> true, 10))
+            .extracting(Resultado::distanciaKm)
+            .allSatisfy(distancia -> assertThat(distancia).isLessThanOrEqualTo(5.0 + 1e-9))
+            .isSorted();
+    }
+
+    @Test
+    @DisplayName("Deve encontrar pontos do outro lado da longitude ±180°")
+    void deveCruzarAntimeridiano() {
+        indice.incluir(1L, 10.0, 179.99, "Leste");
+        indice.incluir(2L, 10.0, -179.99, "Oeste");
+        indice.incluir(3L, 10.0, 0.0, "Greenwich");
+
+        List<Resultado<String>> aPartirDoLeste = indice.buscar(10.0, 179.995, 5.0, valor -> true, 10);
+        List<Resultado<String>> aPartirDoOeste = indice.buscar(10.0, -179.995, 5.0, valor -> true, 10);
+
+        assertThat(aPartirDoLeste).extracting(Resultado::valor).containsExactly("Leste", "Oeste");
+        assertThat(aPartirDoOeste).extracting(Resultado::valor).containsExactly("Oeste", "Leste");
+        assertThat(aPartirDoLeste.get(1).distanciaKm()).isCloseTo(1.64, within(0.01));
+    }
+
+    @Test
+    @DisplayName("Deve percorrer todas as longitudes em buscas perto dos polos")
+    void deveBuscarPertoDosPolos() {
+        indice.incluir(1L, 89.99, 90.0, "Norte 90");
+        indice.incluir(2L, 89.99, 180.0, "Norte 180");
+        indice.incluir(3L, -89.99, -120.0, "Sul");
+
+        assertThat(indice.buscar(89.99, 0.0, 5.0, valor -> true, 10))
+            .extracting(Resultado::valor).containsExactly("Norte 90", "Norte 180");
+        assertThat(indice.buscar(-89.99, 60.0, 5.0, valor -> true, 10))
+            .extracting(Resultado::valor).containsExactly("Sul");
+    }
+
+    @Test
+    @DisplayName("Deve mover o ponto para a nova célula e removê-lo")
+    void deveMoverERemoverPonto() {
+        indice.incluir(1L, -23.55, -46.63, "Pizza Mania");
+        indice.incluir(1L, -22.90, -43.17, "Pizza Mania Rio");
+
+        assertThat(indice.buscar(-23.55, -46.63, 5.0, valor -> true, 10)).isEmpty();
+        assertThat(indice.buscar(-22.90, -43.17, 5.0, valor -> true, 10))
+            .extracting(Resultado::valor).containsExactly("Pizza Mania Rio");
+        assertThat(indice.tamanho()).isEqualTo(1);
+
+        indice.remover(1L);
+        indice.remover(1L);
+
+        assertThat(indice.buscar(-22.90, -43.17, 5.0, valor -> true, 10)).isEmpty();
+        assertThat(indice.tamanho()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve aplicar o filtro antes do limite")
+    void deveAplicarFiltro() {
+        indice.incluir(1L, 0.0, 0.001, "italiana perto");
+        indice.incluir(2L, 0.0, 0.002, "japonesa");
+        indice.incluir(3L, 0.0, 0.003, "italiana longe");
+
+        assertThat(indice.buscar(0.0, 0.0, 1.0, valor -> valor.startsWith("italiana"), 2))
+            .extracting(Resultado::valor).containsExactly("italiana perto", "italiana longe");
+    }
+}
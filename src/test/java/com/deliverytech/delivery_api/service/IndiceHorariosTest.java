@@ -0,0 +1,122 @@
+package com.deliverytech.delivery_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes para IndiceHorarios: inclusão, substituição e remoção, junção de trechos com os
+ * mesmos bits e filtro por categoria.
+ */
+@DisplayName("Testes do IndiceHorarios")
+class IndiceHorariosTest {
+
+    // Segunda-feira
+    private static final LocalDateTime SEGUNDA = LocalDateTime.of(2026, 1, 5, 0, 0);
+
+    private final IndiceHorarios<String> indice = new IndiceHorarios<>();
+
+    @Test
+    @DisplayName("Deve encontrar os valores abertos em cada minuto da semana")
+    void deveBuscarPorMinuto() {
+        indice.incluir(1L, horario("seg-sex 11:00-15:00"), "italiana", "Pizza Mania");
+        indice.incluir(2L, horario("dom 22:00-03:00"), "lanches", "Burger King");
+        indice.incluir(3L, horario("00:00-00:00"), "lanches", "Lanchonete 24h");
+
+        assertThat(indice.buscar(minuto(0, 11, 0), null)).containsExactly("Pizza Mania", "Lanchonete 24h");
+        assertThat(indice.buscar(minuto(0, 15, 0), null)).containsExactly("Lanchonete 24h");
+        assertThat(indice.buscar(minuto(0, 2, 59), null)).containsExactly("Burger King", "Lanchonete 24h");
+        assertThat(indice.buscar(minuto(6, 23, 0), null)).containsExactly("Burger King", "Lanchonete 24h");
+        assertThat(indice.buscar(minuto(5, 11, 0), null)).containsExactly("Lanchonete 24h");
+        assertThat(indice.tamanho()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Deve substituir horário, categoria e valor de um ID já indexado")
+    void deveSubstituirRegistro() {
+        indice.incluir(1L, horario("seg 11:00-15:00"), "italiana", "Pizza Mania");
+        indice.incluir(1L, horario("seg 14:00-18:00"), "pizzaria", "Pizza Mania Express");
+
+        assertThat(indice.buscar(minuto(0, 11, 0), null)).isEmpty();
+        assertThat(indice.buscar(minuto(0, 14, 30), null)).containsExactly("Pizza Mania Express");
+        assertThat(indice.buscar(minuto(0, 17, 59), null)).containsExactly("Pizza Mania Express");
+        assertThat(indice.buscar(minuto(0, 14, 30), "italiana")).isEmpty();
+        assertThat(indice.buscar(minuto(0, 14, 30), "pizzaria")).containsExactly("Pizza Mania Express");
+        assertThat(indice.tamanho()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve remover o valor e reaproveitar a sua posição")
+    void deveRemoverEReaproveitarPosicao() {
+        indice.incluir(1L, horario("seg 11:00-15:00"), "italiana", "Pizza Mania");
+        indice.incluir(2L, horario("seg 12:00-14:00"), "japonesa", "Sushi House");
+
+        indice.remover(1L);
+        indice.remover(1L);
+        assertThat(indice.buscar(minuto(0, 12, 0), null)).containsExactly("Sushi House");
+        assertThat(indice.buscar(minuto(0, 12, 0), "italiana")).isEmpty();
+        assertThat(indice.tamanho()).isEqualTo(1);
+
+        // A posição liberada não leva horário nem categoria do valor removido
+        indice.incluir(3L, horario("ter 11:00-15:00"), "lanches", "Burger King");
+        assertThat(indice.buscar(minuto(0, 11, 0), null)).isEmpty();
+        assertThat(indice.buscar(minuto(1, 11, 0), "lanches")).containsExactly("Burger King");
+        assertThat(indice.tamanho()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve guardar um trecho por abertura ou fechamento e juntar trechos com os mesmos bits")
+    void deveJuntarTrechos() {
+        assertThat(indice.trechos()).isEqualTo(1);
+
+        indice.incluir(1L, horario("seg 11:00-15:00"), "italiana", "Pizza Mania");
+        assertThat(indice.trechos()).isEqualTo(3);
+
+        // Abre e fecha nos mesmos minutos: nenhum trecho novo
+        indice.incluir(2L, horario("seg 11:00-15:00"), "japonesa", "Sushi House");
+        assertThat(indice.trechos()).isEqualTo(3);
+
+        // Intervalos encostados formam um único trecho aberto
+        indice.incluir(3L, horario("seg 11:00-12:00, 12:00-15:00"), "lanches", "Burger King");
+        assertThat(indice.trechos()).isEqualTo(3);
+
+        indice.incluir(4L, horario("seg 13:00-14:00"), "lanches", "Lanchonete");
+        assertThat(indice.trechos()).isEqualTo(5);
+        indice.remover(4L);
+        assertThat(indice.trechos()).isEqualTo(3);
+
+        indice.remover(1L);
+        indice.remover(2L);
+        indice.remover(3L);
+        assertThat(indice.trechos()).isEqualTo(1);
+        assertThat(indice.buscar(minuto(0, 12, 0), null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve filtrar pela categoria e ignorar categorias sem valores")
+    void deveFiltrarPorCategoria() {
+        indice.incluir(1L, horario("18:00-23:00"), "italiana", "Pizza Mania");
+        indice.incluir(2L, horario("18:00-23:00"), "japonesa", "Sushi House");
+        indice.incluir(3L, horario("11:00-15:00"), "italiana", "Cantina da Nonna");
+
+        assertThat(indice.buscar(minuto(2, 19, 0), "italiana")).containsExactly("Pizza Mania");
+        assertThat(indice.buscar(minuto(2, 12, 0), "italiana")).containsExactly("Cantina da Nonna");
+        assertThat(indice.buscar(minuto(2, 19, 0), "japonesa")).containsExactly("Sushi House");
+        assertThat(indice.buscar(minuto(2, 19, 0), "mexicana")).isEmpty();
+
+        indice.remover(2L);
+        assertThat(indice.buscar(minuto(2, 19, 0), "japonesa")).isEmpty();
+    }
+
+    private static HorarioFuncionamento horario(String texto) {
+        return HorarioFuncionamento.interpretar(texto);
+    }
+
+    // Dia 0 é segunda-feira
+    private static int minuto(int dia, int hora, int minuto) {
+        return HorarioFuncionamento.minutoDaSemana(SEGUNDA.plusDays(dia).withHour(hora).withMinute(minuto));
+    }
+}
@@ -0,0 +1,87 @@
+package com.deliverytech.delivery_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes para IndiceTexto: normalização, prefixos, relevância e remoção de documentos.
+ */
+@DisplayName("Testes do IndiceTexto")
+class IndiceTextoTest {
+
+    // Pesos: nome, descrição
+    private final IndiceTexto<String> indice = new IndiceTexto<>(3.0, 1.0);
+
+    @BeforeEach
+    void setUp() {
+        indice.indexar(1L, "Pizzas à Moda", "Pizzas à Moda da Casa", "Molho de tomate e manjericão");
+        indice.indexar(2L, "Açaí", "Açaí na Tigela", "Com granola e banana");
+        indice.indexar(3L, "Combo Burger", "Combo Burger", "Hambúrguer com batata");
+        indice.indexar(4L, "Calzone", "Calzone", "Massa de pizza recheada");
+    }
+
+    @Test
+    @DisplayName("Deve normalizar acentos, maiúsculas, plural e palavras vazias")
+    void deveNormalizarTermos() {
+        assertThat(IndiceTexto.termos("Pizzas à Moda da Casa")).containsExactly("pizza", "moda", "casa");
+        assertThat(IndiceTexto.termos("AÇAÍ, na tigela!")).containsExactly("acai", "tigela");
+        assertThat(IndiceTexto.normalizar("  Pão-de-Queijo ")).isEqualTo("pao de queijo");
+
+        assertThat(indice.buscar("pizza moda", 10)).containsExactly("Pizzas à Moda");
+        assertThat(indice.buscar("acai", 10)).containsExactly("Açaí");
+        assertThat(indice.buscar("HAMBURGUERES", 10)).isEmpty();
+        assertThat(indice.buscar("hamburguer", 10)).containsExactly("Combo Burger");
+    }
+
+    @Test
+    @DisplayName("Deve encontrar por prefixo a partir de dois caracteres e exigir todos os termos")
+    void deveEncontrarPorPrefixo() {
+        assertThat(indice.buscar("piz", 10)).containsExactly("Pizzas à Moda", "Calzone");
+        assertThat(indice.buscar("p", 10)).isEmpty();
+        assertThat(indice.buscar("pizza manj", 10)).containsExactly("Pizzas à Moda");
+        assertThat(indice.buscar("pizza granola", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve ordenar pelo peso do campo e preferir a palavra inteira ao prefixo")
+    void deveOrdenarPorRelevancia() {
+        // "pizza" no nome (peso 3) vence "pizza" na descrição (peso 1)
+        assertThat(indice.buscar("pizza", 10)).containsExactly("Pizzas à Moda", "Calzone");
+
+        indice.indexar(5L, "Pizzaria", "Pizzaria Bella", null);
+        indice.indexar(6L, "Pizza", "Pizza", null);
+        // Palavra inteira no nome, depois prefixo no nome, depois palavra inteira na descrição
+        assertThat(indice.buscar("pizza", 10)).containsExactly("Pizzas à Moda", "Pizza", "Pizzaria", "Calzone");
+        assertThat(indice.buscar("pizza", 2)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Deve manter a última palavra vazia da consulta como prefixo")
+    void deveManterUltimaPalavraVaziaComoPrefixo() {
+        assertThat(indice.buscar("com", 10)).containsExactly("Combo Burger");
+        assertThat(indice.buscar("do", 10)).isEmpty();
+        // Junto de outros termos, o prefixo não exclui documentos
+        assertThat(indice.buscar("burger com", 10)).containsExactly("Combo Burger");
+        assertThat(indice.buscar("pizza com", 10)).containsExactly("Pizzas à Moda", "Calzone");
+        // No meio da consulta, continua sendo ignorada
+        assertThat(indice.buscar("com tigela", 10)).containsExactly("Açaí");
+    }
+
+    @Test
+    @DisplayName("Deve remover documentos e os termos que saíram de um documento substituído")
+    void deveRemoverESubstituirDocumentos() {
+        indice.remover(2L);
+        indice.indexar(4L, "Calzone Especial", "Calzone Especial", "Recheio de queijo");
+
+        assertThat(indice.buscar("acai", 10)).isEmpty();
+        assertThat(indice.buscar("pizza", 10)).containsExactly("Pizzas à Moda");
+        assertThat(indice.buscar("especial queijo", 10)).containsExactly("Calzone Especial");
+        assertThat(indice.tamanho()).isEqualTo(3);
+
+        indice.remover(2L);
+        assertThat(indice.tamanho()).isEqualTo(3);
+    }
+}
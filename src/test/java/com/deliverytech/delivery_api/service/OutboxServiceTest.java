@@ -0,0 +1,76 @@
+package com.deliverytech.delivery_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.IllegalTransactionStateException;
+
+import com.deliverytech.delivery_api.entity.Cliente;
+import com.deliverytech.delivery_api.entity.EventoOutbox;
+import com.deliverytech.delivery_api.entity.Pedido;
+import com.deliverytech.delivery_api.entity.Pedido.StatusPedido;
+import com.deliverytech.delivery_api.entity.Restaurante;
+import com.deliverytech.delivery_api.repository.ClienteRepository;
+import com.deliverytech.delivery_api.repository.EventoOutboxRepository;
+import com.deliverytech.delivery_api.repository.RestauranteRepository;
+
+/**
+ * Testes para OutboxService: um evento por mudança confirmada do pedido, gravado na
+ * transação da própria mudança.
+ */
+@SpringBootTest
+@DisplayName("Testes do OutboxService")
+class OutboxServiceTest {
+
+    @Autowired
+    private PedidoService pedidoService;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private EventoOutboxRepository eventoOutboxRepository;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private RestauranteRepository restauranteRepository;
+
+    @Test
+    @DisplayName("Deve gravar um evento por criação, mudança de status e cancelamento")
+    void deveGravarEventoPorMudanca() {
+        Restaurante restaurante = restauranteRepository.save(
+            new Restaurante("Outbox Eventos", "Italiana", "Rua 3, 300", "11993333333"));
+        Cliente cliente = clienteRepository.save(
+            new Cliente("Lia Outbox", "lia.outbox@email.com", "11966666666", "Rua D, 10"));
+
+        Pedido pedido = pedidoService.criar(new Pedido(null, null, new BigDecimal("20.00"), "Rua D, 10"),
+            cliente.getId(), restaurante.getId());
+        pedidoService.atualizarStatus(pedido.getId(), StatusPedido.CONFIRMADO);
+        pedidoService.cancelar(pedido.getId());
+
+        List<EventoOutbox> eventos = eventoOutboxRepository.findAll().stream()
+            .filter(evento -> evento.getPedidoId().equals(pedido.getId()))
+            .sorted(Comparator.comparing(EventoOutbox::getId))
+            .toList();
+        assertThat(eventos).extracting(EventoOutbox::getTipo).containsExactly(
+            EventoOutbox.PEDIDO_CRIADO, EventoOutbox.STATUS_ALTERADO, EventoOutbox.PEDIDO_CANCELADO);
+        assertThat(eventos.get(1).getPayload()).contains("\"status\":\"CONFIRMADO\"", "\"statusAnterior\":\"PENDENTE\"");
+    }
+
+    @Test
+    @DisplayName("Deve exigir a transação da mudança para gravar o evento")
+    void deveExigirTransacao() {
+        assertThatThrownBy(() -> outboxService.registrar(null))
+            .isInstanceOf(IllegalTransactionStateException.class);
+    }
+}
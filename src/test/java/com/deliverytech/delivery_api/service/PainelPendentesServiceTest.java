@@ -0,0 +1,144 @@
+package com.deliverytech.delivery_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.deliverytech.delivery_api.dto.EventoPedidoDTO;
+import com.deliverytech.delivery_api.dto.PaginaDTO;
+import com.deliverytech.delivery_api.dto.PedidoPainelDTO;
+import com.deliverytech.delivery_api.dto.PedidoResumoDTO;
+import com.deliverytech.delivery_api.entity.Cliente;
+import com.deliverytech.delivery_api.entity.Pedido.StatusPedido;
+import com.deliverytech.delivery_api.entity.Restaurante;
+import com.deliverytech.delivery_api.repository.PedidoRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Testes para PainelPendentesService: ordem das páginas, revisão usada como ETag e
+ * aplicação dos eventos de pedidos (inclusive fora de ordem).
+ */
+@DisplayName("Testes do PainelPendentesService")
+class PainelPendentesServiceTest {
+
+    private static final LocalDateTime INICIO = LocalDateTime.of(2026, 1, 10, 12, 0);
+    private static final long RESTAURANTE_1 = 1L;
+    private static final long RESTAURANTE_2 = 2L;
+
+    private final PedidoRepository pedidoRepository = mock(PedidoRepository.class);
+    private PainelPendentesService service;
+
+    @BeforeEach
+    void setUp() {
+        ClienteService clienteService = mock(ClienteService.class);
+        RestauranteService restauranteService = mock(RestauranteService.class);
+        when(clienteService.buscarPorId(anyLong()))
+            .thenReturn(new Cliente("João Silva", "joao@email.com", "11999999999", "Rua A, 123"));
+        when(restauranteService.buscarPorId(anyLong()))
+            .thenReturn(new Restaurante("Pizza Mania", "Italiana", "Rua das Pizzas, 100", "11333333333"));
+        service = new PainelPendentesService(pedidoRepository, clienteService, restauranteService,
+            new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Deve paginar do pedido mais antigo para o mais recente, desempatando pelo ID")
+    void devePaginarDoMaisAntigoParaOMaisRecente() {
+        service.atualizar(evento(30L, RESTAURANTE_1, 2, StatusPedido.PENDENTE, 0));
+        service.atualizar(evento(10L, RESTAURANTE_1, 0, StatusPedido.PENDENTE, 0));
+        service.atualizar(evento(21L, RESTAURANTE_2, 1, StatusPedido.CONFIRMADO, 1));
+        service.atualizar(evento(20L, RESTAURANTE_1, 1, StatusPedido.PENDENTE, 0));
+
+        PaginaDTO<PedidoResumoDTO> primeira = service.listar(null, null, null, 2);
+        PaginaDTO<PedidoResumoDTO> segunda = service.listar(null, null, primeira.proximoCursor(), 2);
+
+        assertThat(primeira.itens()).extracting(PedidoResumoDTO::id).containsExactly(10L, 20L);
+        assertThat(segunda.itens()).extracting(PedidoResumoDTO::id).containsExactly(21L, 30L);
+        assertThat(segunda.proximoCursor()).isNull();
+        assertThat(service.listar(RESTAURANTE_1, StatusPedido.PENDENTE, null, 10).itens())
+            .extracting(PedidoResumoDTO::id).containsExactly(10L, 20L, 30L);
+        assertThat(service.listar(null, StatusPedido.CONFIRMADO, null, 10).itens())
+            .extracting(PedidoResumoDTO::id).containsExactly(21L);
+    }
+
+    @Test
+    @DisplayName("Deve mudar o ETag só dos filtros atingidos pela alteração")
+    void deveMudarEtagSoDosFiltrosAtingidos() {
+        service.atualizar(evento(10L, RESTAURANTE_1, 0, StatusPedido.PENDENTE, 0));
+        service.atualizar(evento(20L, RESTAURANTE_2, 1, StatusPedido.PENDENTE, 0));
+        String geral = service.etag(null, null);
+        String restaurante2 = service.etag(RESTAURANTE_2, null);
+        String confirmados = service.etag(null, StatusPedido.CONFIRMADO);
+
+        service.atualizar(evento(10L, RESTAURANTE_1, 0, StatusPedido.CONFIRMADO, 1));
+
+        assertThat(service.etag(null, null)).isNotEqualTo(geral);
+        assertThat(service.etag(null, StatusPedido.CONFIRMADO)).isNotEqualTo(confirmados);
+        assertThat(service.etag(RESTAURANTE_2, null)).isEqualTo(restaurante2);
+
+        // Evento repetido não altera o painel nem o ETag
+        String depois = service.etag(null, null);
+        service.atualizar(evento(10L, RESTAURANTE_1, 0, StatusPedido.CONFIRMADO, 1));
+        assertThat(service.etag(null, null)).isEqualTo(depois);
+    }
+
+    @Test
+    @DisplayName("Deve aplicar mudanças de status e descartar eventos mais antigos que a versão aplicada")
+    void deveDescartarEventosMaisAntigos() {
+        service.atualizar(evento(10L, RESTAURANTE_1, 0, StatusPedido.EM_PREPARACAO, 2));
+        service.atualizar(evento(10L, RESTAURANTE_1, 0, StatusPedido.CONFIRMADO, 1));
+
+        assertThat(service.listar(null, StatusPedido.EM_PREPARACAO, null, 10).itens())
+            .extracting(PedidoResumoDTO::id).containsExactly(10L);
+        assertThat(service.listar(null, StatusPedido.CONFIRMADO, null, 10).itens()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve remover o pedido finalizado e não trazê-lo de volta com um evento atrasado")
+    void deveRemoverPedidoFinalizado() {
+        service.atualizar(evento(10L, RESTAURANTE_1, 0, StatusPedido.SAIU_PARA_ENTREGA, 3));
+        service.atualizar(evento(10L, RESTAURANTE_1, 0, StatusPedido.ENTREGUE, 4));
+        service.atualizar(evento(10L, RESTAURANTE_1, 0, StatusPedido.SAIU_PARA_ENTREGA, 3));
+
+        assertThat(service.listar(null, null, null, 10).itens()).isEmpty();
+        assertThat(service.listar(RESTAURANTE_1, null, null, 10).itens()).isEmpty();
+        assertThat(service.listar(null, StatusPedido.ENTREGUE, null, 10).itens()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve carregar do banco sem sobrescrever pedidos com versão mais recente")
+    void deveCarregarSemSobrescreverVersaoMaisRecente() {
+        service.atualizar(evento(10L, RESTAURANTE_1, 0, StatusPedido.CONFIRMADO, 1));
+        when(pedidoRepository.findPainelPendentes()).thenReturn(List.of(
+            painel(10L, 0, StatusPedido.PENDENTE, 0),
+            painel(20L, 1, StatusPedido.PENDENTE, 0)));
+
+        service.carregar();
+
+        assertThat(service.listar(null, null, null, 10).itens())
+            .extracting(PedidoResumoDTO::id, PedidoResumoDTO::status)
+            .containsExactly(
+                tuple(10L, StatusPedido.CONFIRMADO),
+                tuple(20L, StatusPedido.PENDENTE));
+    }
+
+    private EventoPedidoDTO evento(Long pedidoId, Long restauranteId, int minutos, StatusPedido status, long versao) {
+        return new EventoPedidoDTO(pedidoId, 1L, restauranteId, INICIO.plusMinutes(minutos),
+            new BigDecimal("50.00"), status, null, versao, LocalDateTime.now());
+    }
+
+    private PedidoPainelDTO painel(Long pedidoId, int minutos, StatusPedido status, long versao) {
+        return new PedidoPainelDTO(pedidoId, INICIO.plusMinutes(minutos), status, new BigDecimal("50.00"),
+            1L, "João Silva", RESTAURANTE_1, "Pizza Mania", versao);
+    }
+}
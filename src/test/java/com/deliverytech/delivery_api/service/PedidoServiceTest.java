@@ -0,0 +1,179 @@
+package com.deliverytech.delivery_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import com.deliverytech.delivery_api.dto.EventoPedidoDTO;
+import com.deliverytech.delivery_api.dto.PedidoDTO;
+import com.deliverytech.delivery_api.dto.ResultadoLoteDTO;
+import com.deliverytech.delivery_api.dto.ResultadoTransicaoLoteDTO;
+import com.deliverytech.delivery_api.entity.Cliente;
+import com.deliverytech.delivery_api.entity.Pedido;
+import com.deliverytech.delivery_api.entity.Pedido.StatusPedido;
+import com.deliverytech.delivery_api.entity.Restaurante;
+import com.deliverytech.delivery_api.repository.ClienteRepository;
+import com.deliverytech.delivery_api.repository.RestauranteRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Testes para PedidoService.criarEmLote (resultado por item, falhas parciais e INSERTs em lote)
+ * e atualizarStatusEmLote.
+ */
+@SpringBootTest
+@RecordApplicationEvents
+@DisplayName("Testes do PedidoService")
+class PedidoServiceTest {
+
+    private static final long INEXISTENTE = 999_999L;
+
+    @Autowired
+    private PedidoService pedidoService;
+
+    @Autowired
+    private AgregadoPedidoService agregadoPedidoService;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private RestauranteRepository restauranteRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ApplicationEvents eventos;
+
+    @Test
+    @DisplayName("Deve criar os itens válidos e rejeitar os inválidos com o motivo de cada um")
+    void deveCriarValidosERejeitarInvalidos() {
+        Restaurante restaurante = restauranteRepository.save(
+            new Restaurante("Lote Parcial", "Italiana", "Rua 1, 100", "11991111111"));
+        Cliente cliente = clienteRepository.save(
+            new Cliente("Maria Lote", "maria.lote@email.com", "11999999999", "Rua A, 123"));
+
+        List<ResultadoLoteDTO> resultados = pedidoService.criarEmLote(Arrays.asList(
+            item(cliente.getId(), restaurante.getId(), "25.00"),
+            null,
+            item(cliente.getId(), restaurante.getId(), null),
+            item(INEXISTENTE, restaurante.getId(), "10.00"),
+            item(cliente.getId(), INEXISTENTE, "10.00"),
+            item(cliente.getId(), restaurante.getId(), "15.00")
+        ));
+
+        assertThat(resultados).extracting(ResultadoLoteDTO::indice).containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(resultados).extracting(ResultadoLoteDTO::erro).containsExactly(
+            null,
+            "Pedido não informado",
+            "valorTotal: Valor total é obrigatório",
+            "Cliente não encontrado com ID: " + INEXISTENTE,
+            "Restaurante não encontrado com ID: " + INEXISTENTE,
+            null);
+        assertThat(resultados.get(0).pedidoId()).isNotNull();
+        assertThat(resultados.get(5).pedidoId()).isNotNull();
+        assertThat(resultados.subList(1, 5)).allSatisfy(resultado -> assertThat(resultado.pedidoId()).isNull());
+
+        assertThat(pedidoService.buscarPorId(resultados.get(0).pedidoId()).getStatus()).isEqualTo(StatusPedido.PENDENTE);
+        assertThat(agregadoPedidoService.buscarResumoRestaurante(restaurante.getId()).valorTotal())
+            .isEqualByComparingTo("40.00");
+    }
+
+    @Test
+    @DisplayName("Deve gravar os pedidos do lote em lotes JDBC, sem um INSERT por pedido")
+    void deveGravarEmLotesJdbc() {
+        Restaurante restaurante = restauranteRepository.save(
+            new Restaurante("Lote Grande", "Japonesa", "Rua 2, 200", "11992222222"));
+        Cliente cliente1 = clienteRepository.save(
+            new Cliente("José Lote", "jose.lote@email.com", "11988888888", "Rua B, 456"));
+        Cliente cliente2 = clienteRepository.save(
+            new Cliente("Ana Lote", "ana.lote@email.com", "11977777777", "Rua C, 789"));
+
+        List<PedidoDTO> itens = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            itens.add(item((i % 2 == 0 ? cliente1 : cliente2).getId(), restaurante.getId(), "10.00"));
+        }
+
+        Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+        estatisticas.setStatisticsEnabled(true);
+        List<ResultadoLoteDTO> resultados;
+        try {
+            resultados = pedidoService.criarEmLote(itens);
+        } finally {
+            estatisticas.setStatisticsEnabled(false);
+        }
+
+        assertThat(resultados).allSatisfy(resultado -> assertThat(resultado.erro()).isNull());
+        assertThat(estatisticas.getEntityInsertCount()).isGreaterThanOrEqualTo(120);
+        // Pedidos, outbox e agregados: poucas instruções por lote de 50, não uma por pedido
+        assertThat(estatisticas.getPrepareStatementCount()).isLessThan(30);
+        assertThat(agregadoPedidoService.buscarResumoRestaurante(restaurante.getId()).quantidadePedidos())
+            .isEqualTo(120);
+        assertThat(agregadoPedidoService.buscarResumoCliente(cliente1.getId()).quantidadePedidos()).isEqualTo(60);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar lote acima do tamanho máximo sem criar pedidos")
+    void deveRejeitarLoteAcimaDoMaximo() {
+        List<PedidoDTO> itens = Collections.nCopies(PedidoService.TAMANHO_LOTE_CRIACAO_MAXIMO + 1,
+            item(INEXISTENTE, INEXISTENTE, "10.00"));
+
+        assertThatThrownBy(() -> pedidoService.criarEmLote(itens))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining(String.valueOf(PedidoService.TAMANHO_LOTE_CRIACAO_MAXIMO));
+    }
+
+    @Test
+    @DisplayName("Deve publicar eventos e somar agregados com os pedidos relidos após o UPDATE em lote")
+    void devePublicarPedidosRelidosAposTransicaoEmLote() {
+        Restaurante restaurante = restauranteRepository.save(
+            new Restaurante("Lote Status", "Italiana", "Rua 3, 300", "11993333333"));
+        Cliente cliente = clienteRepository.save(
+            new Cliente("Lia Lote", "lia.lote@email.com", "11966666666", "Rua D, 10"));
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            Long id = pedidoService.criar(new Pedido(null, null, new BigDecimal("10.00"), "Rua D, 10"),
+                cliente.getId(), restaurante.getId()).getId();
+            pedidoService.atualizarStatus(id, StatusPedido.CONFIRMADO);
+            pedidoService.atualizarStatus(id, StatusPedido.EM_PREPARACAO);
+            pedidoService.atualizarStatus(id, StatusPedido.SAIU_PARA_ENTREGA);
+            ids.add(id);
+        }
+        eventos.clear();
+
+        ResultadoTransicaoLoteDTO resultado = pedidoService.atualizarStatusEmLote(
+            List.of(ids.get(1), ids.get(0), INEXISTENTE), StatusPedido.ENTREGUE);
+
+        assertThat(resultado.atualizados()).containsExactly(ids.get(0), ids.get(1));
+        assertThat(resultado.ignorados()).containsExactly(INEXISTENTE);
+        assertThat(pedidoService.buscarPorId(ids.get(0)).getDataEntrega()).isNotNull();
+        assertThat(eventos.stream(EventoPedidoDTO.class)).allSatisfy(evento -> {
+            assertThat(evento.status()).isEqualTo(StatusPedido.ENTREGUE);
+            assertThat(evento.statusAnterior()).isEqualTo(StatusPedido.SAIU_PARA_ENTREGA);
+            assertThat(evento.versao()).isEqualTo(pedidoService.buscarPorId(evento.pedidoId()).getVersao());
+        }).extracting(EventoPedidoDTO::pedidoId).containsExactlyElementsOf(ids);
+        assertThat(agregadoPedidoService.buscarResumoRestaurante(restaurante.getId()).quantidadePorStatus())
+            .containsEntry(StatusPedido.ENTREGUE, 2L).containsEntry(StatusPedido.SAIU_PARA_ENTREGA, 0L);
+    }
+
+    private PedidoDTO item(Long clienteId, Long restauranteId, String valorTotal) {
+        return new PedidoDTO(null, clienteId, restauranteId, null, null,
+            valorTotal != null ? new BigDecimal(valorTotal) : null, null, "Rua A, 123", null, null, null);
+    }
+}
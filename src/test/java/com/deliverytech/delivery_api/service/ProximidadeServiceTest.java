@@ -0,0 +1,94 @@
+package com.deliverytech.delivery_api.service;
+
+import static com.deliverytech.delivery_api.service.CatalogoTeste.evento;
+import static com.deliverytech.delivery_api.service.CatalogoTeste.inativo;
+import static com.deliverytech.delivery_api.service.CatalogoTeste.localizado;
+import static com.deliverytech.delivery_api.service.CatalogoTeste.remocao;
+import static com.deliverytech.delivery_api.service.CatalogoTeste.restaurante;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import com.deliverytech.delivery_api.dto.RestauranteProximoDTO;
+import com.deliverytech.delivery_api.exception.GlobalExceptionHandler;
+import com.deliverytech.delivery_api.repository.RestauranteRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Testes para ProximidadeService: validação de coordenadas e raio, filtros e manutenção do
+ * índice pelos eventos de restaurantes.
+ */
+@DisplayName("Testes do ProximidadeService")
+class ProximidadeServiceTest {
+
+    private static final double LATITUDE = -23.5505;
+    private static final double LONGITUDE = -46.6333;
+
+    private final RestauranteRepository restauranteRepository = mock(RestauranteRepository.class);
+    private ProximidadeService service;
+
+    @BeforeEach
+    void setUp() {
+        when(restauranteRepository.findAll()).thenReturn(List.of(
+            localizado(restaurante(1L, "Pizza Mania", "Italiana", 4.5), LATITUDE, LONGITUDE + 0.01),
+            localizado(restaurante(2L, "Sushi House", "Japonesa", 4.8), LATITUDE, LONGITUDE + 0.02),
+            localizado(restaurante(3L, "Sem Coordenadas", "Italiana", 5.0), null, null)));
+        service = new ProximidadeService(restauranteRepository, new SimpleMeterRegistry(), 0.05);
+        service.carregar();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar coordenadas e raios inválidos com IllegalStateException (400)")
+    void deveRejeitarCoordenadasERaioInvalidos() {
+        assertThatThrownBy(() -> service.buscar(90.1, LONGITUDE, null, null, null, null))
+            .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> service.buscar(LATITUDE, -180.1, null, null, null, null))
+            .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> service.buscar(LATITUDE, LONGITUDE, 0.0, null, null, null))
+            .isInstanceOf(IllegalStateException.class);
+        IllegalStateException erro = assertThrows(IllegalStateException.class,
+            () -> service.buscar(LATITUDE, LONGITUDE, ProximidadeService.RAIO_MAXIMO_KM + 0.1, null, null, null));
+        assertThat(new GlobalExceptionHandler().handleIllegalState(erro).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+
+        assertThat(service.buscar(90.0, 180.0, ProximidadeService.RAIO_MAXIMO_KM, null, null, null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve buscar no raio padrão com filtros de categoria e avaliação")
+    void deveBuscarComFiltros() {
+        assertThat(service.buscar(LATITUDE, LONGITUDE, null, null, null, null))
+            .extracting(RestauranteProximoDTO::id).containsExactly(1L, 2L);
+        assertThat(service.buscar(LATITUDE, LONGITUDE, null, "italiana", null, null))
+            .extracting(RestauranteProximoDTO::id).containsExactly(1L);
+        assertThat(service.buscar(LATITUDE, LONGITUDE, null, null, 4.6, null))
+            .extracting(RestauranteProximoDTO::id).containsExactly(2L);
+        assertThat(service.buscar(LATITUDE, LONGITUDE, null, null, null, 1))
+            .extracting(RestauranteProximoDTO::distanciaKm).containsExactly(1.019);
+    }
+
+    @Test
+    @DisplayName("Deve retirar do índice restaurantes desativados, sem coordenadas ou removidos")
+    void deveRetirarDoIndicePorEvento() {
+        service.atualizar(evento(inativo(localizado(restaurante(1L, "Pizza Mania", "Italiana", 4.5), LATITUDE, LONGITUDE + 0.01))));
+        service.atualizar(evento(localizado(restaurante(2L, "Sushi House", "Japonesa", 4.8), null, null)));
+
+        assertThat(service.buscar(LATITUDE, LONGITUDE, null, null, null, null)).isEmpty();
+
+        service.atualizar(evento(localizado(restaurante(3L, "Sem Coordenadas", "Italiana", 5.0), LATITUDE, LONGITUDE)));
+        assertThat(service.buscar(LATITUDE, LONGITUDE, null, null, null, null))
+            .extracting(RestauranteProximoDTO::id).containsExactly(3L);
+
+        service.atualizar(remocao(3L));
+        assertThat(service.buscar(LATITUDE, LONGITUDE, null, null, null, null)).isEmpty();
+    }
+}
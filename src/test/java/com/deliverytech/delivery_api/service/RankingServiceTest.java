@@ -0,0 +1,230 @@
+package com.deliverytech.delivery_api.service;
+
+import static com.deliverytech.delivery_api.service.CatalogoTeste.evento;
+import static com.deliverytech.delivery_api.service.CatalogoTeste.inativo;
+import static com.deliverytech.delivery_api.service.CatalogoTeste.remocao;
+import static com.deliverytech.delivery_api.service.CatalogoTeste.restaurante;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.deliverytech.delivery_api.dto.EventoPedidoDTO;
+import com.deliverytech.delivery_api.dto.RestauranteRankingDTO;
+import com.deliverytech.delivery_api.dto.VendasRestauranteDTO;
+import com.deliverytech.delivery_api.entity.Pedido.StatusPedido;
+import com.deliverytech.delivery_api.entity.Restaurante;
+import com.deliverytech.delivery_api.repository.RestauranteRepository;
+import com.deliverytech.delivery_api.repository.VendaHorariaRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Testes para RankingService: ordem por avaliação e por pontuação, troca de categoria,
+ * contagem de pedidos entregues pelos eventos e pela releitura das vendas, e leituras
+ * concorrentes com as escritas.
+ */
+@DisplayName("Testes do RankingService")
+class RankingServiceTest {
+
+    private static final double PESO_VENDAS = 0.5;
+
+    private final RestauranteRepository restauranteRepository = mock(RestauranteRepository.class);
+    private final VendaHorariaRepository vendaHorariaRepository = mock(VendaHorariaRepository.class);
+    private RankingService service;
+
+    @BeforeEach
+    void setUp() {
+        vendas();
+        when(restauranteRepository.findAll()).thenReturn(List.of());
+        service = new RankingService(restauranteRepository, vendaHorariaRepository, new SimpleMeterRegistry(),
+            Duration.ofHours(24), PESO_VENDAS);
+    }
+
+    @Test
+    @DisplayName("Deve ordenar os ativos pela avaliação, desempatando pelo menor ID")
+    void deveOrdenarPorAvaliacao() {
+        when(restauranteRepository.findAll()).thenReturn(List.of(
+            restaurante(3L, "Burger King", "Lanches", 4.5),
+            restaurante(1L, "Pizza Mania", "Italiana", 4.5),
+            restaurante(2L, "Sushi House", "Japonesa", 4.8),
+            inativo(restaurante(4L, "Fechado", "Italiana", 5.0))));
+
+        service.carregar();
+
+        assertThat(service.ordenadosPorAvaliacao()).extracting(Restaurante::getId).containsExactly(2L, 1L, 3L);
+    }
+
+    @Test
+    @DisplayName("Deve somar à avaliação o peso das vendas da janela e limitar a quantidade")
+    void deveOrdenarPorPontuacao() {
+        vendas(new VendasRestauranteDTO(1L, 6L));
+        when(restauranteRepository.findAll()).thenReturn(List.of(
+            restaurante(1L, "Pizza Mania", "Italiana", 4.0),
+            restaurante(2L, "Sushi House", "Japonesa", 4.5),
+            restaurante(3L, "Burger King", "Lanches", 3.0)));
+
+        service.carregar();
+
+        assertThat(service.buscar(null, null))
+            .extracting(RestauranteRankingDTO::id, RestauranteRankingDTO::pedidosRecentes, RestauranteRankingDTO::pontuacao)
+            .containsExactly(tuple(1L, 6L, 4.973), tuple(2L, 0L, 4.5), tuple(3L, 0L, 3.0));
+        assertThat(service.buscar(null, 2)).extracting(RestauranteRankingDTO::id).containsExactly(1L, 2L);
+        assertThat(service.buscar(null, 0)).hasSize(3);
+        assertThat(service.buscar("Inexistente", null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve substituir a posição quando a chave de ordenação não muda")
+    void deveSubstituirPosicaoComMesmaChave() {
+        service.atualizarRestaurante(evento(restaurante(1L, "Pizza Mania", "Italiana", 4.5)));
+        service.atualizarRestaurante(evento(restaurante(2L, "Sushi House", "Japonesa", 4.0)));
+
+        service.atualizarRestaurante(evento(restaurante(1L, "Pizza Mania Express", "Italiana", 4.5)));
+
+        assertThat(service.buscar(null, null)).extracting(RestauranteRankingDTO::nome)
+            .containsExactly("Pizza Mania Express", "Sushi House");
+        assertThat(service.buscar("italiana", null)).extracting(RestauranteRankingDTO::nome)
+            .containsExactly("Pizza Mania Express");
+        assertThat(service.ordenadosPorAvaliacao()).extracting(Restaurante::getNome)
+            .containsExactly("Pizza Mania Express", "Sushi House");
+    }
+
+    @Test
+    @DisplayName("Deve mover o restaurante de categoria e retirar os desativados e removidos")
+    void deveMoverDeCategoria() {
+        service.atualizarRestaurante(evento(restaurante(1L, "Pizza Mania", "Italiana", 4.5)));
+        service.atualizarRestaurante(evento(restaurante(2L, "Cantina", "Italiana", 4.0)));
+
+        service.atualizarRestaurante(evento(restaurante(1L, "Pizza Mania", "Japonesa", 4.5)));
+
+        assertThat(service.buscar("ITALIANA", null)).extracting(RestauranteRankingDTO::id).containsExactly(2L);
+        assertThat(service.buscar("japonesa", null)).extracting(RestauranteRankingDTO::id).containsExactly(1L);
+
+        service.atualizarRestaurante(evento(inativo(restaurante(2L, "Cantina", "Italiana", 4.0))));
+        service.atualizarRestaurante(remocao(1L));
+
+        assertThat(service.buscar("italiana", null)).isEmpty();
+        assertThat(service.buscar("japonesa", null)).isEmpty();
+        assertThat(service.buscar(null, null)).isEmpty();
+        assertThat(service.ordenadosPorAvaliacao()).isEmpty();
+
+        // A categoria esvaziada volta a ser criada por um novo restaurante
+        service.atualizarRestaurante(evento(restaurante(3L, "Trattoria", "Italiana", 3.5)));
+        assertThat(service.buscar("italiana", null)).extracting(RestauranteRankingDTO::id).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("Deve contar apenas a primeira chegada do pedido a ENTREGUE")
+    void deveContarSoPrimeiraEntrega() {
+        service.atualizarRestaurante(evento(restaurante(1L, "Pizza Mania", "Italiana", 4.0)));
+        service.atualizarRestaurante(evento(restaurante(2L, "Sushi House", "Japonesa", 4.5)));
+
+        service.atualizarPedido(pedido(1L, StatusPedido.EM_PREPARACAO, StatusPedido.CONFIRMADO));
+        service.atualizarPedido(pedido(1L, StatusPedido.CANCELADO, StatusPedido.PENDENTE));
+        assertThat(service.buscar(null, null)).extracting(RestauranteRankingDTO::id).containsExactly(2L, 1L);
+
+        for (int i = 0; i < 6; i++) {
+            service.atualizarPedido(pedido(1L, StatusPedido.ENTREGUE, StatusPedido.SAIU_PARA_ENTREGA));
+        }
+        // Evento repetido de um pedido que já estava entregue
+        service.atualizarPedido(pedido(1L, StatusPedido.ENTREGUE, StatusPedido.ENTREGUE));
+
+        assertThat(service.buscar(null, null))
+            .extracting(RestauranteRankingDTO::id, RestauranteRankingDTO::pedidosRecentes)
+            .containsExactly(tuple(1L, 6L), tuple(2L, 0L));
+        // Pedido de restaurante fora do ranking: contado, sem criar posição
+        service.atualizarPedido(pedido(9L, StatusPedido.ENTREGUE, StatusPedido.SAIU_PARA_ENTREGA));
+        assertThat(service.buscar(null, null)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Deve reposicionar na releitura das vendas só os restaurantes cuja contagem mudou")
+    void deveReposicionarSoContagensAlteradas() {
+        Restaurante pizza = restaurante(1L, "Pizza Mania", "Italiana", 4.0);
+        Restaurante sushi = restaurante(2L, "Sushi House", "Japonesa", 4.0);
+        Restaurante burger = restaurante(3L, "Burger King", "Lanches", 4.0);
+        vendas(new VendasRestauranteDTO(1L, 2L), new VendasRestauranteDTO(3L, 1L));
+        when(restauranteRepository.findAll()).thenReturn(List.of(pizza, sushi, burger));
+        service.carregar();
+
+        // Alteração que só aparece se o restaurante for reposicionado
+        pizza.setAvaliacao(1.0);
+        sushi.setAvaliacao(1.0);
+        burger.setAvaliacao(1.0);
+        // Pizza mantém 2; Sushi passa a ter 3; Burger saiu da janela
+        vendas(new VendasRestauranteDTO(1L, 2L), new VendasRestauranteDTO(2L, 3L));
+
+        service.atualizarVendas();
+
+        assertThat(service.buscar(null, null))
+            .extracting(RestauranteRankingDTO::id, RestauranteRankingDTO::pedidosRecentes, RestauranteRankingDTO::pontuacao)
+            .containsExactly(tuple(1L, 2L, 4.549), tuple(2L, 3L, 1.693), tuple(3L, 0L, 1.0));
+    }
+
+    @Test
+    @DisplayName("Não deve repetir restaurantes em leituras concorrentes com as atualizações")
+    void naoDeveRepetirEmLeiturasConcorrentes() throws Exception {
+        for (long id = 1; id <= 20; id++) {
+            service.atualizarRestaurante(evento(restaurante(id, "Restaurante " + id, "Italiana", 3.0)));
+        }
+
+        AtomicBoolean parar = new AtomicBoolean();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> escritor = executor.submit(() -> {
+                // A cada volta a avaliação muda: a nova posição entra antes de a anterior sair
+                for (int i = 0; i < 20_000; i++) {
+                    long id = i % 20 + 1;
+                    double avaliacao = (i / 20) % 2 == 0 ? 4.9 : 3.0;
+                    service.atualizarRestaurante(evento(restaurante(id, "Restaurante " + id, "Italiana", avaliacao)));
+                }
+                parar.set(true);
+            });
+            Future<List<String>> leitor = executor.submit(() -> {
+                List<String> repetidos = new ArrayList<>();
+                while (!parar.get()) {
+                    List<Long> ids = service.buscar("italiana", RankingService.LIMITE_MAXIMO).stream()
+                        .map(RestauranteRankingDTO::id).toList();
+                    if (ids.stream().distinct().count() != ids.size()) {
+                        repetidos.add(ids.toString());
+                    }
+                }
+                return repetidos;
+            });
+
+            escritor.get(60, TimeUnit.SECONDS);
+            assertThat(leitor.get(60, TimeUnit.SECONDS)).isEmpty();
+        } finally {
+            parar.set(true);
+            executor.shutdownNow();
+        }
+    }
+
+    private void vendas(VendasRestauranteDTO... vendas) {
+        when(vendaHorariaRepository.somarQuantidadePorRestaurante(any(LocalDateTime.class), eq(StatusPedido.ENTREGUE)))
+            .thenReturn(List.of(vendas));
+    }
+
+    private static EventoPedidoDTO pedido(Long restauranteId, StatusPedido status, StatusPedido statusAnterior) {
+        return new EventoPedidoDTO(100L, 1L, restauranteId, LocalDateTime.now(), new BigDecimal("50.00"),
+            status, statusAnterior, 1L, LocalDateTime.now());
+    }
+}
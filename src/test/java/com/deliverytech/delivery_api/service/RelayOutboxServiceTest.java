@@ -0,0 +1,131 @@
+package com.deliverytech.delivery_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.deliverytech.delivery_api.entity.EventoOutbox;
+import com.deliverytech.delivery_api.repository.EventoOutboxRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Testes para RelayOutboxService com um destino em memória: lotes em ordem de ID, remoção
+ * das linhas publicadas, máximo de lotes por execução, falha do destino e métricas.
+ * O relay agendado está desligado nos testes (config/application.properties).
+ */
+@SpringBootTest
+@DisplayName("Testes do RelayOutboxService")
+class RelayOutboxServiceTest {
+
+    private static final int TAMANHO_LOTE = 2;
+    private static final int MAXIMO_LOTES = 3;
+
+    @Autowired
+    private EventoOutboxRepository eventoOutboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final DestinoMemoria destino = new DestinoMemoria();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RelayOutboxService relay;
+
+    @BeforeEach
+    void setUp() {
+        // Eventos deixados pelos pedidos de outros testes
+        eventoOutboxRepository.deleteAllInBatch();
+        relay = new RelayOutboxService(eventoOutboxRepository, destino, transactionManager,
+            TAMANHO_LOTE, MAXIMO_LOTES, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Deve publicar em lotes na ordem de ID e remover os eventos publicados")
+    void devePublicarEmLotesERemover() {
+        List<Long> ids = gravar(5);
+
+        relay.publicarPendentes();
+
+        assertThat(destino.lotes).extracting(List::size).containsExactly(2, 2, 1);
+        assertThat(destino.lotes.stream().flatMap(List::stream).toList()).isEqualTo(ids);
+        assertThat(eventoOutboxRepository.count()).isZero();
+        assertThat(meterRegistry.get("delivery.outbox.publicados").counter().count()).isEqualTo(5);
+        assertThat(meterRegistry.get("delivery.outbox.pendentes").gauge().value()).isZero();
+        assertThat(meterRegistry.get("delivery.outbox.atraso.maximo").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve parar no máximo de lotes por execução e medir o que sobrou")
+    void devePararNoMaximoDeLotes() {
+        List<Long> ids = gravar(7);
+
+        relay.publicarPendentes();
+
+        assertThat(destino.lotes).hasSize(MAXIMO_LOTES);
+        assertThat(eventoOutboxRepository.findAll()).extracting(EventoOutbox::getId).containsExactly(ids.get(6));
+        assertThat(relay.getPendentes()).isEqualTo(1);
+        assertThat(relay.getAtrasoMaximoSegundos()).isGreaterThanOrEqualTo(60.0);
+
+        relay.publicarPendentes();
+
+        assertThat(destino.lotes.get(MAXIMO_LOTES)).containsExactly(ids.get(6));
+        assertThat(relay.getPendentes()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve manter o lote no outbox quando o destino falha e publicá-lo na execução seguinte")
+    void deveRepetirLoteQuandoDestinoFalha() {
+        List<Long> ids = gravar(3);
+        destino.falhasRestantes = 1;
+
+        relay.publicarPendentes();
+
+        assertThat(destino.lotes).isEmpty();
+        assertThat(eventoOutboxRepository.count()).isEqualTo(3);
+        assertThat(meterRegistry.get("delivery.outbox.falhas").counter().count()).isEqualTo(1);
+        assertThat(relay.getPendentes()).isEqualTo(3);
+
+        relay.publicarPendentes();
+
+        assertThat(destino.lotes.stream().flatMap(List::stream).toList()).isEqualTo(ids);
+        assertThat(eventoOutboxRepository.count()).isZero();
+        assertThat(relay.getPendentes()).isZero();
+    }
+
+    // Eventos criados há dez minutos, para o atraso máximo ser mensurável
+    private List<Long> gravar(int quantidade) {
+        LocalDateTime criacao = LocalDateTime.now().minusMinutes(10);
+        return LongStream.rangeClosed(1, quantidade)
+            .mapToObj(pedidoId -> eventoOutboxRepository.save(new EventoOutbox(EventoOutbox.PEDIDO_CRIADO, pedidoId,
+                "{\"pedidoId\":" + pedidoId + "}", criacao)).getId())
+            .toList();
+    }
+
+    // Guarda os IDs de cada lote publicado; lança IOException enquanto houver falhas programadas
+    private static final class DestinoMemoria implements DestinoEventos {
+
+        private final List<List<Long>> lotes = new ArrayList<>();
+        private int falhasRestantes;
+
+        @Override
+        public void publicar(List<EventoOutbox> eventos) throws IOException {
+            if (falhasRestantes > 0) {
+                falhasRestantes--;
+                throw new IOException("Destino indisponível");
+            }
+            lotes.add(eventos.stream().map(EventoOutbox::getId).toList());
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.deliverytech.delivery_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import com.deliverytech.delivery_api.service.RespostasSerializadas.Listagem;
+import com.deliverytech.delivery_api.service.RespostasSerializadas.RespostaSerializada;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Testes para RespostasSerializadas: chaves por consulta e versão, geração das listagens,
+ * limite de compressão e limite de tamanho.
+ */
+@DisplayName("Testes do RespostasSerializadas")
+class RespostasSerializadasTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Deve serializar uma vez por consulta e versão")
+    void deveSerializarUmaVezPorConsultaEVersao() {
+        RespostasSerializadas respostas = novasRespostas(DataSize.ofMegabytes(1), DataSize.ofKilobytes(1));
+        AtomicInteger serializacoes = new AtomicInteger();
+
+        RespostaSerializada primeira = respostas.obter("restaurantes/1", 1, () -> corpo(serializacoes, "v1"));
+        RespostaSerializada repetida = respostas.obter("restaurantes/1", 1, () -> corpo(serializacoes, "outro"));
+        RespostaSerializada novaVersao = respostas.obter("restaurantes/1", 2, () -> corpo(serializacoes, "v2"));
+        respostas.obter("restaurantes/2", 1, () -> corpo(serializacoes, "v1"));
+
+        assertThat(repetida).isSameAs(primeira);
+        assertThat(new String(primeira.json())).isEqualTo("{\"nome\":\"v1\"}");
+        assertThat(new String(novaVersao.json())).isEqualTo("{\"nome\":\"v2\"}");
+        assertThat(serializacoes).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("Deve montar a consulta omitindo parâmetros ausentes e codificando os valores")
+    void deveMontarConsultaSemColisoes() {
+        assertThat(RespostasSerializadas.consulta("restaurantes", "categoria", null)).isEqualTo("restaurantes");
+        assertThat(RespostasSerializadas.consulta("restaurantes", "categoria", "null")).isEqualTo("restaurantes?categoria=null");
+        assertThat(RespostasSerializadas.consulta("restaurantes", "abertoAgora", true, "minuto", 630, "categoria", null))
+            .isEqualTo("restaurantes?abertoAgora=true&minuto=630");
+        assertThat(RespostasSerializadas.consulta("restaurantes", "categoria", "Café & Bar"))
+            .isEqualTo("restaurantes?categoria=Caf%C3%A9+%26+Bar");
+
+        // Um valor com "&" não reproduz a chave de dois parâmetros
+        assertThat(RespostasSerializadas.consulta("produtos", "categoria", "Pizza&disponivel=true"))
+            .isNotEqualTo(RespostasSerializadas.consulta("produtos", "categoria", "Pizza", "disponivel", true));
+    }
+
+    @Test
+    @DisplayName("Deve avançar a geração da listagem só após o commit da transação")
+    void deveAvancarGeracaoAposCommit() {
+        RespostasSerializadas respostas = novasRespostas(DataSize.ofMegabytes(1), DataSize.ofKilobytes(1));
+
+        respostas.invalidarAposCommit(Listagem.PRODUTOS);
+        assertThat(respostas.geracao(Listagem.PRODUTOS)).isEqualTo(1);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            respostas.invalidarAposCommit(Listagem.RESTAURANTES);
+            assertThat(respostas.geracao(Listagem.RESTAURANTES)).isZero();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(respostas.geracao(Listagem.RESTAURANTES)).isEqualTo(1);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(respostas.geracao(Listagem.PRODUTOS)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve comprimir apenas respostas a partir do tamanho mínimo")
+    void deveComprimirApenasAcimaDoMinimo() throws IOException {
+        RespostasSerializadas respostas = novasRespostas(DataSize.ofMegabytes(1), DataSize.ofBytes(100));
+
+        RespostaSerializada pequena = respostas.obter("pequena", 1, () -> Map.of("nome", "x"));
+        RespostaSerializada grande = respostas.obter("grande", 1, () -> Map.of("nome", "x".repeat(500)));
+
+        assertThat(pequena.gzip()).isNull();
+        assertThat(grande.gzip()).isNotNull().hasSizeLessThan(grande.json().length);
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(grande.gzip()))) {
+            assertThat(gzip.readAllBytes()).isEqualTo(grande.json());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve descartar respostas quando a soma dos tamanhos passa do máximo")
+    void deveRespeitarTamanhoMaximo() throws InterruptedException {
+        RespostasSerializadas respostas = novasRespostas(DataSize.ofKilobytes(2), DataSize.ofMegabytes(1));
+
+        for (int i = 0; i < 10; i++) {
+            respostas.obter("restaurantes/" + i, 1, () -> Map.of("nome", "x".repeat(500)));
+        }
+
+        // A remoção por tamanho é feita em segundo plano pelo Caffeine
+        long limite = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (tamanhoCache() > 4 && System.nanoTime() < limite) {
+            Thread.sleep(10);
+        }
+        assertThat(tamanhoCache()).isLessThanOrEqualTo(4);
+        assertThat(meterRegistry.get("cache.evictions").tag("cache", "respostas").functionCounter().count())
+            .isGreaterThanOrEqualTo(6);
+    }
+
+    private RespostasSerializadas novasRespostas(DataSize maximoTamanho, DataSize gzipMinimo) {
+        return new RespostasSerializadas(new ObjectMapper(), meterRegistry, maximoTamanho, Duration.ofMinutes(1),
+            gzipMinimo);
+    }
+
+    private double tamanhoCache() {
+        return meterRegistry.get("cache.size").tag("cache", "respostas").gauge().value();
+    }
+
+    private static Map<String, String> corpo(AtomicInteger serializacoes, String nome) {
+        serializacoes.incrementAndGet();
+        return Map.of("nome", nome);
+    }
+}
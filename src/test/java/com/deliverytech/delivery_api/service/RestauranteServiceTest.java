@@ -0,0 +1,146 @@
+package com.deliverytech.delivery_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.deliverytech.delivery_api.entity.Restaurante;
+import com.deliverytech.delivery_api.repository.RestauranteRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Testes do cache de leitura de RestauranteService.buscarPorId: cópias por chamada,
+ * remoção só após o commit, métricas de acerto e descarte de versões anteriores do catálogo.
+ */
+@SpringBootTest
+@DisplayName("Testes do cache do RestauranteService")
+class RestauranteServiceTest {
+
+    @Autowired
+    private RestauranteService restauranteService;
+
+    @Autowired
+    private RestauranteRepository restauranteRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Deve servir a segunda leitura do cache e registrar o acerto nas métricas")
+    void deveServirSegundaLeituraDoCache() {
+        Restaurante restaurante = salvar("Cache Acerto");
+        double acertosAntes = acertos();
+
+        restauranteService.buscarPorId(restaurante.getId());
+        // Alteração direta no banco, sem passar pelo service: a leitura seguinte vem do cache
+        restauranteRepository.save(renomeado(restaurante, "Fora do Cache"));
+
+        assertThat(restauranteService.buscarPorId(restaurante.getId()).getNome()).isEqualTo("Cache Acerto");
+        assertThat(acertos()).isEqualTo(acertosAntes + 1);
+    }
+
+    @Test
+    @DisplayName("Deve entregar uma cópia por chamada, que alterada não afeta o cache")
+    void deveEntregarCopiaPorChamada() {
+        Restaurante restaurante = salvar("Cache Copia");
+
+        Restaurante primeira = restauranteService.buscarPorId(restaurante.getId());
+        primeira.setNome("Alterado pelo Chamador");
+        Restaurante segunda = restauranteService.buscarPorId(restaurante.getId());
+
+        assertThat(segunda).isNotSameAs(primeira);
+        assertThat(segunda.getNome()).isEqualTo("Cache Copia");
+        assertThat(cache().get(restaurante.getId(), Restaurante.class)).isNotSameAs(segunda);
+    }
+
+    @Test
+    @DisplayName("Deve remover do cache só após o commit da atualização")
+    void deveRemoverDoCacheAposCommit() {
+        Restaurante restaurante = salvar("Cache Commit");
+        restauranteService.buscarPorId(restaurante.getId());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            restauranteService.atualizar(restaurante.getId(), renomeado(restaurante, "Cache Commit Novo"));
+            assertThat(cache().get(restaurante.getId())).isNotNull();
+        });
+
+        assertThat(cache().get(restaurante.getId())).isNull();
+        assertThat(restauranteService.buscarPorId(restaurante.getId()).getNome()).isEqualTo("Cache Commit Novo");
+    }
+
+    @Test
+    @DisplayName("Deve manter o cache quando a atualização é desfeita")
+    void deveManterCacheQuandoAtualizacaoEDesfeita() {
+        Restaurante restaurante = salvar("Cache Rollback");
+        restauranteService.buscarPorId(restaurante.getId());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            restauranteService.atualizar(restaurante.getId(), renomeado(restaurante, "Cache Rollback Novo"));
+            status.setRollbackOnly();
+        });
+
+        assertThat(cache().get(restaurante.getId())).isNotNull();
+        assertThat(restauranteService.buscarPorId(restaurante.getId()).getNome()).isEqualTo("Cache Rollback");
+    }
+
+    @Test
+    @DisplayName("Não deve colocar no cache o que foi lido dentro de uma transação desfeita")
+    void naoDeveColocarNoCacheLeituraDeTransacaoDesfeita() {
+        Restaurante restaurante = salvar("Cache Leitura Desfeita");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            restauranteService.atualizar(restaurante.getId(), renomeado(restaurante, "Nunca Confirmado"));
+            restauranteService.buscarPorId(restaurante.getId());
+            status.setRollbackOnly();
+        });
+
+        assertThat(cache().get(restaurante.getId())).isNull();
+        assertThat(restauranteService.buscarPorId(restaurante.getId()).getNome()).isEqualTo("Cache Leitura Desfeita");
+    }
+
+    @Test
+    @DisplayName("Deve descartar a cópia em cache com versão do catálogo anterior à do banco")
+    void deveDescartarCopiaComVersaoAnterior() {
+        Restaurante restaurante = salvar("Cache Versao");
+        restauranteService.buscarPorId(restaurante.getId());
+        // Alteração cuja remoção do cache veio antes do put de uma leitura concorrente
+        transactionTemplate.executeWithoutResult(status ->
+            restauranteRepository.incrementarVersaoCatalogo(restaurante.getId()));
+
+        assertThat(restauranteService.buscarPorId(restaurante.getId()).getVersaoCatalogo()).isZero();
+        assertThat(restauranteService.buscarPorIdNaVersaoAtual(restaurante.getId()).getVersaoCatalogo()).isEqualTo(1);
+        assertThat(cache().get(restaurante.getId())).isNull();
+    }
+
+    private Restaurante salvar(String nome) {
+        return restauranteRepository.save(new Restaurante(nome, "Italiana", "Rua do Cache, 10", "11990000000"));
+    }
+
+    private Restaurante renomeado(Restaurante origem, String nome) {
+        Restaurante restaurante = new Restaurante(nome, origem.getCategoria(), origem.getEndereco(), origem.getTelefone());
+        restaurante.setId(origem.getId());
+        return restaurante;
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache("restaurantes");
+    }
+
+    private double acertos() {
+        return meterRegistry.get("cache.gets").tag("cache", "restaurantes").tag("result", "hit")
+            .functionCounter().count();
+    }
+}
@@ -0,0 +1,150 @@
+package com.deliverytech.delivery_api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes para TrieSugestoes: comparação com uma busca por força bruta em inclusões e
+ * remoções aleatórias, prefixo vazio, prefixo inexistente e limite acima de k.
+ */
+@DisplayName("Testes do TrieSugestoes")
+class TrieSugestoesTest {
+
+    private static final int K = 3;
+
+    private final TrieSugestoes<Integer> trie = new TrieSugestoes<>(K, Comparator.reverseOrder());
+
+    @Test
+    @DisplayName("Deve devolver o mesmo que a força bruta após inclusões e remoções aleatórias")
+    void deveIgualarForcaBruta() {
+        // Alfabeto pequeno e chaves curtas: muitas divisões e junções de arestas
+        Random random = new Random(42);
+        Map<String, Set<Integer>> esperado = new HashMap<>();
+        List<String> prefixos = new ArrayList<>();
+        for (int tamanho = 0; tamanho <= 4; tamanho++) {
+            prefixos.addAll(chaves(tamanho));
+        }
+
+        for (int passo = 0; passo < 3000; passo++) {
+            String chave = chaveAleatoria(random);
+            int valor = random.nextInt(20);
+            if (random.nextInt(3) == 0) {
+                trie.remover(chave, valor);
+                esperado.computeIfPresent(chave, (c, valores) -> {
+                    valores.remove(valor);
+                    return valores.isEmpty() ? null : valores;
+                });
+            } else {
+                trie.incluir(chave, valor);
+                esperado.computeIfAbsent(chave, c -> new HashSet<>()).add(valor);
+            }
+
+            if (passo % 50 == 0) {
+                for (String prefixo : prefixos) {
+                    assertThat(trie.buscar(prefixo, K)).as("prefixo '%s' no passo %d", prefixo, passo)
+                        .isEqualTo(forcaBruta(esperado, prefixo, K));
+                }
+            }
+        }
+
+        // Removendo tudo, a trie volta a ficar vazia
+        esperado.forEach((chave, valores) -> valores.forEach(valor -> trie.remover(chave, valor)));
+        assertThat(trie.buscar("", K)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve devolver os melhores de toda a trie para o prefixo vazio")
+    void deveBuscarComPrefixoVazio() {
+        assertThat(trie.buscar("", K)).isEmpty();
+
+        trie.incluir("pizza", 5);
+        trie.incluir("pastel", 9);
+        trie.incluir("sushi", 7);
+        trie.incluir("", 1);
+        trie.incluir("pizzaria", 8);
+
+        assertThat(trie.buscar("", K)).containsExactly(9, 8, 7);
+        assertThat(trie.buscar("", 1)).containsExactly(9);
+    }
+
+    @Test
+    @DisplayName("Deve devolver lista vazia para prefixo inexistente, inclusive no meio de uma aresta")
+    void deveDevolverVazioParaPrefixoInexistente() {
+        trie.incluir("pizzaria", 8);
+        trie.incluir("pizza", 5);
+
+        assertThat(trie.buscar("sushi", K)).isEmpty();
+        assertThat(trie.buscar("pa", K)).isEmpty();
+        assertThat(trie.buscar("pizzax", K)).isEmpty();
+        assertThat(trie.buscar("pizzariax", K)).isEmpty();
+        assertThat(trie.buscar("pizzar", K)).containsExactly(8);
+        assertThat(trie.buscar("piz", K)).containsExactly(8, 5);
+
+        // Remover o que não existe não altera a trie
+        trie.remover("pizz", 8);
+        trie.remover("pizza", 9);
+        trie.remover("sushi", 1);
+        assertThat(trie.buscar("p", K)).containsExactly(8, 5);
+    }
+
+    @Test
+    @DisplayName("Deve limitar a k valores mesmo quando o limite pedido é maior")
+    void deveLimitarAK() {
+        for (int valor = 1; valor <= 10; valor++) {
+            trie.incluir("pizza " + valor, valor);
+        }
+        // O mesmo valor em outra chave conta uma única vez
+        trie.incluir("pizzaria", 10);
+
+        assertThat(trie.buscar("pizza", 100)).containsExactly(10, 9, 8);
+        assertThat(trie.buscar("pizza 1", 100)).containsExactly(10, 1);
+
+        trie.remover("pizza 10", 10);
+        assertThat(trie.buscar("pizza", 100)).containsExactly(10, 9, 8);
+        trie.remover("pizzaria", 10);
+        assertThat(trie.buscar("pizza", 100)).containsExactly(9, 8, 7);
+    }
+
+    private static List<Integer> forcaBruta(Map<String, Set<Integer>> valores, String prefixo, int limite) {
+        return valores.entrySet().stream()
+            .filter(entrada -> entrada.getKey().startsWith(prefixo))
+            .flatMap(entrada -> entrada.getValue().stream())
+            .distinct()
+            .sorted(Comparator.reverseOrder())
+            .limit(limite)
+            .toList();
+    }
+
+    private static String chaveAleatoria(Random random) {
+        StringBuilder chave = new StringBuilder();
+        int tamanho = random.nextInt(6);
+        for (int i = 0; i < tamanho; i++) {
+            chave.append((char) ('a' + random.nextInt(3)));
+        }
+        return chave.toString();
+    }
+
+    private static List<String> chaves(int tamanho) {
+        if (tamanho == 0) {
+            return List.of("");
+        }
+        List<String> chaves = new ArrayList<>();
+        for (String anterior : chaves(tamanho - 1)) {
+            for (char c = 'a'; c <= 'c'; c++) {
+                chaves.add(anterior + c);
+            }
+        }
+        return chaves;
+    }
+}